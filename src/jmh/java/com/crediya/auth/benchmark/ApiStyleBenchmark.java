@@ -0,0 +1,195 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import com.crediya.auth.application.ports.in.UserPage;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.drivin.web.UserController;
+import com.crediya.auth.infrastructure.adapters.drivin.web.UserRouter;
+import com.crediya.auth.infrastructure.adapters.drivin.web.config.WebConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the annotated {@link UserController} with the functional {@link UserRouter} by dispatching requests
+ * in-process through the same WebFlux stack, without a network in between.
+ * The use case ports answer synchronously, so the average time is the CPU spent per request on dispatch, decoding,
+ * validation, error mapping and encoding; the sample mode shows the latency distribution (p50, p99, ...).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiStyleBenchmark {
+
+    private static final String CONFLICT_EMAIL = "taken@email.com";
+
+    @Param({"annotated", "functional"})
+    private String apiStyle;
+
+    private AnnotationConfigApplicationContext context;
+    private ValidatorFactory validatorFactory;
+    private HttpHandler httpHandler;
+    private String conflictJson;
+    private String invalidJson;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        User user = BenchmarkFixtures.user(BenchmarkFixtures.EMAIL, BenchmarkFixtures.BASE_SALARY);
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", Map.of("crediya.web.api-style", apiStyle)));
+        context.registerBean(Validator.class, validatorFactory::getValidator);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(ObjectMapper.class, BenchmarkFixtures::objectMapper);
+        context.registerBean(RegisterUserPort.class, () -> new StubRegisterUserPort(user));
+        context.registerBean(FindUserPort.class, () -> new StubFindUserPort(user));
+        context.register(WebFlux.class, WebConfiguration.class, UserController.class, UserRouter.class);
+        context.refresh();
+        httpHandler = WebHttpHandlerBuilder.applicationContext(context).build();
+
+        conflictJson = BenchmarkFixtures.REQUEST_JSON.replace(BenchmarkFixtures.EMAIL, CONFLICT_EMAIL);
+        invalidJson = BenchmarkFixtures.REQUEST_JSON.replace(BenchmarkFixtures.EMAIL, "not-an-email");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public HttpStatusCode registerCreated() {
+        return exchange(post(BenchmarkFixtures.REQUEST_JSON));
+    }
+
+    @Benchmark
+    public HttpStatusCode registerConflict() {
+        return exchange(post(conflictJson));
+    }
+
+    @Benchmark
+    public HttpStatusCode registerInvalid() {
+        return exchange(post(invalidJson));
+    }
+
+    @Benchmark
+    public HttpStatusCode findById() {
+        return exchange(MockServerHttpRequest.get("/api/v1/users/7").accept(MediaType.APPLICATION_JSON).build());
+    }
+
+    private static MockServerHttpRequest post(String json) {
+        return MockServerHttpRequest.post("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * Handles the request and waits until the response body has been written.
+     */
+    private HttpStatusCode exchange(MockServerHttpRequest request) {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        httpHandler.handle(request, response).block();
+        response.getBodyAsString().block();
+        return response.getStatusCode();
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class WebFlux {
+    }
+
+    /**
+     * Registers every user, except that {@link #CONFLICT_EMAIL} is always taken.
+     */
+    private static final class StubRegisterUserPort implements RegisterUserPort {
+
+        private final User user;
+
+        private StubRegisterUserPort(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public Mono<User> registerUser(RegisterUserCommand command) {
+            if (CONFLICT_EMAIL.equals(command.email())) {
+                return Mono.error(new EmailAlreadyExistsException("Email " + CONFLICT_EMAIL + " is already registered."));
+            }
+            return Mono.just(user);
+        }
+
+        @Override
+        public Flux<RegistrationResult> registerUsers(List<RegisterUserCommand> commands) {
+            return Flux.fromIterable(commands).map(command -> RegistrationResult.created(user));
+        }
+    }
+
+    private static final class StubFindUserPort implements FindUserPort {
+
+        private final User user;
+
+        private StubFindUserPort(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public Mono<User> findById(Long id) {
+            return Mono.just(user);
+        }
+
+        @Override
+        public Mono<User> findByEmail(String email) {
+            return Mono.just(user);
+        }
+
+        @Override
+        public Mono<UserPage> listUsers(Long after, int limit) {
+            return Mono.just(new UserPage(List.of(user), null));
+        }
+
+        @Override
+        public Flux<User> streamUsers(Long after) {
+            return Flux.just(user);
+        }
+    }
+}
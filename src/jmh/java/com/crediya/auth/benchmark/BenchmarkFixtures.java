@@ -0,0 +1,70 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sample data shared by the benchmarks, matching the payloads used in the README and the test suite.
+ */
+final class BenchmarkFixtures {
+
+    static final String EMAIL = "juan.perez@email.com";
+    static final BigDecimal BASE_SALARY = new BigDecimal("3000000");
+
+    static final String REQUEST_JSON = """
+            {
+              "firstName": "Juan",
+              "lastName": "Pérez",
+              "email": "juan.perez@email.com",
+              "identityNumber": "12345678",
+              "phoneNumber": "+573001234567",
+              "birthDate": "1990-05-15",
+              "address": "Calle 123 #45-67",
+              "baseSalary": 3000000,
+              "password": "S3cure-password"
+            }
+            """;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @return An ObjectMapper configured like the one Spring Boot provides to WebFlux.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static User user(String email, BigDecimal baseSalary) {
+        return User.newUser(
+                "Juan",
+                "Pérez",
+                email,
+                "12345678",
+                "+573001234567",
+                LocalDate.of(1990, 5, 15),
+                "Calle 123 #45-67",
+                "USER",
+                baseSalary
+        );
+    }
+
+    static UserRegistrationRequest request() {
+        return UserRegistrationRequest.builder()
+                .firstName("Juan")
+                .lastName("Pérez")
+                .email(EMAIL)
+                .identityNumber("12345678")
+                .phoneNumber("+573001234567")
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .address("Calle 123 #45-67")
+                .baseSalary(BASE_SALARY)
+                .password("S3cure-password")
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.crediya.auth.benchmark;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for the R2DBC connection pool: 16 concurrent callers run the registration email check against an
+ * in-memory H2 database through pools of different sizes.
+ * Run it with {@code -bm thrpt} for throughput or {@code -bm sample} for the latency distribution (p50, p99, ...).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(16)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private static final int STORED_USERS = 10_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int poolSize;
+
+    private ConnectionPool connectionPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///pool_benchmark_" + poolSize + ";DB_CLOSE_DELAY=-1");
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(poolSize)
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofSeconds(5))
+                .validationQuery("SELECT 1")
+                .build());
+        connectionPool.warmup().block();
+
+        Mono.usingWhen(connectionPool.create(),
+                        connection -> Flux.from(connection.createStatement("""
+                                        CREATE TABLE IF NOT EXISTS usuario (
+                                            id_usuario BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                            email VARCHAR(255) NOT NULL UNIQUE
+                                        )""").execute())
+                                .flatMap(result -> result.getRowsUpdated())
+                                .thenMany(Flux.range(0, STORED_USERS)
+                                        .concatMap(i -> Flux.from(connection.createStatement("INSERT INTO usuario (email) VALUES ($1)")
+                                                        .bind(0, "user" + i + "@example.com")
+                                                        .execute())
+                                                .flatMap(result -> result.getRowsUpdated())))
+                                .then(),
+                        Connection::close)
+                .block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionPool.disposeLater().block();
+    }
+
+    @Benchmark
+    public Boolean existsByEmail() {
+        String email = "user" + ThreadLocalRandom.current().nextInt(STORED_USERS * 2) + "@example.com";
+        return Mono.usingWhen(connectionPool.create(),
+                        connection -> Mono.from(connection
+                                        .createStatement("SELECT EXISTS(SELECT 1 FROM usuario WHERE email = $1)")
+                                        .bind(0, email)
+                                        .execute())
+                                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Boolean.class)))),
+                        Connection::close)
+                .block();
+    }
+}
@@ -0,0 +1,55 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.domain.validation.EmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass {@link EmailValidator} with the regular expression that the User model used before it.
+ * Run with {@code -prof gc} to compare allocations as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE
+    );
+
+    @Param({
+            "juan.perez@email.com",
+            "a.very.long.local.part.with.many.dots.and+tags@sub.domain.example.com",
+            "not-an-email@domain"
+    })
+    private String email;
+
+    @Benchmark
+    public boolean legacyPattern() {
+        return LEGACY_EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean singlePassValidator() {
+        return EmailValidator.isValid(email);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return EmailValidator.normalize(email);
+    }
+}
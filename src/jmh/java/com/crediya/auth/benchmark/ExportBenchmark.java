@@ -0,0 +1,103 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserPageReader;
+import com.crediya.auth.infrastructure.adapters.drivin.export.ExportFormat;
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExportResult;
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExporter;
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the throughput of the user export, in rows per second, over two million generated users written to a
+ * temporary directory. The users are generated page by page as the export asks for them, so the benchmark measures the
+ * encoding, compression and file writing rather than a database; run it with {@code -prof gc} to check that the
+ * allocation rate per row stays flat and nothing is retained.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx256m")
+public class ExportBenchmark {
+
+    private static final int ROWS = 2_000_000;
+
+    @Param({"CSV", "NDJSON"})
+    private ExportFormat format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private Path directory;
+    private UserExporter userExporter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("user-export-benchmark");
+        userExporter = new UserExporter(new GeneratedUsers(ROWS),
+                new UserExportProperties(directory, 1000, format, gzip, 6), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public UserExportResult export() {
+        return userExporter.export(format, gzip).block();
+    }
+
+    /**
+     * Serves keyset pages of users with consecutive identifiers, creating each page when it is requested.
+     */
+    private static final class GeneratedUsers implements UserPageReader {
+
+        private final long rows;
+
+        GeneratedUsers(long rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Flux<User> findPageAfter(Long afterId, int limit) {
+            long first = afterId == null ? 1 : afterId + 1;
+            long last = Math.min(first + limit - 1, rows);
+            return Flux.defer(() -> Flux.fromStream(Stream.iterate(first, id -> id <= last, id -> id + 1)
+                    .map(id -> BenchmarkFixtures.user("user" + id + "@email.com", BenchmarkFixtures.BASE_SALARY).withId(id))));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.codec.UserRegistrationRequestDecoder;
+import com.crediya.auth.infrastructure.adapters.drivin.web.codec.UserRegistrationResponseEncoder;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson (de)serialization of the registration DTOs, using the same ObjectMapper defaults as WebFlux,
+ * and the WebFlux codecs that read and write them: Jackson's databind codecs against the streaming registration codecs,
+ * both on pooled Netty buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(UserRegistrationRequest.class);
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(UserRegistrationResponse.class);
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private UserRegistrationResponse response;
+    private NettyDataBufferFactory bufferFactory;
+    private Jackson2JsonDecoder jacksonDecoder;
+    private Jackson2JsonEncoder jacksonEncoder;
+    private UserRegistrationRequestDecoder streamingDecoder;
+    private UserRegistrationResponseEncoder streamingEncoder;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        requestReader = objectMapper.readerFor(UserRegistrationRequest.class);
+        responseWriter = objectMapper.writerFor(UserRegistrationResponse.class);
+        requestJson = BenchmarkFixtures.REQUEST_JSON.getBytes(StandardCharsets.UTF_8);
+        response = UserRegistrationResponse.fromDomain(BenchmarkFixtures.user(BenchmarkFixtures.EMAIL, BenchmarkFixtures.BASE_SALARY));
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+        jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+        streamingDecoder = new UserRegistrationRequestDecoder(objectMapper);
+        streamingEncoder = new UserRegistrationResponseEncoder(objectMapper);
+    }
+
+    @Benchmark
+    public UserRegistrationRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decodeRequestWithJacksonCodec() {
+        return jacksonDecoder.decode(requestBuffer(), REQUEST_TYPE, MediaType.APPLICATION_JSON, null);
+    }
+
+    @Benchmark
+    public Object decodeRequestWithStreamingCodec() {
+        return streamingDecoder.decode(requestBuffer(), REQUEST_TYPE, MediaType.APPLICATION_JSON, null);
+    }
+
+    @Benchmark
+    public int encodeResponseWithJacksonCodec() {
+        return release(jacksonEncoder.encodeValue(response, bufferFactory, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    @Benchmark
+    public int encodeResponseWithStreamingCodec() {
+        return release(streamingEncoder.encodeValue(response, bufferFactory, RESPONSE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    /**
+     * The decoders release the buffer they are given, as WebFlux does with request bodies.
+     */
+    private DataBuffer requestBuffer() {
+        DataBuffer buffer = bufferFactory.allocateBuffer(requestJson.length);
+        buffer.write(requestJson);
+        return buffer;
+    }
+
+    private static int release(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
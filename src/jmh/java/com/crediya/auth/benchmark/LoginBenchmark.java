@@ -0,0 +1,141 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.application.ports.in.LoginCommand;
+import com.crediya.auth.application.service.LoginUseCase;
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.infrastructure.adapters.driven.security.BCryptPasswordHasher;
+import com.crediya.auth.infrastructure.adapters.driven.security.HmacTokenIssuer;
+import com.crediya.auth.infrastructure.adapters.driven.security.SigningKeyRing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for the login use case: 32 concurrent callers log in with a real BCrypt hasher running on a dedicated
+ * scheduler, across hash costs and hashing pool sizes.
+ * Throughput shows how many logins per second each combination sustains; the sample mode shows the latency
+ * distribution (p50, p99, ...) including the time spent waiting for a hashing thread.
+ * Change the number of concurrent callers with {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Threads(32)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "S3cure-password";
+
+    @Param({"8", "10", "12"})
+    private int hashCost;
+
+    @Param({"1", "4", "16"})
+    private int hashingThreads;
+
+    private Scheduler scheduler;
+    private LoginUseCase loginUseCase;
+    private LoginCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = Schedulers.newBoundedElastic(hashingThreads, 10_000, "password-hashing");
+        BCryptPasswordHasher passwordHasher = new BCryptPasswordHasher(hashCost, scheduler, new SimpleMeterRegistry());
+        SigningKeyRing keyRing = new SigningKeyRing("benchmark", "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII),
+                Duration.ofHours(1), Clock.systemUTC());
+        HmacTokenIssuer tokenIssuer = new HmacTokenIssuer("crediya-auth", Duration.ofHours(1), keyRing, BenchmarkFixtures.objectMapper(), Clock.systemUTC());
+
+        User user = BenchmarkFixtures.user(BenchmarkFixtures.EMAIL, BenchmarkFixtures.BASE_SALARY)
+                .withPasswordHash(passwordHasher.hash(PASSWORD).block());
+        loginUseCase = new LoginUseCase(new SingleUserRepository(user), passwordHasher, tokenIssuer);
+        command = new LoginCommand(BenchmarkFixtures.EMAIL, PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public AccessToken login() {
+        return loginUseCase.login(command).block();
+    }
+
+    /**
+     * A repository holding one user, so that the benchmark measures hashing and signing rather than the database.
+     */
+    private static final class SingleUserRepository implements UserRepository {
+
+        private final User user;
+
+        private SingleUserRepository(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public Mono<User> findByEmail(String email) {
+            return Mono.just(user);
+        }
+
+        @Override
+        public Mono<Boolean> existsByEmail(String email) {
+            return Mono.just(true);
+        }
+
+        @Override
+        public Flux<String> findExistingEmails(Collection<String> emails) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<User> findById(Long id) {
+            return Mono.just(user);
+        }
+
+        @Override
+        public Flux<User> findPageAfter(Long afterId, int limit) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<User> streamAfter(Long afterId) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<User> save(User user) {
+            return Mono.just(user);
+        }
+
+        @Override
+        public Flux<User> saveAll(List<User> users) {
+            return Flux.fromIterable(users);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapper;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapperImpl;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the object conversions on the registration path: the generated {@link UserMapper}
+ * and the request to command to domain user chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private User user;
+    private UserData userData;
+    private UserRegistrationRequest request;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user(BenchmarkFixtures.EMAIL, BenchmarkFixtures.BASE_SALARY);
+        userData = userMapper.toData(user);
+        userData.setId(1L);
+        request = BenchmarkFixtures.request();
+    }
+
+    @Benchmark
+    public UserData mapperToData() {
+        return userMapper.toData(user);
+    }
+
+    @Benchmark
+    public User mapperToDomain() {
+        return userMapper.toDomain(userData);
+    }
+
+    @Benchmark
+    public RegisterUserCommand requestToCommand() {
+        return request.toCommand();
+    }
+
+    @Benchmark
+    public User requestToDomainUser() {
+        return request.toCommand().toDomainUser();
+    }
+}
@@ -0,0 +1,55 @@
+package com.crediya.auth.benchmark;
+
+import com.crediya.auth.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation performed by the {@link User} constructor: the email format check and the salary range checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    @Param({
+            "juan.perez@email.com",
+            "a.very.long.local.part.with.many.dots.and+tags@sub.domain.example.com",
+            "not-an-email@domain"
+    })
+    private String email;
+
+    @Param({"0", "3000000", "15000000"})
+    private String baseSalary;
+
+    private BigDecimal salary;
+
+    @Setup
+    public void setUp() {
+        salary = new BigDecimal(baseSalary);
+    }
+
+    @Benchmark
+    public Object newUser() {
+        try {
+            return BenchmarkFixtures.user(email, salary);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.crediya.auth.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The outcome of a measured load test run. Latencies are in milliseconds.
+ *
+ * @param requests     The number of requests completed during the measurement.
+ * @param throughput   Completed requests per second.
+ * @param errorRatio   The share of requests answered with an unexpected status or a transport error.
+ * @param overall      The latency percentiles across every request.
+ * @param byKind       The latency percentiles per kind of request.
+ * @param statuses     The number of responses per status code.
+ */
+record LoadTestReport(
+        long requests,
+        double throughput,
+        double errorRatio,
+        Percentiles overall,
+        Map<RegistrationLoadGenerator.Kind, Percentiles> byKind,
+        Map<String, Long> statuses
+) {
+
+    record Percentiles(long count, double p50, double p99, double p999, double max) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    static LoadTestReport of(Histogram overall, Map<RegistrationLoadGenerator.Kind, Histogram> byKind,
+                             Map<String, LongAdder> statuses, long unexpected, long elapsedNanos) {
+        Map<RegistrationLoadGenerator.Kind, Percentiles> percentilesByKind = new TreeMap<>();
+        byKind.forEach((kind, histogram) -> percentilesByKind.put(kind, Percentiles.of(histogram)));
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        long requests = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new LoadTestReport(requests, requests / seconds, requests == 0 ? 0 : (double) unexpected / requests,
+                Percentiles.of(overall), percentilesByKind, statusCounts);
+    }
+
+    /**
+     * Checks the run against the thresholds of the settings.
+     *
+     * @return A description of every threshold that was exceeded; empty if the run passed.
+     */
+    List<String> violations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        if (requests == 0) {
+            violations.add("no requests completed");
+        }
+        check(violations, "p50", overall.p50(), settings.maxP50Millis());
+        check(violations, "p99", overall.p99(), settings.maxP99Millis());
+        check(violations, "p999", overall.p999(), settings.maxP999Millis());
+        if (throughput < settings.minThroughput()) {
+            violations.add(String.format("throughput %.1f req/s is below the minimum of %.1f req/s", throughput, settings.minThroughput()));
+        }
+        if (errorRatio > settings.maxErrorRatio()) {
+            violations.add(String.format("error ratio %.4f exceeds the maximum of %.4f (statuses: %s)", errorRatio, settings.maxErrorRatio(), statuses));
+        }
+        return violations;
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder()
+                .append(String.format("Requests: %d, throughput: %.1f req/s, error ratio: %.4f%n", requests, throughput, errorRatio))
+                .append(String.format("Statuses: %s%n", statuses))
+                .append(String.format("%-10s %8s %10s %10s %10s %10s%n", "kind", "count", "p50 ms", "p99 ms", "p999 ms", "max ms"))
+                .append(row("overall", overall));
+        byKind.forEach((kind, percentiles) -> summary.append(row(kind.name().toLowerCase(), percentiles)));
+        return summary.toString();
+    }
+
+    private static String row(String name, Percentiles percentiles) {
+        return String.format("%-10s %8d %10.2f %10.2f %10.2f %10.2f%n", name, percentiles.count(), percentiles.p50(),
+                percentiles.p99(), percentiles.p999(), percentiles.max());
+    }
+
+    private static void check(List<String> violations, String name, double value, double maximum) {
+        if (value > maximum) {
+            violations.add(String.format("%s latency %.2f ms exceeds the maximum of %.2f ms", name, value, maximum));
+        }
+    }
+}
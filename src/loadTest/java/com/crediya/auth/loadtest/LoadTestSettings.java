@@ -0,0 +1,54 @@
+package com.crediya.auth.loadtest;
+
+import java.time.Duration;
+
+/**
+ * The shape of a load test run and the latency and throughput it must achieve, read from {@code loadTest.*} system
+ * properties (the Gradle task forwards {@code -PloadTest.*} project properties).
+ *
+ * @param concurrency     The maximum number of requests in flight.
+ * @param rate            The target number of requests started per second, or 0 to send as fast as the concurrency allows.
+ * @param warmUp          How long to send load before measuring.
+ * @param duration        How long to measure.
+ * @param duplicateRatio  The share of requests that register an email that already exists (expected 409).
+ * @param invalidRatio    The share of requests with an invalid payload (expected 400).
+ * @param maxP50Millis    The highest acceptable median latency.
+ * @param maxP99Millis    The highest acceptable 99th percentile latency.
+ * @param maxP999Millis   The highest acceptable 99.9th percentile latency.
+ * @param minThroughput   The lowest acceptable number of completed requests per second.
+ * @param maxErrorRatio   The highest acceptable share of responses with an unexpected status or a transport error.
+ */
+record LoadTestSettings(
+        int concurrency,
+        int rate,
+        Duration warmUp,
+        Duration duration,
+        double duplicateRatio,
+        double invalidRatio,
+        double maxP50Millis,
+        double maxP99Millis,
+        double maxP999Millis,
+        double minThroughput,
+        double maxErrorRatio
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.concurrency", 64),
+                Integer.getInteger("loadTest.rate", 200),
+                Duration.parse("PT" + System.getProperty("loadTest.warmUp", "5s")),
+                Duration.parse("PT" + System.getProperty("loadTest.duration", "20s")),
+                doubleProperty("loadTest.duplicateRatio", 0.1),
+                doubleProperty("loadTest.invalidRatio", 0.1),
+                doubleProperty("loadTest.maxP50Millis", 100),
+                doubleProperty("loadTest.maxP99Millis", 500),
+                doubleProperty("loadTest.maxP999Millis", 1000),
+                doubleProperty("loadTest.minThroughput", 0),
+                doubleProperty("loadTest.maxErrorRatio", 0));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,181 @@
+package com.crediya.auth.loadtest;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives {@code POST /api/v1/users} with a mix of unique, duplicate and invalid registrations.
+ *
+ * With a target rate, requests are scheduled on a fixed timetable and latency is measured from the moment each
+ * request was due, not from when it was actually sent, so a slow server cannot hide its queueing delay by slowing the
+ * generator down (coordinated omission).
+ */
+final class RegistrationLoadGenerator {
+
+    private static final int SEED_USERS = 100;
+    private static final long TICKS_PER_SECOND = 100;
+    private static final String REQUEST_TEMPLATE = """
+            {"firstName":"Load","lastName":"Test","email":"%s","identityNumber":"12345678","phoneNumber":"+573001234567",\
+            "birthDate":"1990-05-15","address":"Calle 123 #45-67","baseSalary":3000000,"password":"S3cure-password"}""";
+    private static final String INVALID_REQUEST = """
+            {"firstName":"","lastName":"Test","email":"not-an-email","baseSalary":-1}""";
+
+    enum Kind {
+        UNIQUE(201), DUPLICATE(409), INVALID(400);
+
+        final int expectedStatus;
+
+        Kind(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    private final HttpClient client;
+    private final ConnectionProvider connectionProvider;
+    private final LoadTestSettings settings;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    RegistrationLoadGenerator(int port, LoadTestSettings settings) {
+        this.settings = settings;
+        this.connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(settings.concurrency())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(connectionProvider)
+                .baseUrl("http://localhost:" + port)
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    LoadTestReport run() {
+        try {
+            Flux.range(0, SEED_USERS)
+                    .flatMap(i -> send(seedEmail(i)), settings.concurrency())
+                    .blockLast();
+            drive(settings.warmUp(), new Measurements());
+            Measurements measurements = new Measurements();
+            long start = System.nanoTime();
+            drive(settings.duration(), measurements);
+            return measurements.report(System.nanoTime() - start);
+        } finally {
+            connectionProvider.disposeLater().block();
+        }
+    }
+
+    private void drive(Duration duration, Measurements measurements) {
+        if (duration.isZero()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long durationNanos = duration.toNanos();
+        Flux<Long> dueTimes = settings.rate() > 0
+                ? scheduled(start, durationNanos)
+                : Flux.<Long>generate(sink -> sink.next(System.nanoTime()))
+                .takeWhile(now -> now - start < durationNanos);
+
+        dueTimes.flatMap(due -> {
+                    Kind kind = pickKind();
+                    return request(kind)
+                            .doOnNext(status -> measurements.record(kind, status, System.nanoTime() - due))
+                            .onErrorResume(ex -> {
+                                measurements.transportError();
+                                return Mono.empty();
+                            });
+                }, settings.concurrency())
+                .blockLast();
+    }
+
+    /**
+     * Emits the moment each request is due: every tick starts the requests that fall within it.
+     */
+    private Flux<Long> scheduled(long start, long durationNanos) {
+        long tickNanos = TimeUnit.SECONDS.toNanos(1) / TICKS_PER_SECOND;
+        double perTick = (double) settings.rate() / TICKS_PER_SECOND;
+        return Flux.interval(Duration.ZERO, Duration.ofNanos(tickNanos))
+                .take(durationNanos / tickNanos)
+                .concatMap(tick -> {
+                    int count = (int) ((long) ((tick + 1) * perTick) - (long) (tick * perTick));
+                    return Flux.range(0, count).map(i -> start + tick * tickNanos);
+                })
+                .onBackpressureBuffer();
+    }
+
+    private Kind pickKind() {
+        double draw = ThreadLocalRandom.current().nextDouble();
+        if (draw < settings.invalidRatio()) {
+            return Kind.INVALID;
+        }
+        return draw < settings.invalidRatio() + settings.duplicateRatio() ? Kind.DUPLICATE : Kind.UNIQUE;
+    }
+
+    private Mono<Integer> request(Kind kind) {
+        return switch (kind) {
+            case UNIQUE -> send("load-" + runId + "-" + sequence.incrementAndGet() + "@loadtest.crediya.com");
+            case DUPLICATE -> send(seedEmail(ThreadLocalRandom.current().nextInt(SEED_USERS)));
+            case INVALID -> post(INVALID_REQUEST);
+        };
+    }
+
+    private String seedEmail(int i) {
+        return "seed-" + runId + "-" + i + "@loadtest.crediya.com";
+    }
+
+    private Mono<Integer> send(String email) {
+        return post(REQUEST_TEMPLATE.formatted(email));
+    }
+
+    private Mono<Integer> post(String json) {
+        ByteBuf body = Unpooled.wrappedBuffer(json.getBytes(StandardCharsets.UTF_8));
+        return client.post()
+                .uri("/api/v1/users")
+                .send(Mono.just(body))
+                .responseSingle((response, content) -> content.then(Mono.just(response.status().code())));
+    }
+
+    /**
+     * Latency histograms, in microseconds, per kind of request and overall, plus status counts.
+     */
+    static final class Measurements {
+
+        private final Histogram overall = new ConcurrentHistogram(3);
+        private final Map<Kind, Histogram> byKind = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder unexpected = new LongAdder();
+
+        void record(Kind kind, int status, long latencyNanos) {
+            long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            overall.recordValue(micros);
+            byKind.computeIfAbsent(kind, k -> new ConcurrentHistogram(3)).recordValue(micros);
+            statuses.computeIfAbsent(String.valueOf(status), s -> new LongAdder()).increment();
+            if (status != kind.expectedStatus) {
+                unexpected.increment();
+            }
+        }
+
+        void transportError() {
+            statuses.computeIfAbsent("error", s -> new LongAdder()).increment();
+            unexpected.increment();
+        }
+
+        LoadTestReport report(long elapsedNanos) {
+            return LoadTestReport.of(overall, byKind, statuses, unexpected.sum(), elapsedNanos);
+        }
+    }
+}
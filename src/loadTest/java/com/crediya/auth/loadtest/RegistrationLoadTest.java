@@ -0,0 +1,64 @@
+package com.crediya.auth.loadtest;
+
+import com.crediya.auth.CrediyaAuthApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Boots the application on a random port, drives the registration endpoint with {@link RegistrationLoadGenerator} and
+ * fails when the latency or throughput thresholds are not met.
+ *
+ * Arguments are passed to the application, e.g. {@code --crediya.security.password.cost=4}. The registration rate
+ * limiter is disabled, since the load comes from a single client.
+ */
+public final class RegistrationLoadTest {
+
+    private RegistrationLoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CrediyaAuthApplication.class)
+                .run(withOverrides(args))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.printf("Load test against port %d: %s%n", port, settings);
+            report = new RegistrationLoadGenerator(port, settings).run();
+        }
+
+        System.out.print(report.summary());
+        Path reportFile = Path.of(System.getProperty("loadTest.reportFile", "build/reports/loadtest/registration.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+
+        List<String> violations = report.violations(settings);
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.err.println("Load test threshold exceeded: " + violation));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Command line arguments take precedence over the application configuration, so the overrides go first and any
+     * argument given to the task can still replace them.
+     */
+    private static String[] withOverrides(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--crediya.security.rate-limit.enabled=false",
+                "--logging.level.com.crediya=WARN"));
+        arguments.addAll(Arrays.asList(args));
+        return arguments.toArray(String[]::new);
+    }
+}
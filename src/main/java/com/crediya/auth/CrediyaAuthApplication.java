@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @OpenAPIDefinition(info = @Info(
 		title = "CrediYa - Authentication API",
@@ -11,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 		description = "API for user management and authentication in the CrediYa platform."
 ))
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CrediyaAuthApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(CrediyaAuthApplication.class, args);
@@ -0,0 +1,10 @@
+package com.crediya.auth.application.exceptions;
+
+/**
+ * A custom business exception thrown when a login attempt does not match a registered email and password.
+ */
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the contract for the use cases of looking up registered users.
+ */
+public interface FindUserPort {
+
+    /**
+     * Finds a registered user by their identifier.
+     *
+     * @param id The identifier of the user.
+     * @return A reactive stream emitting the user, or failing with a UserNotFoundException if there is none.
+     */
+    Mono<User> findById(Long id);
+
+    /**
+     * Finds a registered user by their email.
+     *
+     * @param email The email of the user.
+     * @return A reactive stream emitting the user, or failing with a UserNotFoundException if there is none.
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Lists registered users by keyset, in ascending identifier order.
+     *
+     * @param after The cursor returned with the previous page, or null for the first page.
+     * @param limit The requested page size; it is clamped to the supported range.
+     * @return A reactive stream emitting the page and the cursor of the following one.
+     */
+    Mono<UserPage> listUsers(Long after, int limit);
+
+    /**
+     * Streams every registered user in ascending identifier order, honoring the subscriber's demand.
+     *
+     * @param after The identifier to resume after, or null to start from the beginning.
+     * @return A reactive stream emitting the users.
+     */
+    Flux<User> streamUsers(Long after);
+}
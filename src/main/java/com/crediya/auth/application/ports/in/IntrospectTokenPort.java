@@ -0,0 +1,18 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.TokenClaims;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the contract for the use case of checking an access token issued by this service.
+ */
+public interface IntrospectTokenPort {
+
+    /**
+     * Verifies an access token and returns its claims.
+     *
+     * @param token The encoded token.
+     * @return A reactive stream emitting the claims, or failing with an InvalidTokenException.
+     */
+    Mono<TokenClaims> introspect(String token);
+}
@@ -0,0 +1,13 @@
+package com.crediya.auth.application.ports.in;
+
+import java.util.Objects;
+
+/**
+ * Represents a command to authenticate a user with their email and password.
+ */
+public record LoginCommand(String email, String password) {
+    public LoginCommand {
+        Objects.requireNonNull(email, "Email must not be null");
+        Objects.requireNonNull(password, "Password must not be null");
+    }
+}
@@ -0,0 +1,18 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.AccessToken;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the contract for the use case of authenticating a user.
+ */
+public interface LoginPort {
+
+    /**
+     * Authenticates a user and issues an access token.
+     *
+     * @param command The command object containing the user's credentials.
+     * @return A reactive stream emitting the issued token, or failing with an InvalidCredentialsException.
+     */
+    Mono<AccessToken> login(LoginCommand command);
+}
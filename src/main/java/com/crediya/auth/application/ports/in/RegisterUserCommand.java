@@ -8,6 +8,7 @@ import java.util.Objects;
 
 /**
  * Represents a command to register a new user.
+ * The password is required, as every registered user must be able to log in.
  */
 public record RegisterUserCommand(
         String firstName,
@@ -18,7 +19,8 @@ public record RegisterUserCommand(
         LocalDate birthDate,
         String address,
         String idRole,
-        BigDecimal baseSalary
+        BigDecimal baseSalary,
+        String password
 ) {
     public RegisterUserCommand {
         Objects.requireNonNull(firstName, "First name must not be null");
@@ -27,10 +29,15 @@ public record RegisterUserCommand(
         Objects.requireNonNull(birthDate, "Birth date must not be null");
         Objects.requireNonNull(address, "Address must not be null");
         Objects.requireNonNull(baseSalary, "Base salary must not be null");
+        Objects.requireNonNull(password, "Password must not be null");
+        if (password.isBlank()) {
+            throw new IllegalArgumentException("Password must not be blank");
+        }
     }
 
     /**
      * A factory method to convert this command object into a domain User object.
+     * The password is not part of the result; it is hashed separately before the user is stored.
      *
      * @return A new User domain object.
      */
@@ -47,4 +54,4 @@ public record RegisterUserCommand(
                 this.baseSalary
         );
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package com.crediya.auth.application.ports.in;
 
 import com.crediya.auth.domain.model.User;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Defines the contract for the use case of registering a new user.
  */
@@ -15,4 +18,12 @@ public interface RegisterUserPort {
      * @return A reactive stream emitting the newly created User.
      */
     Mono<User> registerUser(RegisterUserCommand command);
+
+    /**
+     * Orchestrates the registration of a batch of users. Callers split larger inputs into batches of a bounded size.
+     *
+     * @param commands The batch of commands, one per user to register.
+     * @return A reactive stream emitting one {@link RegistrationResult} per command, in input order.
+     */
+    Flux<RegistrationResult> registerUsers(List<RegisterUserCommand> commands);
 }
@@ -0,0 +1,32 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.User;
+
+/**
+ * Represents the outcome of registering a single user as part of a bulk registration.
+ *
+ * @param status  The outcome of the registration.
+ * @param email   The email of the user the outcome refers to.
+ * @param user    The created user, only present when the status is {@link Status#CREATED}.
+ * @param message A descriptive message for the outcome.
+ */
+public record RegistrationResult(Status status, String email, User user, String message) {
+
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID
+    }
+
+    public static RegistrationResult created(User user) {
+        return new RegistrationResult(Status.CREATED, user.getEmail(), user, "User registered successfully.");
+    }
+
+    public static RegistrationResult conflict(String email) {
+        return new RegistrationResult(Status.CONFLICT, email, null, "Email " + email + " is already registered.");
+    }
+
+    public static RegistrationResult invalid(String email, String message) {
+        return new RegistrationResult(Status.INVALID, email, null, message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.crediya.auth.application.ports.in;
+
+import com.crediya.auth.domain.model.User;
+
+import java.util.List;
+
+/**
+ * Represents one page of a keyset-paginated user listing.
+ *
+ * @param users      The users in the page, in ascending identifier order.
+ * @param nextCursor The cursor to request the following page with, or null when this is the last page.
+ */
+public record UserPage(List<User> users, Long nextCursor) {
+}
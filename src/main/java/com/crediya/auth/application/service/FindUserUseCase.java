@@ -0,0 +1,79 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.UserPage;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class FindUserUseCase implements FindUserPort {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    /**
+     * Finds a registered user by their identifier.
+     *
+     * @param id The identifier of the user.
+     * @return A reactive stream emitting the user, or failing with a UserNotFoundException if there is none.
+     */
+    @Override
+    public Mono<User> findById(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User with ID " + id + " was not found.")));
+    }
+
+    /**
+     * Finds a registered user by their email.
+     *
+     * @param email The email of the user.
+     * @return A reactive stream emitting the user, or failing with a UserNotFoundException if there is none.
+     */
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User with email " + email + " was not found.")));
+    }
+
+    /**
+     * Lists registered users by keyset, in ascending identifier order.
+     * One extra row is read to know whether a following page exists without a separate count query.
+     *
+     * @param after The cursor returned with the previous page, or null for the first page.
+     * @param limit The requested page size, clamped between 1 and {@value #MAX_PAGE_SIZE}.
+     * @return A reactive stream emitting the page and the cursor of the following one.
+     */
+    @Override
+    public Mono<UserPage> listUsers(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return userRepository.findPageAfter(after, pageSize + 1)
+                .collectList()
+                .map(users -> {
+                    if (users.size() <= pageSize) {
+                        return new UserPage(users, null);
+                    }
+                    List<User> page = users.subList(0, pageSize);
+                    return new UserPage(page, page.get(pageSize - 1).getId());
+                });
+    }
+
+    /**
+     * Streams every registered user in ascending identifier order, honoring the subscriber's demand.
+     *
+     * @param after The identifier to resume after, or null to start from the beginning.
+     * @return A reactive stream emitting the users.
+     */
+    @Override
+    public Flux<User> streamUsers(Long after) {
+        return userRepository.streamAfter(after);
+    }
+}
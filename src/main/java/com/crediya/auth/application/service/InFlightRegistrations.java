@@ -0,0 +1,105 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.domain.model.User;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Tracks the registrations currently in flight, keyed by normalized email, so that concurrent registrations for the same
+ * email share a single execution.
+ *
+ * The map is split into lock-striped segments so that unrelated emails do not contend, and every segment is bounded:
+ * when a segment is full, new registrations run without being tracked and rely on the database constraint instead.
+ * An entry is removed before its outcome is published, so a registration that completed is never joined later, and
+ * a registration that joins after a failure can take the key over as the new registration in flight.
+ */
+final class InFlightRegistrations {
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maxPerSegment;
+
+    InFlightRegistrations(int stripes, int maxInFlight) {
+        int segmentCount = 1;
+        while (segmentCount < stripes) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+        this.segmentMask = segmentCount - 1;
+        this.maxPerSegment = Math.max(1, maxInFlight / segmentCount);
+    }
+
+    /**
+     * Runs the given registration, unless one for the same key is already in flight.
+     *
+     * @param key          The normalized email the registration is for.
+     * @param registration The registration to run when none is in flight for the key.
+     * @param onInFlight   Builds the outcome of a later registration from the outcome of the one in flight.
+     * @return The outcome of the registration.
+     */
+    Mono<User> run(String key, Mono<User> registration, Function<Mono<User>, Mono<User>> onInFlight) {
+        return Mono.defer(() -> {
+            Segment segment = segmentFor(key);
+            Mono<User> inFlight;
+            Mono<User> shared = null;
+            synchronized (segment) {
+                inFlight = segment.entries.get(key);
+                if (inFlight == null && segment.entries.size() < maxPerSegment) {
+                    shared = track(segment, key, registration);
+                    segment.entries.put(key, shared);
+                }
+            }
+            if (inFlight != null) {
+                return onInFlight.apply(inFlight);
+            }
+            return shared != null ? shared : registration;
+        });
+    }
+
+    /**
+     * @return The number of registrations currently in flight.
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Shares the registration and removes its entry once it terminates, leaving any entry that replaced it in place.
+     */
+    private static Mono<User> track(Segment segment, String key, Mono<User> registration) {
+        AtomicReference<Mono<User>> entry = new AtomicReference<>();
+        Mono<User> shared = registration
+                .doOnTerminate(() -> segment.remove(key, entry.get()))
+                .doOnCancel(() -> segment.remove(key, entry.get()))
+                .cache();
+        entry.set(shared);
+        return shared;
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private static final class Segment {
+
+        private final Map<String, Mono<User>> entries = new HashMap<>();
+
+        private synchronized void remove(String key, Mono<User> entry) {
+            entries.remove(key, entry);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.domain.ports.out.TokenVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class IntrospectTokenUseCase implements IntrospectTokenPort {
+
+    private final TokenVerifier tokenVerifier;
+
+    /**
+     * Verifies an access token and returns its claims.
+     * The check is local: it needs neither the database nor a call to another service.
+     *
+     * @param token The encoded token.
+     * @return A reactive stream emitting the claims, or failing with an InvalidTokenException.
+     */
+    @Override
+    public Mono<TokenClaims> introspect(String token) {
+        return Mono.fromCallable(() -> tokenVerifier.verify(token));
+    }
+}
@@ -0,0 +1,48 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.exceptions.InvalidCredentialsException;
+import com.crediya.auth.application.ports.in.LoginCommand;
+import com.crediya.auth.application.ports.in.LoginPort;
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.domain.ports.out.TokenIssuer;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginUseCase implements LoginPort {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenIssuer tokenIssuer;
+
+    /**
+     * Authenticates a user and issues an access token.
+     * The password is verified even when the email is unknown, so both failures take the same time and cannot be told apart.
+     *
+     * @param command The command object containing the user's credentials.
+     * @return A reactive stream emitting the issued token, or failing with an InvalidCredentialsException.
+     */
+    @Override
+    public Mono<AccessToken> login(LoginCommand command) {
+        return userRepository.findByEmail(command.email())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> passwordHasher.matches(command.password(), user.map(User::getPasswordHash).orElse(null))
+                        .flatMap(matches -> {
+                            if (!matches || user.isEmpty()) {
+                                log.debug("Login failed for email: {}", command.email());
+                                return Mono.error(new InvalidCredentialsException("Invalid email or password."));
+                            }
+                            return Mono.fromSupplier(() -> tokenIssuer.issue(user.get()));
+                        }));
+    }
+}
@@ -3,42 +3,291 @@ package com.crediya.auth.application.service;
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
 import com.crediya.auth.application.ports.in.RegisterUserCommand;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RegistrationResult;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.domain.ports.out.UserEventOutbox;
 import com.crediya.auth.domain.ports.out.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.crediya.auth.domain.validation.EmailValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RegisterUserUseCase implements RegisterUserPort {
 
+    static final int PASSWORD_HASHING_CONCURRENCY = 32;
+
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserEventOutbox userEventOutbox;
+    private final TransactionalOperator transactionalOperator;
+    private final RegistrationProperties registrationProperties;
+    private final Timer registrationTimer;
+    private final Timer commitTimer;
+    private final Counter singleConflictCounter;
+    private final Counter batchConflictCounter;
+    private final Counter coalescedCounter;
+    private final InFlightRegistrations inFlightRegistrations;
+
+    public RegisterUserUseCase(UserRepository userRepository,
+                               PasswordHasher passwordHasher,
+                               UserEventOutbox userEventOutbox,
+                               TransactionalOperator transactionalOperator,
+                               RegistrationProperties registrationProperties,
+                               MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.userEventOutbox = userEventOutbox;
+        this.transactionalOperator = transactionalOperator;
+        this.registrationProperties = registrationProperties;
+        this.registrationTimer = Timer.builder("registration.use.case")
+                .description("Time spent in the registration use case, including persistence")
+                .tag("mode", registrationProperties.mode().name().toLowerCase())
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("registration.stage")
+                .description("Time spent in each stage of a user registration")
+                .tag("stage", "transaction_commit")
+                .register(meterRegistry);
+        this.singleConflictCounter = Counter.builder("registration.conflicts")
+                .description("Registrations rejected because the email was already registered")
+                .tag("path", "single")
+                .register(meterRegistry);
+        this.batchConflictCounter = Counter.builder("registration.conflicts")
+                .description("Registrations rejected because the email was already registered")
+                .tag("path", "batch")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("registration.coalesced")
+                .description("Registrations that attached to an in-flight registration for the same email instead of reaching the database")
+                .register(meterRegistry);
+        RegistrationProperties.Coalescing coalescing = registrationProperties.coalescing();
+        this.inFlightRegistrations = coalescing.enabled()
+                ? new InFlightRegistrations(coalescing.stripes(), coalescing.maxInFlight())
+                : null;
+        if (inFlightRegistrations != null) {
+            Gauge.builder("registration.in.flight", inFlightRegistrations, InFlightRegistrations::size)
+                    .description("Registrations currently in flight and available for coalescing")
+                    .register(meterRegistry);
+        }
+    }
 
     /**
-     * Orchestrates the registration of a new user.
+     * Orchestrates the registration of a new user, using the configured {@link RegistrationMode}.
+     * A {@link UserRegistered} event is written to the outbox in the same transaction as the user.
+     * While a registration for an email is in flight, later registrations for the same email wait for its outcome
+     * and fail with an {@link EmailAlreadyExistsException} if it succeeded or hit a conflict itself, without a database
+     * round trip of their own; if it failed for any other reason, they try again, and the first of them to do so becomes
+     * the registration in flight that the others wait for.
      *
      * @param command The command object containing all necessary data for registration.
      * @return A reactive stream emitting the newly created User.
      */
     @Override
-    @Transactional
     public Mono<User> registerUser(RegisterUserCommand command) {
         log.trace("Attempting to register user with email: {}", command.email());
 
-        return userRepository.existsByEmail(command.email())
-                .flatMap(emailExists -> {
-                    if (Boolean.TRUE.equals(emailExists)) {
-                        log.warn("Registration failed: Email {} already exists.", command.email());
-                        return Mono.error(new EmailAlreadyExistsException("Email " + command.email() + " is already registered."));
+        Mono<User> registration = coalesced(command, registrationProperties.mode() == RegistrationMode.OPTIMISTIC_INSERT
+                ? insertOptimistically(command)
+                : checkThenInsert(command));
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return registration
+                    .doOnError(EmailAlreadyExistsException.class, ex -> singleConflictCounter.increment())
+                    .doFinally(signal -> sample.stop(registrationTimer));
+        });
+    }
+
+    private Mono<User> coalesced(RegisterUserCommand command, Mono<User> registration) {
+        if (inFlightRegistrations == null || command.email() == null) {
+            return registration;
+        }
+        return inFlightRegistrations.run(EmailValidator.normalize(command.email()), registration,
+                inFlight -> joinInFlight(inFlight, command, registration));
+    }
+
+    /**
+     * Waits for the registration in flight for the same email. Only its success or its conflict decide this one:
+     * any other failure, such as a validation error of the other payload or an unavailable database, is not about this
+     * command, so it is coalesced again, either running as the new registration in flight or joining the one that does.
+     */
+    private Mono<User> joinInFlight(Mono<User> inFlight, RegisterUserCommand command, Mono<User> registration) {
+        coalescedCounter.increment();
+        log.debug("Registration for email {} is already in flight; waiting for its outcome.", command.email());
+        return inFlight
+                .then(Mono.<User>error(() -> new EmailAlreadyExistsException("Email " + command.email() + " is already registered.")))
+                .onErrorResume(ex -> !(ex instanceof EmailAlreadyExistsException), ex -> {
+                    log.debug("In-flight registration for email {} failed; retrying this one.", command.email());
+                    return coalesced(command, registration);
+                });
+    }
+
+    /**
+     * Builds the user to store, hashing the password first.
+     * Hashing happens before any transaction is opened, so no connection is held while the hasher works.
+     */
+    private Mono<User> toUserWithCredentials(RegisterUserCommand command) {
+        return Mono.fromSupplier(command::toDomainUser)
+                .flatMap(user -> withPasswordHash(user, command.password()));
+    }
+
+    private Mono<User> withPasswordHash(User user, String password) {
+        return passwordHasher.hash(password).map(user::withPasswordHash);
+    }
+
+    private Mono<User> insertOptimistically(RegisterUserCommand command) {
+        return toUserWithCredentials(command)
+                .flatMap(userToRegister -> inTransaction(saveWithEvent(userToRegister)))
+                .doOnSuccess(savedUser -> log.trace("Successfully saved user with ID: {}", savedUser.getId()))
+                .doOnError(EmailAlreadyExistsException.class, ex -> log.warn("Registration failed: Email {} already exists.", command.email()));
+    }
+
+    private Mono<User> checkThenInsert(RegisterUserCommand command) {
+        return toUserWithCredentials(command)
+                .flatMap(userToRegister -> inTransaction(userRepository.existsByEmail(command.email())
+                        .flatMap(emailExists -> {
+                            if (Boolean.TRUE.equals(emailExists)) {
+                                log.warn("Registration failed: Email {} already exists.", command.email());
+                                return Mono.error(new EmailAlreadyExistsException("Email " + command.email() + " is already registered."));
+                            }
+                            log.trace("Email {} is available. Proceeding with user creation.", command.email());
+                            return saveWithEvent(userToRegister)
+                                    .doOnSuccess(savedUser -> log.trace("Successfully saved user with ID: {}", savedUser.getId()));
+                        })));
+    }
+
+    /**
+     * Saves a user and records its {@link UserRegistered} event; must run inside a transaction.
+     */
+    private Mono<User> saveWithEvent(User user) {
+        return userRepository.save(user)
+                .flatMap(savedUser -> userEventOutbox.append(List.of(UserRegistered.of(savedUser))).thenReturn(savedUser));
+    }
+
+    /**
+     * Runs the given work in a transaction and records how long the commit took once the work completed.
+     */
+    private <T> Mono<T> inTransaction(Mono<T> work) {
+        return Mono.defer(() -> {
+            long[] workCompletedAt = new long[1];
+            return work
+                    .doOnSuccess(value -> workCompletedAt[0] = System.nanoTime())
+                    .as(transactionalOperator::transactional)
+                    .doOnSuccess(value -> commitTimer.record(System.nanoTime() - workCompletedAt[0], TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /**
+     * Orchestrates the registration of a batch of users.
+     * The batch costs one existence query and one batched insert of the users and of their events; callers bound its size.
+     * Passwords are hashed only for the users that will actually be inserted, several at a time.
+     *
+     * @param commands The batch of commands, one per user to register.
+     * @return A reactive stream emitting one {@link RegistrationResult} per command, in input order.
+     */
+    @Override
+    public Flux<RegistrationResult> registerUsers(List<RegisterUserCommand> commands) {
+        return Flux.defer(() -> registerChunk(commands))
+                .doOnNext(result -> {
+                    if (result.status() == RegistrationResult.Status.CONFLICT) {
+                        batchConflictCounter.increment();
                     }
-                    log.trace("Email {} is available. Proceeding with user creation.", command.email());
-                    User userToRegister = command.toDomainUser();
-                    return userRepository.save(userToRegister)
-                            .doOnSuccess(savedUser -> log.trace("Successfully saved user with ID: {}", savedUser.getId()));
                 });
     }
+
+    private Flux<RegistrationResult> registerChunk(List<RegisterUserCommand> chunk) {
+        RegistrationResult[] results = new RegistrationResult[chunk.size()];
+        List<Integer> candidateIndexes = new ArrayList<>(chunk.size());
+        List<User> candidates = new ArrayList<>(chunk.size());
+        List<String> candidatePasswords = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            RegisterUserCommand command = chunk.get(i);
+            try {
+                candidates.add(command.toDomainUser());
+                candidatePasswords.add(command.password());
+                candidateIndexes.add(i);
+            } catch (IllegalArgumentException ex) {
+                results[i] = RegistrationResult.invalid(command.email(), ex.getMessage());
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+
+        Set<String> emails = candidates.stream()
+                .map(User::getEmail)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return userRepository.findExistingEmails(emails)
+                .collect(Collectors.toSet())
+                .flatMapMany(existingEmails -> {
+                    Set<String> seenEmails = new HashSet<>(existingEmails.size() + candidates.size());
+                    existingEmails.forEach(email -> seenEmails.add(EmailValidator.normalize(email)));
+                    List<Integer> insertIndexes = new ArrayList<>(candidates.size());
+                    List<User> usersToInsert = new ArrayList<>(candidates.size());
+                    List<String> passwordsToHash = new ArrayList<>(candidates.size());
+
+                    for (int i = 0; i < candidates.size(); i++) {
+                        User candidate = candidates.get(i);
+                        if (seenEmails.add(EmailValidator.normalize(candidate.getEmail()))) {
+                            insertIndexes.add(candidateIndexes.get(i));
+                            usersToInsert.add(candidate);
+                            passwordsToHash.add(candidatePasswords.get(i));
+                        } else {
+                            results[candidateIndexes.get(i)] = RegistrationResult.conflict(candidate.getEmail());
+                        }
+                    }
+
+                    if (usersToInsert.isEmpty()) {
+                        return Flux.fromArray(results);
+                    }
+
+                    return Flux.range(0, usersToInsert.size())
+                            .flatMapSequential(i -> withPasswordHash(usersToInsert.get(i), passwordsToHash.get(i)), PASSWORD_HASHING_CONCURRENCY)
+                            .collectList()
+                            .flatMap(usersWithCredentials -> inTransaction(userRepository.saveAll(usersWithCredentials).collectList()
+                                            .flatMap(savedUsers -> userEventOutbox.append(savedUsers.stream().map(UserRegistered::of).toList())
+                                                    .thenReturn(savedUsers)))
+                                    .doOnNext(savedUsers -> {
+                                        for (int i = 0; i < savedUsers.size(); i++) {
+                                            results[insertIndexes.get(i)] = RegistrationResult.created(savedUsers.get(i));
+                                        }
+                                    })
+                                    .then()
+                                    .onErrorResume(EmailAlreadyExistsException.class, ex -> insertIndividually(usersWithCredentials, insertIndexes, results)))
+                            .thenMany(Flux.fromArray(results));
+                })
+                .doOnComplete(() -> log.trace("Processed registration chunk of {} users.", chunk.size()));
+    }
+
+    /**
+     * Fallback for a chunk whose batched insert was rolled back because another request registered one of its emails concurrently.
+     */
+    private Mono<Void> insertIndividually(List<User> users, List<Integer> indexes, RegistrationResult[] results) {
+        log.debug("Batched insert hit a concurrent registration; retrying {} users one by one.", users.size());
+        return Flux.range(0, users.size())
+                .concatMap(i -> inTransaction(saveWithEvent(users.get(i)))
+                        .map(RegistrationResult::created)
+                        .onErrorResume(EmailAlreadyExistsException.class, ex -> Mono.just(RegistrationResult.conflict(users.get(i).getEmail())))
+                        .doOnNext(result -> results[indexes.get(i)] = result))
+                .then();
+    }
 }
@@ -0,0 +1,18 @@
+package com.crediya.auth.application.service;
+
+/**
+ * Strategies for enforcing email uniqueness during a single user registration.
+ */
+public enum RegistrationMode {
+
+    /**
+     * Checks whether the email exists and then inserts, inside one transaction. Costs two statements per registration.
+     */
+    CHECK_THEN_INSERT,
+
+    /**
+     * Inserts straight away and relies on the UNIQUE constraint on the email column to detect duplicates.
+     * Costs one statement per registration, for both the created and the conflict outcome.
+     */
+    OPTIMISTIC_INSERT
+}
@@ -0,0 +1,29 @@
+package com.crediya.auth.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the user registration use case.
+ *
+ * @param mode       The strategy used to enforce email uniqueness on single registrations.
+ * @param coalescing How concurrent registrations for the same email are coalesced.
+ */
+@ConfigurationProperties(prefix = "crediya.registration")
+public record RegistrationProperties(
+        @DefaultValue("CHECK_THEN_INSERT") RegistrationMode mode,
+        @DefaultValue Coalescing coalescing
+) {
+
+    /**
+     * @param enabled        Whether a registration for an email that is already in flight attaches to it instead of hitting the database.
+     * @param stripes        The number of independently locked stripes of the in-flight map; rounded up to a power of two.
+     * @param maxInFlight    The maximum number of in-flight emails tracked across all stripes; registrations beyond it are not coalesced.
+     */
+    public record Coalescing(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("16") int stripes,
+            @DefaultValue("10000") int maxInFlight
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.crediya.auth.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A signed access token issued to an authenticated user.
+ *
+ * @param value     The encoded token.
+ * @param expiresAt The instant after which the token is no longer valid.
+ */
+public record AccessToken(String value, Instant expiresAt) {
+}
@@ -0,0 +1,15 @@
+package com.crediya.auth.domain.model;
+
+import java.time.Instant;
+
+/**
+ * The verified contents of an access token.
+ *
+ * @param userId    The identifier of the user the token was issued to.
+ * @param email     The email of the user.
+ * @param role      The role of the user.
+ * @param issuedAt  The instant the token was issued.
+ * @param expiresAt The instant after which the token is no longer valid.
+ */
+public record TokenClaims(Long userId, String email, String role, Instant issuedAt, Instant expiresAt) {
+}
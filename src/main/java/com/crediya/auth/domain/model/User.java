@@ -1,14 +1,12 @@
 package com.crediya.auth.domain.model;
 
+import com.crediya.auth.domain.validation.EmailValidator;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public class User {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE
-    );
     private static final BigDecimal MINIMUM_SALARY = BigDecimal.ZERO;
     private static final BigDecimal MAXIMUM_SALARY = new BigDecimal("15000000");
 
@@ -23,6 +21,7 @@ public class User {
     private final String address;
     private final String idRole;
     private final BigDecimal baseSalary;
+    private final String passwordHash;
 
 
     public User(
@@ -35,7 +34,8 @@ public class User {
             LocalDate birthDate,
             String address,
             String idRole,
-            BigDecimal baseSalary
+            BigDecimal baseSalary,
+            String passwordHash
     ) {
 
         validateFieldNotNullOrEmpty(firstName, "First name cannot be null or empty.");
@@ -54,6 +54,7 @@ public class User {
         this.address = address;
         this.idRole = idRole;
         this.baseSalary = baseSalary;
+        this.passwordHash = passwordHash;
     }
 
     public static User newUser(
@@ -76,7 +77,28 @@ public class User {
                 birthDate,
                 address,
                 idRole,
-                baseSalary);
+                baseSalary,
+                null);
+    }
+
+    /**
+     * Returns a copy of this user holding the given password hash.
+     *
+     * @param passwordHash The hash of the user's password; never the raw password.
+     * @return A new User with the same data and the given password hash.
+     */
+    public User withPasswordHash(String passwordHash) {
+        return new User(id, firstName, lastName, email, identityNumber, phoneNumber, birthDate, address, idRole, baseSalary, passwordHash);
+    }
+
+    /**
+     * Returns a copy of this user holding the given identifier.
+     *
+     * @param id The identifier assigned to the user by its storage.
+     * @return A new User with the same data and the given identifier.
+     */
+    public User withId(Long id) {
+        return new User(id, firstName, lastName, email, identityNumber, phoneNumber, birthDate, address, idRole, baseSalary, passwordHash);
     }
 
     private void validateFieldNotNullOrEmpty(String value, String errorMessage) {
@@ -86,7 +108,7 @@ public class User {
     }
 
     private void validateEmailFormat(String email) {
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
+        if (!EmailValidator.isValid(email)) {
             throw new IllegalArgumentException("The email format is not valid.");
         }
     }
@@ -138,4 +160,8 @@ public class User {
     public BigDecimal getBaseSalary() {
         return baseSalary;
     }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
 }
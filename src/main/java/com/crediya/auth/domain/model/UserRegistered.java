@@ -0,0 +1,24 @@
+package com.crediya.auth.domain.model;
+
+import java.time.Instant;
+
+/**
+ * The event announcing that a user was registered.
+ *
+ * @param userId     The identifier of the new user.
+ * @param email      The email of the new user.
+ * @param role       The role of the new user.
+ * @param occurredAt The instant the user was registered.
+ */
+public record UserRegistered(Long userId, String email, String role, Instant occurredAt) {
+
+    /**
+     * Creates the event for a user that was just saved.
+     *
+     * @param user The saved user, with its identifier.
+     * @return A new UserRegistered event, occurring now.
+     */
+    public static UserRegistered of(User user) {
+        return new UserRegistered(user.getId(), user.getEmail(), user.getIdRole(), Instant.now());
+    }
+}
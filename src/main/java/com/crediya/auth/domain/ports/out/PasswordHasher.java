@@ -0,0 +1,27 @@
+package com.crediya.auth.domain.ports.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * An outbound port that defines the contract for hashing and verifying passwords.
+ * Implementations are CPU-bound by design and must not run on the caller's thread.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Hashes a raw password.
+     *
+     * @param rawPassword The password as entered by the user.
+     * @return A reactive stream emitting the hash to store.
+     */
+    Mono<String> hash(String rawPassword);
+
+    /**
+     * Checks a raw password against a stored hash.
+     *
+     * @param rawPassword  The password as entered by the user.
+     * @param passwordHash The stored hash, or null if the user has no password; the check then takes as long as a real one.
+     * @return A reactive stream emitting true if the password matches, false otherwise.
+     */
+    Mono<Boolean> matches(String rawPassword, String passwordHash);
+}
@@ -0,0 +1,18 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+
+/**
+ * An outbound port that defines the contract for issuing signed access tokens.
+ */
+public interface TokenIssuer {
+
+    /**
+     * Issues a signed access token for an authenticated user.
+     *
+     * @param user The authenticated user.
+     * @return The signed token and its expiration.
+     */
+    AccessToken issue(User user);
+}
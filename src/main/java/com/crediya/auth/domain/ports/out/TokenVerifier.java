@@ -0,0 +1,18 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.TokenClaims;
+
+/**
+ * An outbound port that defines the contract for verifying access tokens locally, without a database round trip.
+ */
+public interface TokenVerifier {
+
+    /**
+     * Verifies the signature and expiry of an access token.
+     *
+     * @param token The encoded token.
+     * @return The claims of the token.
+     * @throws com.crediya.auth.application.exceptions.InvalidTokenException if the token is malformed, forged or expired.
+     */
+    TokenClaims verify(String token);
+}
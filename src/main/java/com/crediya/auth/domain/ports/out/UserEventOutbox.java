@@ -0,0 +1,21 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * An outbound port that defines the contract for recording events to be published once their transaction commits.
+ */
+public interface UserEventOutbox {
+
+    /**
+     * Records events in the outbox. Must run in the same transaction as the changes the events describe, so they are
+     * recorded if and only if those changes commit.
+     *
+     * @param events The events to record.
+     * @return A reactive stream that completes once the events are recorded.
+     */
+    Mono<Void> append(List<UserRegistered> events);
+}
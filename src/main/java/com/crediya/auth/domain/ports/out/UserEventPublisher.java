@@ -0,0 +1,21 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * An outbound port that defines the contract for delivering user events to other services.
+ */
+public interface UserEventPublisher {
+
+    /**
+     * Publishes a batch of events, in order. Delivery is at least once: a batch may be published again if the service
+     * stops before it is removed from the outbox, so consumers should deduplicate by user id.
+     *
+     * @param events The events to publish.
+     * @return A reactive stream that completes once every event was accepted by the destination.
+     */
+    Mono<Void> publish(List<UserRegistered> events);
+}
@@ -0,0 +1,19 @@
+package com.crediya.auth.domain.ports.out;
+
+import com.crediya.auth.domain.model.User;
+import reactor.core.publisher.Flux;
+
+/**
+ * An outbound port that defines the contract for reading users page by page, for consumers that only read.
+ */
+public interface UserPageReader {
+
+    /**
+     * Finds a page of users in ascending identifier order, starting right after the given identifier.
+     *
+     * @param afterId The identifier to start after, or null to start from the beginning.
+     * @param limit   The maximum number of users to return.
+     * @return A reactive stream emitting at most {@code limit} users.
+     */
+    Flux<User> findPageAfter(Long afterId, int limit);
+}
@@ -1,12 +1,16 @@
 package com.crediya.auth.domain.ports.out;
 
 import com.crediya.auth.domain.model.User;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * An outbound port that defines the contract for user persistence operations.
  */
-public interface UserRepository {
+public interface UserRepository extends UserPageReader {
 
     /**
      * Checks if a user with the given email already exists.
@@ -16,6 +20,39 @@ public interface UserRepository {
      */
     Mono<Boolean> existsByEmail(String email);
 
+    /**
+     * Finds which of the given emails are already registered, using a single query.
+     *
+     * @param emails The emails to check.
+     * @return A reactive stream emitting the subset of the given emails that already exist.
+     */
+    Flux<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Finds a user by their identifier.
+     *
+     * @param id The identifier of the user.
+     * @return A reactive stream emitting the user, or empty if there is no user with that identifier.
+     */
+    Mono<User> findById(Long id);
+
+    /**
+     * Finds a user by their email.
+     *
+     * @param email The email of the user.
+     * @return A reactive stream emitting the user, or empty if there is no user with that email.
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Streams every user in ascending identifier order, starting right after the given identifier.
+     * Rows are read as the subscriber requests them, so the table is never held in memory as a whole.
+     *
+     * @param afterId The identifier to start after, or null to start from the beginning.
+     * @return A reactive stream emitting the users.
+     */
+    Flux<User> streamAfter(Long afterId);
+
     /**
      * Persists a new User object.
      *
@@ -23,4 +60,12 @@ public interface UserRepository {
      * @return A reactive stream emitting the saved User, potentially with updated state from the database (like an ID).
      */
     Mono<User> save(User user);
+
+    /**
+     * Persists several new User objects using a single batched statement.
+     *
+     * @param users The domain model objects to save.
+     * @return A reactive stream emitting the saved Users, in the same order as the input.
+     */
+    Flux<User> saveAll(List<User> users);
 }
@@ -0,0 +1,117 @@
+package com.crediya.auth.domain.validation;
+
+/**
+ * Validates and normalizes email addresses in a single pass, without regular expressions or intermediate allocations.
+ *
+ * An address is accepted when it has the shape {@code local@domain.tld}, where:
+ * <ul>
+ *     <li>the local part is one or more letters, digits or any of {@code . _ % + -};</li>
+ *     <li>the domain before the last dot is one or more letters, digits, dots or hyphens;</li>
+ *     <li>the top-level domain after the last dot is 2 to 6 letters.</li>
+ * </ul>
+ * Letters are matched case-insensitively.
+ */
+public final class EmailValidator {
+
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_TLD_LENGTH = 6;
+
+    private EmailValidator() {
+    }
+
+    /**
+     * Checks whether the given value is a well-formed email address.
+     *
+     * @param email The value to check; may be null.
+     * @return true if the value is a well-formed email address, false otherwise.
+     */
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int atIndex = -1;
+        int lastDotIndex = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (atIndex >= 0 || i == 0) {
+                    return false;
+                }
+                atIndex = i;
+            } else if (atIndex < 0) {
+                if (!isLocalPartChar(c)) {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDotIndex = i;
+            } else if (!isDomainChar(c)) {
+                return false;
+            }
+        }
+
+        if (atIndex < 0 || lastDotIndex <= atIndex + 1) {
+            return false;
+        }
+        int tldLength = length - lastDotIndex - 1;
+        if (tldLength < MIN_TLD_LENGTH || tldLength > MAX_TLD_LENGTH) {
+            return false;
+        }
+        for (int i = lastDotIndex + 1; i < length; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the canonical form of an email address: the same address with ASCII letters in lower case.
+     * The given instance is returned as is when it is already canonical.
+     *
+     * @param email The email address to normalize; may be null.
+     * @return The canonical form of the address, or null if the given value is null.
+     */
+    public static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        int length = email.length();
+        int firstUpper = 0;
+        while (firstUpper < length && !isUpperCase(email.charAt(firstUpper))) {
+            firstUpper++;
+        }
+        if (firstUpper == length) {
+            return email;
+        }
+        char[] chars = new char[length];
+        email.getChars(0, length, chars, 0);
+        for (int i = firstUpper; i < length; i++) {
+            if (isUpperCase(chars[i])) {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '-';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || isUpperCase(c);
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
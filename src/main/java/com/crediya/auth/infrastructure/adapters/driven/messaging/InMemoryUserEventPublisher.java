@@ -0,0 +1,52 @@
+package com.crediya.auth.infrastructure.adapters.driven.messaging;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.domain.ports.out.UserEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A {@link UserEventPublisher} that keeps the most recently published events in memory.
+ * Used when no broker-backed publisher is configured, and by tests to observe what the outbox relay delivered.
+ */
+@Slf4j
+public class InMemoryUserEventPublisher implements UserEventPublisher {
+
+    private final int capacity;
+    private final Deque<UserRegistered> events = new ArrayDeque<>();
+
+    /**
+     * @param capacity The number of most recent events kept; older ones are discarded.
+     */
+    public InMemoryUserEventPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Mono<Void> publish(List<UserRegistered> batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (events) {
+                for (UserRegistered event : batch) {
+                    if (events.size() == capacity) {
+                        events.removeFirst();
+                    }
+                    events.addLast(event);
+                }
+            }
+            log.debug("Published {} user events in memory.", batch.size());
+        });
+    }
+
+    /**
+     * @return The events kept, oldest first.
+     */
+    public List<UserRegistered> published() {
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+}
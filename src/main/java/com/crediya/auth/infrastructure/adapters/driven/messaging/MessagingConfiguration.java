@@ -0,0 +1,19 @@
+package com.crediya.auth.infrastructure.adapters.driven.messaging;
+
+import com.crediya.auth.domain.ports.out.UserEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MessagingConfiguration {
+
+    /**
+     * Keeps published events in memory unless a publisher for a real destination is provided.
+     */
+    @Bean
+    @ConditionalOnMissingBean(UserEventPublisher.class)
+    public InMemoryUserEventPublisher userEventPublisher() {
+        return new InMemoryUserEventPublisher(10_000);
+    }
+}
@@ -0,0 +1,64 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates the connection pools of the databases used next to the primary one, like shards and read replicas.
+ */
+public final class ConnectionPools {
+
+    private static final String USER_SCHEMA_LOCATION = "user-schema.sql";
+    private static final String OUTBOX_SCHEMA_LOCATION = "outbox-schema.sql";
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * Creates a pool for the given database. Connections are opened as they are needed.
+     *
+     * @param url         The R2DBC URL of the database.
+     * @param username    The user to connect with, or null to use the one in the URL.
+     * @param password    The password to connect with, or null to use the one in the URL.
+     * @param maxPoolSize The maximum number of pooled connections.
+     * @return The pool.
+     */
+    public static ConnectionPool create(String url, String username, String password, int maxPoolSize) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+        if (StringUtils.hasText(username)) {
+            builder.username(username);
+        }
+        if (password != null) {
+            builder.password(password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(builder.build())
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    /**
+     * Creates the 'usuario' table and its unique email index in the given database when they do not exist yet.
+     *
+     * @param connectionFactory The database to initialize.
+     * @return A Mono completing once the schema exists.
+     */
+    public static Mono<Void> initializeUserSchema(ConnectionFactory connectionFactory) {
+        return new ResourceDatabasePopulator(new ClassPathResource(USER_SCHEMA_LOCATION)).populate(connectionFactory);
+    }
+
+    /**
+     * Creates the 'outbox_evento' table in the given database when it does not exist yet.
+     *
+     * @param connectionFactory The database to initialize.
+     * @return A Mono completing once the schema exists.
+     */
+    public static Mono<Void> initializeOutboxSchema(ConnectionFactory connectionFactory) {
+        return new ResourceDatabasePopulator(new ClassPathResource(OUTBOX_SCHEMA_LOCATION)).populate(connectionFactory);
+    }
+}
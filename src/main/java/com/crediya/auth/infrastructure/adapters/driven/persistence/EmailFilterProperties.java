@@ -0,0 +1,19 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for the optional in-memory email existence filter.
+ *
+ * @param enabled                  Whether the filter is placed in front of the user repository.
+ * @param expectedInsertions       The number of emails the filter is sized for.
+ * @param falsePositiveProbability The target false-positive probability at that size.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.email-filter")
+public record EmailFilterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveProbability
+) {
+}
@@ -0,0 +1,147 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence;
+
+import com.crediya.auth.domain.ports.out.UserEventPublisher;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.cache.CachingUserRepository;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.filter.BloomFilterUserRepository;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.filter.EmailBloomFilter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.OutboxProperties;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.OutboxRelay;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.UserEventOutboxAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.replica.ReadReplicaUserRepository;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.replica.ReplicaRoutingConnectionFactory;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataRepository;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.shard.ShardedUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import reactor.core.Disposable;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Wires the connection pool warm-up, the decorators that sit in front of the {@link UserRepositoryAdapter} (or of the
+ * {@link ShardedUserRepository}) and the outbox relay.
+ */
+@Slf4j
+@Configuration
+public class PersistenceConfiguration {
+
+    /**
+     * Opens the pool's initial connections, and the read replica's when enabled, before the application reports ready, so the first requests after startup
+     * or a scale-out do not pay for connection creation. Application runners complete before readiness is published.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(prefix = "crediya.persistence.pool.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner connectionPoolWarmUp(ConnectionFactory connectionFactory, PoolWarmUpProperties properties) {
+        List<ConnectionFactory> targets = connectionFactory instanceof ReplicaRoutingConnectionFactory routing
+                ? List.of(routing.primary(), routing.replica())
+                : List.of(connectionFactory);
+        return args -> {
+            for (ConnectionFactory target : targets) {
+                if (target instanceof ConnectionPool connectionPool) {
+                    Integer opened = connectionPool.warmup().block(properties.timeout());
+                    log.info("R2DBC connection pool warmed up: {} connections opened, {} allocated.", opened,
+                            connectionPool.getMetrics().map(metrics -> metrics.allocatedSize()).orElse(-1));
+                }
+            }
+        };
+    }
+
+    /**
+     * Assembles the {@link UserRepository} used by the application: the adapter, or the shards when enabled, optionally
+     * behind the email filter, behind the lookup cache when enabled.
+     */
+    @Bean
+    @Primary
+    public UserRepository userRepository(UserRepositoryAdapter userRepositoryAdapter,
+                                         ObjectProvider<ShardedUserRepository> shardedUserRepository,
+                                         ObjectProvider<ReadReplicaUserRepository> readReplicaUserRepository,
+                                         ObjectProvider<BloomFilterUserRepository> bloomFilterUserRepository,
+                                         UserCacheProperties userCacheProperties,
+                                         MeterRegistry meterRegistry) {
+        UserRepository userRepository = bloomFilterUserRepository.getIfAvailable();
+        if (userRepository == null) {
+            userRepository = storage(userRepositoryAdapter, shardedUserRepository, readReplicaUserRepository);
+        }
+        if (userCacheProperties.enabled()) {
+            userRepository = new CachingUserRepository(userRepository, userCacheProperties.maximumSize(),
+                    userCacheProperties.timeToLive(), meterRegistry);
+        }
+        return userRepository;
+    }
+
+    /**
+     * Places an {@link EmailBloomFilter} in front of the user repository when enabled.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "crediya.persistence.email-filter", name = "enabled", havingValue = "true")
+    public BloomFilterUserRepository bloomFilterUserRepository(UserRepositoryAdapter userRepositoryAdapter,
+                                                               ObjectProvider<ShardedUserRepository> shardedUserRepository,
+                                                               ObjectProvider<ReadReplicaUserRepository> readReplicaUserRepository,
+                                                               EmailFilterProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        EmailBloomFilter filter = new EmailBloomFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+        return new BloomFilterUserRepository(storage(userRepositoryAdapter, shardedUserRepository, readReplicaUserRepository), filter, meterRegistry);
+    }
+
+    /**
+     * Fills the email filter with a streaming scan of the 'usuario' table, or of every shard, once the application has
+     * started. Checks fall through to the database until the scan completes.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "crediya.persistence.email-filter", name = "enabled", havingValue = "true")
+    public ApplicationRunner emailFilterWarmUp(BloomFilterUserRepository bloomFilterUserRepository,
+                                               UserDataRepository userDataRepository,
+                                               ObjectProvider<ShardedUserRepository> shardedUserRepository) {
+        ShardedUserRepository shards = shardedUserRepository.getIfAvailable();
+        return args -> bloomFilterUserRepository
+                .warmUp(shards != null ? shards.findAllNormalizedEmails() : userDataRepository.findAllNormalizedEmails())
+                .subscribe(null, error -> log.error("Email filter warm-up failed; checks keep falling through to the database.", error));
+    }
+
+    /**
+     * The repository that actually stores users: the shards when sharding is enabled, otherwise the primary database,
+     * with reads routed to its replica when enabled. Sharding and the replica cannot both be enabled; see
+     * {@code ShardingConfiguration}.
+     */
+    private static UserRepository storage(UserRepositoryAdapter userRepositoryAdapter,
+                                          ObjectProvider<ShardedUserRepository> shardedUserRepository,
+                                          ObjectProvider<ReadReplicaUserRepository> readReplicaUserRepository) {
+        ShardedUserRepository shards = shardedUserRepository.getIfAvailable();
+        if (shards != null) {
+            return shards;
+        }
+        ReadReplicaUserRepository readReplica = readReplicaUserRepository.getIfAvailable();
+        return readReplica != null ? readReplica : userRepositoryAdapter;
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(UserEventOutboxAdapter userEventOutboxAdapter, UserEventPublisher userEventPublisher,
+                                   OutboxProperties properties, MeterRegistry meterRegistry) {
+        return new OutboxRelay(userEventOutboxAdapter, userEventPublisher, properties, Clock.systemUTC(), meterRegistry, "primary");
+    }
+
+    /**
+     * Drains the outbox in the background for as long as the application runs. Starts only once the schema has been
+     * initialized, since the first poll runs right away.
+     */
+    @Bean(destroyMethod = "dispose")
+    @DependsOnDatabaseInitialization
+    @ConditionalOnProperty(prefix = "crediya.persistence.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public Disposable outboxRelayTask(OutboxRelay outboxRelay) {
+        return outboxRelay.start();
+    }
+}
@@ -0,0 +1,20 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the eager warm-up of the R2DBC connection pool.
+ * Pool sizing, timeouts and validation are configured through the standard {@code spring.r2dbc.pool.*} properties.
+ *
+ * @param enabled Whether the pool is filled up to its initial size before the application reports ready.
+ * @param timeout The maximum time to wait for the warm-up to complete.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.pool.warm-up")
+public record PoolWarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration timeout
+) {
+}
@@ -0,0 +1,21 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the in-process cache in front of user lookups.
+ *
+ * @param enabled     Whether lookups by id and by email are cached.
+ * @param maximumSize The maximum number of users kept in each cache.
+ * @param timeToLive  How long a cached user is served before it is reloaded.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.user-cache")
+public record UserCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration timeToLive
+) {
+}
@@ -1,39 +1,137 @@
 package com.crediya.auth.infrastructure.adapters.driven.persistence;
 
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
 import com.crediya.auth.domain.model.User;
 import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapper;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * This is the driven adapter that implements the UserRepository outbound port.
  *
  * @Repository marks this as a Spring component for persistence.
  */
 @Repository
-@RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
     private final UserDataRepository userDataRepository;
     private final UserMapper userMapper;
+    private final Timer existsByEmailTimer;
+    private final Timer findExistingEmailsTimer;
+    private final Timer findByIdTimer;
+    private final Timer findByEmailTimer;
+    private final Timer findPageTimer;
+    private final Timer saveTimer;
+    private final Timer saveAllTimer;
+
+    public UserRepositoryAdapter(UserDataRepository userDataRepository, UserMapper userMapper, MeterRegistry meterRegistry) {
+        this.userDataRepository = userDataRepository;
+        this.userMapper = userMapper;
+        this.existsByEmailTimer = operationTimer("exists_by_email", meterRegistry);
+        this.findExistingEmailsTimer = operationTimer("find_existing_emails", meterRegistry);
+        this.findByIdTimer = operationTimer("find_by_id", meterRegistry);
+        this.findByEmailTimer = operationTimer("find_by_email", meterRegistry);
+        this.findPageTimer = operationTimer("find_page", meterRegistry);
+        this.saveTimer = operationTimer("save", meterRegistry);
+        this.saveAllTimer = operationTimer("save_all", meterRegistry);
+    }
 
     /**
-     * Checks if a user with the given email already exists.
+     * Checks if a user with the given email already exists, ignoring case.
      *
      * @param email The email to check.
      * @return A reactive stream emitting true if the email exists, false otherwise.
      */
     @Override
     public Mono<Boolean> existsByEmail(String email) {
-        return this.userDataRepository.existsByEmail(email);
+        return timed(this.userDataRepository.existsByNormalizedEmail(EmailValidator.normalize(email)), existsByEmailTimer);
+    }
+
+    /**
+     * Finds which of the given emails are already registered, ignoring case, using a single query.
+     *
+     * @param emails The emails to check.
+     * @return A reactive stream emitting the subset of the given emails that already exist, as they were given.
+     */
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Flux.empty();
+        }
+        Map<String, List<String>> emailsByNormalized = emails.stream()
+                .collect(Collectors.groupingBy(EmailValidator::normalize));
+        return timed(this.userDataRepository.findExistingNormalizedEmails(emailsByNormalized.keySet()).collectList(), findExistingEmailsTimer)
+                .flatMapIterable(existingEmails -> existingEmails)
+                .flatMapIterable(emailsByNormalized::get);
+    }
+
+    /**
+     * Finds a user by their identifier.
+     *
+     * @param id The identifier of the user.
+     * @return A reactive stream emitting the user, or empty if there is no user with that identifier.
+     */
+    @Override
+    public Mono<User> findById(Long id) {
+        return timed(userDataRepository.findById(id), findByIdTimer)
+                .map(userMapper::toDomain);
+    }
+
+    /**
+     * Finds a user by their email, ignoring case.
+     *
+     * @param email The email of the user.
+     * @return A reactive stream emitting the user, or empty if there is no user with that email.
+     */
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return timed(userDataRepository.findByNormalizedEmail(EmailValidator.normalize(email)), findByEmailTimer)
+                .map(userMapper::toDomain);
+    }
+
+    /**
+     * Finds a page of users in ascending identifier order, starting right after the given identifier.
+     *
+     * @param afterId The identifier to start after, or null to start from the beginning.
+     * @param limit   The maximum number of users to return.
+     * @return A reactive stream emitting at most {@code limit} users.
+     */
+    @Override
+    public Flux<User> findPageAfter(Long afterId, int limit) {
+        return timed(userDataRepository.findPageAfter(keyOf(afterId), limit).collectList(), findPageTimer)
+                .flatMapIterable(page -> page)
+                .map(userMapper::toDomain);
+    }
+
+    /**
+     * Streams every user in ascending identifier order, starting right after the given identifier.
+     * Each row is mapped as it arrives, so memory use does not depend on the size of the table.
+     *
+     * @param afterId The identifier to start after, or null to start from the beginning.
+     * @return A reactive stream emitting the users.
+     */
+    @Override
+    public Flux<User> streamAfter(Long afterId) {
+        return userDataRepository.streamAfter(keyOf(afterId))
+                .map(userMapper::toDomain);
     }
 
     /**
      * Persists a new User object.
+     * A violation of the UNIQUE constraint on the email column is translated into an {@link EmailAlreadyExistsException}.
      *
      * @param user The domain model object to save.
      * @return A reactive stream emitting the saved User, potentially with updated state from the database (like an ID).
@@ -43,8 +141,48 @@ public class UserRepositoryAdapter implements UserRepository {
 
         UserData userDataToSave = userMapper.toData(user);
 
-        return userDataRepository
-                .save(userDataToSave)
-                .map(userMapper::toDomain);
+        return timed(userDataRepository.save(userDataToSave), saveTimer)
+                .map(userMapper::toDomain)
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> new EmailAlreadyExistsException("Email " + user.getEmail() + " is already registered.", ex));
+    }
+
+    /**
+     * Persists several new User objects using a single batched statement.
+     * A violation of the UNIQUE constraint on the email column is translated into an {@link EmailAlreadyExistsException}.
+     *
+     * @param users The domain model objects to save.
+     * @return A reactive stream emitting the saved Users, in the same order as the input.
+     */
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+
+        List<UserData> userDataToSave = users.stream()
+                .map(userMapper::toData)
+                .toList();
+
+        return timed(userDataRepository.insertAll(userDataToSave).collectList(), saveAllTimer)
+                .flatMapIterable(savedUsers -> savedUsers)
+                .map(userMapper::toDomain)
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> new EmailAlreadyExistsException("One or more emails in the batch are already registered.", ex));
+    }
+
+    private static long keyOf(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    private static Timer operationTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("user.repository.operations")
+                .description("Time spent in user persistence operations, including the database round trip")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static <T> Mono<T> timed(Mono<T> operation, Timer timer) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return operation.doFinally(signal -> sample.stop(timer));
+        });
     }
 }
@@ -0,0 +1,93 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.cache;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link UserRepository} decorator that serves user lookups from bounded, TTL-evicted in-process caches.
+ *
+ * Misses are loaded asynchronously from the delegate; concurrent misses for the same key share a single load.
+ * Emails are cached by their normalized form. Lookups that find no user are not cached. Entries are invalidated whenever a user is saved.
+ */
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final AsyncCache<Long, User> usersById;
+    private final AsyncCache<String, User> usersByEmail;
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by.id");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "users.by.email");
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return Mono.fromFuture(() -> usersById.get(id, (key, executor) -> delegate.findById(key).toFuture()), true);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return Mono.fromFuture(() -> usersByEmail.get(EmailValidator.normalize(email), (key, executor) -> delegate.findByEmail(key).toFuture()), true);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public Flux<User> findPageAfter(Long afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<User> streamAfter(Long afterId) {
+        return delegate.streamAfter(afterId);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doOnNext(this::invalidate);
+    }
+
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+        return delegate.saveAll(users)
+                .doOnNext(this::invalidate);
+    }
+
+    private void invalidate(User user) {
+        usersByEmail.synchronous().invalidate(EmailValidator.normalize(user.getEmail()));
+        if (user.getId() != null) {
+            usersById.synchronous().invalidate(user.getId());
+        }
+    }
+}
@@ -34,6 +34,12 @@ public class UserData {
     @Column("email")
     private String email;
 
+    /**
+     * The email in its canonical form, used for case-insensitive uniqueness and lookups through its unique index.
+     */
+    @Column("email_normalizado")
+    private String normalizedEmail;
+
     @Column("documento_identidad")
     private String identityNumber;
 
@@ -51,4 +57,7 @@ public class UserData {
 
     @Column("salario_base")
     private BigDecimal baseSalary;
+
+    @Column("password_hash")
+    private String passwordHash;
 }
@@ -0,0 +1,153 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.filter;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link UserRepository} decorator that answers email existence checks from an in-memory {@link EmailBloomFilter}.
+ *
+ * Emails are kept in their normalized form, so membership is case-insensitive like the database unique index.
+ * "Definitely absent" answers skip the database; "maybe present" answers fall through to the delegate.
+ * Until {@link #warmUp(Flux)} completes every check falls through, so the filter never reports a false negative.
+ */
+@Slf4j
+public class BloomFilterUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final EmailBloomFilter filter;
+    private final Counter absentCounter;
+    private final Counter maybePresentCounter;
+    private final Counter falsePositiveCounter;
+    private volatile boolean ready;
+
+    public BloomFilterUserRepository(UserRepository delegate, EmailBloomFilter filter, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.filter = filter;
+        this.absentCounter = Counter.builder("user.email.filter.checks")
+                .description("Email existence checks answered by the filter")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybePresentCounter = Counter.builder("user.email.filter.checks")
+                .description("Email existence checks answered by the filter")
+                .tag("result", "maybe_present")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("user.email.filter.false.positives")
+                .description("Maybe-present answers that the database reported as absent")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.false.positive.rate", this, BloomFilterUserRepository::observedFalsePositiveRate)
+                .description("Observed share of maybe-present answers that turned out to be absent")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.expected.false.positive.rate", filter, EmailBloomFilter::expectedFalsePositiveProbability)
+                .description("Theoretical false-positive probability for the current fill level")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.memory", filter, EmailBloomFilter::memoryBytes)
+                .description("Memory used by the filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fills the filter from a stream of stored emails and starts answering from it once the stream completes.
+     *
+     * @param storedEmails A stream of every email currently stored.
+     * @return A Mono that completes when the filter is ready.
+     */
+    public Mono<Void> warmUp(Flux<String> storedEmails) {
+        return storedEmails
+                .doOnNext(email -> filter.put(EmailValidator.normalize(email)))
+                .count()
+                .doOnNext(count -> {
+                    ready = true;
+                    log.info("Email filter warmed up with {} emails ({} bytes).", count, filter.memoryBytes());
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        if (!ready) {
+            return delegate.existsByEmail(email);
+        }
+        if (!filter.mightContain(EmailValidator.normalize(email))) {
+            absentCounter.increment();
+            return Mono.just(false);
+        }
+        maybePresentCounter.increment();
+        return delegate.existsByEmail(email)
+                .doOnNext(exists -> {
+                    if (!exists) {
+                        falsePositiveCounter.increment();
+                    }
+                });
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        if (!ready) {
+            return delegate.findExistingEmails(emails);
+        }
+        List<String> maybePresent = emails.stream()
+                .filter(email -> filter.mightContain(EmailValidator.normalize(email)))
+                .toList();
+        absentCounter.increment(emails.size() - maybePresent.size());
+        maybePresentCounter.increment(maybePresent.size());
+        if (maybePresent.isEmpty()) {
+            return Flux.empty();
+        }
+        return delegate.findExistingEmails(maybePresent)
+                .collectList()
+                .doOnNext(found -> falsePositiveCounter.increment(maybePresent.size() - found.size()))
+                .flatMapIterable(found -> found);
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        if (ready && !filter.mightContain(EmailValidator.normalize(email))) {
+            absentCounter.increment();
+            return Mono.empty();
+        }
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Flux<User> findPageAfter(Long afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<User> streamAfter(Long afterId) {
+        return delegate.streamAfter(afterId);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doOnNext(savedUser -> filter.put(EmailValidator.normalize(savedUser.getEmail())));
+    }
+
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+        return delegate.saveAll(users)
+                .doOnNext(savedUser -> filter.put(EmailValidator.normalize(savedUser.getEmail())));
+    }
+
+    private double observedFalsePositiveRate() {
+        double maybePresent = maybePresentCounter.count();
+        return maybePresent == 0 ? 0 : falsePositiveCounter.count() / maybePresent;
+    }
+}
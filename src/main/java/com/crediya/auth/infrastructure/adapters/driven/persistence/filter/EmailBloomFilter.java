@@ -0,0 +1,128 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe Bloom filter over email strings.
+ *
+ * A negative answer from {@link #mightContain(String)} is definitive; a positive answer may be a false positive
+ * with a probability that depends on how full the filter is.
+ */
+public class EmailBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * Creates a filter sized for the expected number of emails and the target false-positive probability.
+     *
+     * @param expectedInsertions       The number of emails the filter is expected to hold.
+     * @param falsePositiveProbability The desired false-positive probability at that size, between 0 and 1.
+     */
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive.");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+        int wordCount = Math.toIntExact((optimalBits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN_2));
+    }
+
+    /**
+     * Records an email as present.
+     *
+     * @param email The email to add.
+     */
+    public void put(String email) {
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * Checks whether an email may have been added.
+     *
+     * @param email The email to check.
+     * @return false if the email was definitely never added, true if it may have been.
+     */
+    public boolean mightContain(String email) {
+        long hash = hash(email);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!isBitSet(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The false-positive probability expected for the current number of insertions.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions.get() / bitCount), hashCount);
+    }
+
+    /**
+     * @return The number of bytes used by the bit array.
+     */
+    public long memoryBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * @return The number of insertions performed so far, including repeated ones.
+     */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean isBitSet(long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,6 +1,7 @@
 package com.crediya.auth.infrastructure.adapters.driven.persistence.mapper;
 
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.validation.EmailValidator;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,24 +11,29 @@ import org.mapstruct.Mapping;
  *
  * @Mapper(componentModel = "spring") tells MapStruct to generate an implementation that is a Spring component, which can be injected into other beans.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = EmailValidator.class)
 public interface UserMapper {
 
     /**
      * Maps a UserData entity to a User domain model.
-     * MapStruct automatically maps fields with the same name.
+     * MapStruct automatically maps fields with the same name; the {@code withX} copy methods of the immutable User are
+     * not properties and are ignored.
      *
      * @param userData The persistence entity.
      * @return The corresponding User domain model.
      */
+    @Mapping(target = "withPasswordHash", ignore = true)
+    @Mapping(target = "withId", ignore = true)
     User toDomain(UserData userData);
 
     /**
      * Maps a User domain model to a UserData entity.
+     * The normalized email is computed here, once per write, so that lookups never have to normalize stored rows.
      *
      * @param user The domain model.
      * @return The corresponding UserData persistence entity.
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "normalizedEmail", expression = "java(EmailValidator.normalize(user.getEmail()))")
     UserData toData(User user);
 }
\ No newline at end of file
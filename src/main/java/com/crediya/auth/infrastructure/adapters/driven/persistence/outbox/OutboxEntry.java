@@ -0,0 +1,15 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.outbox;
+
+import com.crediya.auth.domain.model.UserRegistered;
+
+import java.time.Instant;
+
+/**
+ * A pending event read from the 'outbox_evento' table.
+ *
+ * @param id        The identifier of the outbox row.
+ * @param event     The event to publish.
+ * @param createdAt The instant the row was written.
+ */
+public record OutboxEntry(Long id, UserRegistered event, Instant createdAt) {
+}
@@ -0,0 +1,25 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the relay that drains the event outbox.
+ *
+ * @param relayEnabled Whether this instance runs the relay. Relays of several instances share the outbox by claiming
+ *                     the rows they publish.
+ * @param batchSize    The maximum number of events claimed, published and deleted at a time.
+ * @param pollInterval How long the relay waits between checks once the outbox is empty.
+ * @param lease        How long a claimed batch is reserved for the relay that claimed it; once it expires, for
+ *                     instance because that relay stopped, another relay publishes the batch again.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("30s") Duration lease
+) {
+}
@@ -0,0 +1,127 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.outbox;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.domain.ports.out.UserEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the event outbox into the {@link UserEventPublisher}, in batches and in the order the events were written.
+ *
+ * Each batch is claimed, published and then deleted, so the outbox only holds events still to be delivered; if the
+ * service stops between publishing and deleting, the batch is published again once its claim expires. Relays on
+ * several instances claim different batches, so each event is published once; batches of different instances may be
+ * published out of order. While batches come back full the relay keeps going; once the outbox is empty it waits for
+ * the poll interval. Every outbox, the primary database's and each shard's, has its own relay, and its meters are
+ * tagged with the outbox name.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final String name;
+    private final UserEventOutboxAdapter outbox;
+    private final UserEventPublisher publisher;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Clock clock;
+    private final AtomicLong oldestPendingEpochMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Timer deliveryDelayTimer;
+
+    public OutboxRelay(UserEventOutboxAdapter outbox, UserEventPublisher publisher, OutboxProperties properties,
+                       Clock clock, MeterRegistry meterRegistry, String name) {
+        this.name = name;
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.batchSize = properties.batchSize();
+        this.pollInterval = properties.pollInterval();
+        this.lease = properties.lease();
+        this.clock = clock;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Events relayed from the outbox to the publisher")
+                .tag("outbox", name)
+                .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("outbox.event.delay")
+                .description("Time from an event being written to the outbox to it being published")
+                .tag("outbox", name)
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest event waiting in the outbox, in seconds")
+                .baseUnit("seconds")
+                .tag("outbox", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts relaying in the background; the first poll runs right away.
+     *
+     * @return A handle that stops the relay when disposed.
+     */
+    public Disposable start() {
+        return Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> relayPending()
+                        .onErrorResume(ex -> {
+                            log.warn("Relay of the {} outbox failed; retrying in {}.", name, pollInterval, ex);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    /**
+     * Relays batches until the outbox is empty.
+     *
+     * @return A reactive stream emitting the number of events relayed.
+     */
+    public Mono<Long> relayPending() {
+        return relayBatch()
+                .expand(relayed -> relayed == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Integer> relayBatch() {
+        return outbox.claimOldest(batchSize, lease)
+                .collectList()
+                .flatMap(entries -> {
+                    if (entries.isEmpty()) {
+                        oldestPendingEpochMillis.set(0);
+                        return Mono.just(0);
+                    }
+                    oldestPendingEpochMillis.set(entries.get(0).createdAt().toEpochMilli());
+                    List<UserRegistered> events = entries.stream().map(OutboxEntry::event).toList();
+                    List<Long> ids = entries.stream().map(OutboxEntry::id).toList();
+                    return publisher.publish(events)
+                            .onErrorResume(ex -> outbox.release(ids)
+                                    .onErrorResume(releaseError -> Mono.empty())
+                                    .then(Mono.error(ex)))
+                            .then(outbox.delete(ids))
+                            .then(Mono.fromSupplier(() -> {
+                                long now = clock.millis();
+                                entries.forEach(entry -> deliveryDelayTimer.record(Duration.ofMillis(now - entry.createdAt().toEpochMilli())));
+                                publishedCounter.increment(entries.size());
+                                if (entries.size() < batchSize) {
+                                    oldestPendingEpochMillis.set(0);
+                                }
+                                log.debug("Relayed {} events from the {} outbox.", entries.size(), name);
+                                return entries.size();
+                            }));
+                });
+    }
+
+    private double lagSeconds() {
+        long oldest = oldestPendingEpochMillis.get();
+        return oldest == 0 ? 0 : Math.max(0, clock.millis() - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.outbox;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.domain.ports.out.UserEventOutbox;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The adapter for the 'outbox_evento' table: events are appended as JSON rows by the registration transaction, and
+ * claimed, oldest first, and deleted by the {@link OutboxRelay}.
+ *
+ * A claim marks rows with a claim id and a lease expiry in a single UPDATE, so relays running on several instances
+ * never read the same rows while a lease lasts; rows whose lease expired, because their relay stopped before deleting
+ * them, can be claimed again.
+ */
+@Component
+public class UserEventOutboxAdapter implements UserEventOutbox {
+
+    static final String USER_REGISTERED = "UserRegistered";
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_evento (tipo, id_agregado, payload, fecha_creacion) VALUES ($1, $2, $3, $4)";
+    // The lease condition is repeated outside the subquery so that it is checked again on rows another claim locked first
+    private static final String CLAIM_SQL = "UPDATE outbox_evento SET reclamado_por = :claim, reclamado_hasta = :until"
+            + " WHERE (reclamado_hasta IS NULL OR reclamado_hasta < :now) AND id_evento IN ("
+            + "SELECT id_evento FROM outbox_evento WHERE reclamado_hasta IS NULL OR reclamado_hasta < :now ORDER BY id_evento LIMIT :limit)";
+    private static final String SELECT_CLAIMED_SQL = "SELECT id_evento, payload, fecha_creacion FROM outbox_evento WHERE reclamado_por = :claim ORDER BY id_evento";
+    private static final String DELETE_SQL = "DELETE FROM outbox_evento WHERE id_evento IN (:ids)";
+    private static final String RELEASE_SQL = "UPDATE outbox_evento SET reclamado_por = NULL, reclamado_hasta = NULL WHERE id_evento IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public UserEventOutboxAdapter(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Appends the events with a single batched INSERT, on the connection of the surrounding transaction.
+     */
+    @Override
+    public Mono<Void> append(List<UserRegistered> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient
+                .inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_SQL);
+                    OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+                    for (int i = 0; i < events.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        UserRegistered event = events.get(i);
+                        statement.bind(0, USER_REGISTERED)
+                                .bind(1, event.userId())
+                                .bind(2, toJson(event))
+                                .bind(3, createdAt);
+                    }
+                    return Flux.from(statement.execute()).flatMap(result -> result.getRowsUpdated());
+                })
+                .then();
+    }
+
+    /**
+     * Claims the oldest events that are not claimed, or whose claim expired, for the given lease.
+     *
+     * @param limit The maximum number of events to claim.
+     * @param lease How long the events stay claimed; longer than it takes to publish and delete them.
+     * @return A reactive stream emitting the claimed events in the order they were appended.
+     */
+    public Flux<OutboxEntry> claimOldest(int limit, Duration lease) {
+        return Flux.defer(() -> {
+            String claim = UUID.randomUUID().toString();
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+            return databaseClient.sql(CLAIM_SQL)
+                    .bind("claim", claim)
+                    .bind("until", now.plus(lease))
+                    .bind("now", now)
+                    .bind("limit", limit)
+                    .fetch()
+                    .rowsUpdated()
+                    .flatMapMany(claimed -> claimed == 0
+                            ? Flux.empty()
+                            : databaseClient.sql(SELECT_CLAIMED_SQL)
+                            .bind("claim", claim)
+                            .map((row, metadata) -> toEntry(row))
+                            .all());
+        });
+    }
+
+    /**
+     * Removes published events from the outbox.
+     *
+     * @param ids The identifiers of the outbox rows to remove.
+     * @return A reactive stream emitting the number of rows removed.
+     */
+    public Mono<Long> delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(DELETE_SQL)
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Gives up the claim on events that could not be published, so any relay can retry them without waiting for the
+     * lease to expire.
+     *
+     * @param ids The identifiers of the outbox rows to release.
+     * @return A reactive stream emitting the number of rows released.
+     */
+    public Mono<Long> release(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(RELEASE_SQL)
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private OutboxEntry toEntry(Row row) {
+        return new OutboxEntry(
+                row.get("id_evento", Long.class),
+                fromJson(row.get("payload", String.class)),
+                row.get("fecha_creacion", OffsetDateTime.class).toInstant());
+    }
+
+    private String toJson(UserRegistered event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize event for user " + event.userId() + ".", ex);
+        }
+    }
+
+    private UserRegistered fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, UserRegistered.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not deserialize outbox event.", ex);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.replica;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.replica.ReplicaRoutingConnectionFactory.Route;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link UserRepository} decorator that sends reads to the read replica through a {@link ReplicaRoutingConnectionFactory}.
+ *
+ * Reads of a user saved by this instance within the read-your-writes window go to the primary. A user looked up by id
+ * or email that the replica does not have is looked up again on the primary, so a user just registered through any
+ * instance is never reported missing because of replication lag. Reads inside a transaction and all writes go to the
+ * primary too. Every decision is counted in {@code user.repository.routing{target, reason}}.
+ */
+public class ReadReplicaUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final Cache<String, Boolean> recentEmails;
+    private final Cache<Long, Boolean> recentIds;
+    private final Counter replicaReads;
+    private final Counter readYourWrites;
+    private final Counter replicaMisses;
+    private final Counter transactionalReads;
+    private final Counter writes;
+
+    public ReadReplicaUserRepository(UserRepository delegate, Duration readYourWritesWindow, long maximumSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.recentEmails = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        this.recentIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        this.replicaReads = routingCounter("replica", "read", meterRegistry);
+        this.readYourWrites = routingCounter("primary", "read_your_writes", meterRegistry);
+        this.replicaMisses = routingCounter("primary", "replica_miss", meterRegistry);
+        this.transactionalReads = routingCounter("primary", "transaction", meterRegistry);
+        this.writes = routingCounter("primary", "write", meterRegistry);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return read(delegate.existsByEmail(email), () -> isRecent(email));
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        return read(delegate.findExistingEmails(emails), () -> emails.stream().anyMatch(this::isRecent));
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return readOrPrimary(delegate.findById(id), () -> recentIds.getIfPresent(id) != null);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return readOrPrimary(delegate.findByEmail(email), () -> isRecent(email));
+    }
+
+    /**
+     * Listings always go to the replica outside transactions; a page may miss users saved within the replication lag.
+     */
+    @Override
+    public Flux<User> findPageAfter(Long afterId, int limit) {
+        return read(delegate.findPageAfter(afterId, limit), () -> false);
+    }
+
+    @Override
+    public Flux<User> streamAfter(Long afterId) {
+        return read(delegate.streamAfter(afterId), () -> false);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return Mono.defer(() -> {
+            writes.increment();
+            return delegate.save(user).doOnNext(this::remember);
+        });
+    }
+
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+        return Flux.defer(() -> {
+            writes.increment();
+            return delegate.saveAll(users).doOnNext(this::remember);
+        });
+    }
+
+    private boolean isRecent(String email) {
+        return recentEmails.getIfPresent(EmailValidator.normalize(email)) != null;
+    }
+
+    private void remember(User user) {
+        recentEmails.put(EmailValidator.normalize(user.getEmail()), Boolean.TRUE);
+        if (user.getId() != null) {
+            recentIds.put(user.getId(), Boolean.TRUE);
+        }
+    }
+
+    private <T> Mono<T> read(Mono<T> operation, BooleanSupplier recentlyWritten) {
+        return route(recentlyWritten).flatMap(route -> operation.contextWrite(context -> context.put(ReplicaRoutingConnectionFactory.ROUTE_KEY, route)));
+    }
+
+    /**
+     * Like {@link #read(Mono, BooleanSupplier)}, but runs the operation again on the primary when the replica finds
+     * nothing, since the row may have been written by another instance within the replication lag.
+     */
+    private <T> Mono<T> readOrPrimary(Mono<T> operation, BooleanSupplier recentlyWritten) {
+        return route(recentlyWritten).flatMap(route -> {
+            Mono<T> read = operation.contextWrite(context -> context.put(ReplicaRoutingConnectionFactory.ROUTE_KEY, route));
+            if (route != Route.REPLICA) {
+                return read;
+            }
+            return read.switchIfEmpty(Mono.defer(() -> {
+                replicaMisses.increment();
+                return operation.contextWrite(context -> context.put(ReplicaRoutingConnectionFactory.ROUTE_KEY, Route.PRIMARY));
+            }));
+        });
+    }
+
+    private <T> Flux<T> read(Flux<T> operation, BooleanSupplier recentlyWritten) {
+        return route(recentlyWritten).flatMapMany(route -> operation.contextWrite(context -> context.put(ReplicaRoutingConnectionFactory.ROUTE_KEY, route)));
+    }
+
+    /**
+     * Decides where a read goes and counts the decision. Reads inside a transaction would use its primary connection
+     * regardless; they are counted separately to show how many reads the replica cannot take.
+     */
+    private Mono<Route> route(BooleanSupplier recentlyWritten) {
+        return Mono.defer(() -> {
+            if (recentlyWritten.getAsBoolean()) {
+                readYourWrites.increment();
+                return Mono.just(Route.PRIMARY);
+            }
+            return ReplicaRoutingConnectionFactory.inTransaction().map(transactional -> {
+                if (transactional) {
+                    transactionalReads.increment();
+                    return Route.PRIMARY;
+                }
+                replicaReads.increment();
+                return Route.REPLICA;
+            });
+        });
+    }
+
+    private static Counter routingCounter(String target, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("user.repository.routing")
+                .description("User persistence operations by the database they were routed to and why")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
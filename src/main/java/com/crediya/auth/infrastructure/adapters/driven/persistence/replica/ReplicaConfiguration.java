@@ -0,0 +1,73 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.replica;
+
+import com.crediya.auth.infrastructure.adapters.driven.persistence.ConnectionPools;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.UserRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Sends user reads to a read replica of the primary database, when enabled.
+ *
+ * The auto-configured connection factory is replaced by a {@link ReplicaRoutingConnectionFactory} over it and the
+ * replica, so the transaction manager, the repositories and the outbox keep using the primary unless an operation asks
+ * for the replica. Only the {@link ReadReplicaUserRepository} does.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "crediya.persistence.replica", name = "enabled", havingValue = "true")
+public class ReplicaConfiguration {
+
+    private static final String CONNECTION_FACTORY_BEAN = "connectionFactory";
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingConnectionFactoryPostProcessor(ObjectProvider<ReplicaProperties> replicaProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!CONNECTION_FACTORY_BEAN.equals(beanName) || !(bean instanceof ConnectionFactory primary)
+                        || bean instanceof ReplicaRoutingConnectionFactory) {
+                    return bean;
+                }
+                ReplicaProperties properties = replicaProperties.getObject();
+                if (!StringUtils.hasText(properties.url())) {
+                    throw new IllegalStateException("The read replica is enabled but crediya.persistence.replica.url is not set.");
+                }
+                ConnectionPool replica = ConnectionPools.create(properties.url(), properties.username(), properties.password(), properties.maxPoolSize());
+                if (properties.initializeSchema()) {
+                    ConnectionPools.initializeUserSchema(replica).block();
+                }
+                return new ReplicaRoutingConnectionFactory(primary, replica);
+            }
+        };
+    }
+
+    @Bean
+    public ReadReplicaUserRepository readReplicaUserRepository(UserRepositoryAdapter userRepositoryAdapter, ReplicaProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new ReadReplicaUserRepository(userRepositoryAdapter, properties.readYourWritesWindow(),
+                properties.readYourWritesMaximumSize(), meterRegistry);
+    }
+
+    /**
+     * Publishes the replica pool's metrics next to the primary's, tagged {@code name=replica}.
+     */
+    @Bean
+    public MeterBinder replicaConnectionPoolMetrics(ConnectionFactory connectionFactory) {
+        return registry -> {
+            if (connectionFactory instanceof ReplicaRoutingConnectionFactory routing && routing.replica() instanceof ConnectionPool replica) {
+                new ConnectionPoolMetrics(replica, "replica", Tags.empty()).bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for serving user reads from a read replica of the primary database.
+ *
+ * @param enabled                   Whether reads outside transactions are routed to the replica.
+ * @param url                       The R2DBC URL of the replica.
+ * @param username                  The user to connect to the replica with, if not given in the URL.
+ * @param password                  The password to connect to the replica with, if not given in the URL.
+ * @param maxPoolSize               The maximum number of connections pooled for the replica.
+ * @param readYourWritesWindow      How long reads of a just-saved user keep going to the primary; should exceed the
+ *                                  replication lag.
+ * @param readYourWritesMaximumSize The maximum number of recently saved users remembered for that window.
+ * @param initializeSchema          Whether the 'usuario' table is created in the replica at startup when it does not
+ *                                  exist, for local setups without replication.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maxPoolSize,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("100000") long readYourWritesMaximumSize,
+        @DefaultValue("false") boolean initializeSchema
+) {
+}
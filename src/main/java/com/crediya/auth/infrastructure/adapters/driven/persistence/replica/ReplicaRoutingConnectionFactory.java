@@ -0,0 +1,85 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.replica;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Routes connections to the primary database or to its read replica.
+ *
+ * A connection comes from the replica only when the subscriber context holds {@link Route#REPLICA} under
+ * {@link #ROUTE_KEY} and no transaction is active, so everything inside a transaction, including reads that precede a
+ * write, uses the primary. Without the key, connections come from the primary.
+ *
+ * Unwraps to the primary, so its pool is still found by the pool metrics and the health check.
+ */
+public class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements Wrapped<ConnectionFactory> {
+
+    /**
+     * The subscriber context key holding the {@link Route} requested by an operation.
+     */
+    public static final String ROUTE_KEY = ReplicaRoutingConnectionFactory.class.getName() + ".route";
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ConnectionFactory primary;
+    private final ConnectionFactory replica;
+
+    public ReplicaRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetConnectionFactories(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public ConnectionFactory primary() {
+        return primary;
+    }
+
+    public ConnectionFactory replica() {
+        return replica;
+    }
+
+    /**
+     * Emits whether the subscriber is running inside an active transaction.
+     */
+    public static Mono<Boolean> inTransaction() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .map(TransactionSynchronizationManager::isActualTransactionActive)
+                .onErrorResume(NoTransactionException.class, ex -> Mono.just(false));
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> context.getOrDefault(ROUTE_KEY, Route.PRIMARY) == Route.REPLICA
+                ? inTransaction().map(transactional -> transactional ? Route.PRIMARY : Route.REPLICA)
+                : Mono.just(Route.PRIMARY));
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+
+    /**
+     * Closes both pools; invoked as the destroy method of the connection factory bean this one replaces.
+     */
+    public void dispose() {
+        for (ConnectionFactory target : new ConnectionFactory[]{primary, replica}) {
+            if (target instanceof Disposable disposable) {
+                disposable.dispose();
+            }
+        }
+    }
+}
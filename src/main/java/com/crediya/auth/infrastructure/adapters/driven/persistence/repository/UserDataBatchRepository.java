@@ -0,0 +1,20 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.repository;
+
+import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for bulk write operations that Spring Data R2DBC does not derive on its own.
+ */
+public interface UserDataBatchRepository {
+
+    /**
+     * Inserts all the given entities with a single batched statement.
+     *
+     * @param users The entities to insert.
+     * @return A Flux emitting the inserted entities with their generated IDs, in input order.
+     */
+    Flux<UserData> insertAll(List<UserData> users);
+}
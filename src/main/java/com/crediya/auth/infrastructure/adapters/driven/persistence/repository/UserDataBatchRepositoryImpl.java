@@ -0,0 +1,70 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.repository;
+
+import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the {@link UserDataBatchRepository} fragment.
+ * Binds every entity to the same prepared INSERT and sends them as one batch, so a chunk of users costs a single round trip.
+ */
+@RequiredArgsConstructor
+public class UserDataBatchRepositoryImpl implements UserDataBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO usuario "
+            + "(nombre, apellido, email, email_normalizado, documento_identidad, telefono, fecha_nacimiento, direccion, id_rol, salario_base, password_hash) "
+            + "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11)";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<UserData> insertAll(List<UserData> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient
+                .inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_SQL).returnGeneratedValues("id_usuario");
+                    for (int i = 0; i < users.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        bind(statement, users.get(i));
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(result -> result.map((row, metadata) -> row.get("id_usuario", Long.class)));
+                })
+                .zipWithIterable(users, (id, userData) -> {
+                    userData.setId(id);
+                    return userData;
+                });
+    }
+
+    private void bind(Statement statement, UserData userData) {
+        bindNullable(statement, 0, userData.getFirstName(), String.class);
+        bindNullable(statement, 1, userData.getLastName(), String.class);
+        bindNullable(statement, 2, userData.getEmail(), String.class);
+        bindNullable(statement, 3, userData.getNormalizedEmail(), String.class);
+        bindNullable(statement, 4, userData.getIdentityNumber(), String.class);
+        bindNullable(statement, 5, userData.getPhoneNumber(), String.class);
+        bindNullable(statement, 6, userData.getBirthDate(), LocalDate.class);
+        bindNullable(statement, 7, userData.getAddress(), String.class);
+        bindNullable(statement, 8, userData.getIdRole(), String.class);
+        bindNullable(statement, 9, userData.getBaseSalary(), BigDecimal.class);
+        bindNullable(statement, 10, userData.getPasswordHash(), String.class);
+    }
+
+    private void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
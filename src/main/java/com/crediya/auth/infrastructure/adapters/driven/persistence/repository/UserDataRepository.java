@@ -1,21 +1,69 @@
 package com.crediya.auth.infrastructure.adapters.driven.persistence.repository;
 
 import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Spring Data R2DBC repository interface for the UserData entity.
  */
 @Repository
-public interface UserDataRepository extends R2dbcRepository<UserData, Long> {
+public interface UserDataRepository extends R2dbcRepository<UserData, Long>, UserDataBatchRepository {
 
     /**
-     * A custom query method to check for the existence of a user by their email.
+     * A custom query method to check for the existence of a user by their normalized email, served by its unique index.
      *
-     * @param email The email to check for.
+     * @param normalizedEmail The normalized email to check for.
      * @return A Mono<Boolean> emitting true if the email exists, false otherwise.
      */
-    Mono<Boolean> existsByEmail(String email);
+    Mono<Boolean> existsByNormalizedEmail(String normalizedEmail);
+
+    /**
+     * Finds a user by their normalized email, served by its unique index.
+     *
+     * @param normalizedEmail The normalized email to look for.
+     * @return A Mono emitting the user, or empty if there is none.
+     */
+    Mono<UserData> findByNormalizedEmail(String normalizedEmail);
+
+    /**
+     * Finds which of the given normalized emails are already stored, using a single IN query.
+     *
+     * @param normalizedEmails The normalized emails to look for.
+     * @return A Flux emitting the normalized emails that already exist.
+     */
+    @Query("SELECT email_normalizado FROM usuario WHERE email_normalizado IN (:normalizedEmails)")
+    Flux<String> findExistingNormalizedEmails(Collection<String> normalizedEmails);
+
+    /**
+     * Finds a page of users by keyset, in ascending identifier order.
+     *
+     * @param afterId The identifier to start after.
+     * @param limit   The maximum number of rows to return.
+     * @return A Flux emitting at most {@code limit} users whose identifier is greater than {@code afterId}.
+     */
+    @Query("SELECT * FROM usuario WHERE id_usuario > :afterId ORDER BY id_usuario LIMIT :limit")
+    Flux<UserData> findPageAfter(long afterId, int limit);
+
+    /**
+     * Streams every user whose identifier is greater than the given one, in ascending identifier order.
+     *
+     * @param afterId The identifier to start after.
+     * @return A Flux emitting the users as they are requested.
+     */
+    @Query("SELECT * FROM usuario WHERE id_usuario > :afterId ORDER BY id_usuario")
+    Flux<UserData> streamAfter(long afterId);
+
+    /**
+     * Streams every stored normalized email, used to warm up in-memory indexes.
+     *
+     * @return A Flux emitting all stored normalized emails.
+     */
+    @Query("SELECT email_normalizado FROM usuario")
+    Flux<String> findAllNormalizedEmails();
 }
@@ -0,0 +1,96 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import com.crediya.auth.infrastructure.adapters.driven.persistence.ConnectionPools;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The connection pools of the user shards, in shard order.
+ */
+public class ShardConnectionPools {
+
+    private static final String SHARD_SCHEMA_LOCATION = "shard-schema.sql";
+
+    private final List<ConnectionPool> pools;
+
+    private ShardConnectionPools(List<ConnectionPool> pools) {
+        this.pools = pools;
+    }
+
+    /**
+     * Creates a pool for every configured shard URL.
+     *
+     * @param properties The sharding configuration.
+     * @return The pools, not yet connected.
+     * @throws IllegalStateException if no shard URL is configured.
+     */
+    public static ShardConnectionPools create(ShardingProperties properties) {
+        if (properties.urls().isEmpty()) {
+            throw new IllegalStateException("Sharding is enabled but crediya.persistence.sharding.urls lists no shards.");
+        }
+        List<ConnectionPool> pools = properties.urls().stream()
+                .map(url -> ConnectionPools.create(url, properties.username(), properties.password(), properties.maxPoolSize()))
+                .toList();
+        return new ShardConnectionPools(pools);
+    }
+
+    public List<? extends ConnectionFactory> connectionFactories() {
+        return pools;
+    }
+
+    /**
+     * Creates the 'particion', 'usuario' and 'outbox_evento' tables and the unique email index in every shard where they
+     * do not exist yet.
+     */
+    public void initializeSchema() {
+        Flux.fromIterable(pools)
+                .concatMap(pool -> new ResourceDatabasePopulator(new ClassPathResource(SHARD_SCHEMA_LOCATION)).populate(pool)
+                        .then(ConnectionPools.initializeUserSchema(pool))
+                        .then(ConnectionPools.initializeOutboxSchema(pool)))
+                .blockLast();
+    }
+
+    /**
+     * Checks that every shard is still configured at the position and with the shard count it was first used with,
+     * recording them in its 'particion' table on first use. Both decide where users are stored and how identifiers
+     * encode their shard, so they cannot change once users have been stored.
+     *
+     * @throws IllegalStateException if a shard was first used at another position or with another shard count.
+     */
+    public void verifyLayout() {
+        Flux.range(0, pools.size())
+                .concatMap(shard -> verifyLayout(DatabaseClient.create(pools.get(shard)), shard))
+                .blockLast();
+    }
+
+    private Mono<Void> verifyLayout(DatabaseClient databaseClient, int shard) {
+        Mono<List<Integer>> recorded = databaseClient.sql("SELECT indice, total_particiones FROM particion")
+                .map(row -> List.of(row.get("indice", Integer.class), row.get("total_particiones", Integer.class)))
+                .one();
+        Mono<List<Integer>> record = databaseClient.sql("INSERT INTO particion (indice, total_particiones) VALUES (:indice, :total)")
+                .bind("indice", shard)
+                .bind("total", pools.size())
+                .then()
+                // another instance recorded the shard first
+                .onErrorResume(DataIntegrityViolationException.class, ex -> Mono.empty())
+                .then(recorded);
+        return recorded.switchIfEmpty(record)
+                .flatMap(layout -> layout.get(0) == shard && layout.get(1) == pools.size()
+                        ? Mono.empty()
+                        : Mono.error(new IllegalStateException(String.format(
+                                "Shard %d was first used as shard %d of %d but is now configured as shard %d of %d; the number and order of crediya.persistence.sharding.urls cannot change once users are stored.",
+                                shard, layout.get(0), layout.get(1), shard, pools.size()))));
+    }
+
+    public void dispose() {
+        pools.forEach(ConnectionPool::dispose);
+    }
+}
@@ -0,0 +1,263 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.UserRepositoryAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapper;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.UserEventOutboxAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link UserRepository} that spreads users across several databases by a stable hash of their normalized email.
+ *
+ * Every shard holds its own 'usuario' table behind a {@link UserRepositoryAdapter}. Operations on a single email, like
+ * {@link #existsByEmail} and {@link #save}, touch exactly one shard. Identifiers encode their shard: a row with local
+ * identifier {@code l} in shard {@code s} of {@code n} is exposed as {@code l * n + s}, so lookups by identifier are
+ * routed as well, and identifiers stay unique and increasing within each shard. Listings query every shard and merge
+ * the results in identifier order.
+ *
+ * Every shard also holds its own 'outbox_evento' table: {@link #save} and {@link #saveAll} append the
+ * {@link UserRegistered} event of each user in the shard transaction that stores it, so an event exists if and only if
+ * its user was stored, and each shard's outbox has its own relay. Writes do not take part in transactions opened on the
+ * primary database.
+ */
+public class ShardedUserRepository implements UserRepository {
+
+    private static final Comparator<User> BY_ID = Comparator.comparing(User::getId);
+
+    private final List<UserDataRepository> shardRepositories;
+    private final List<UserRepository> shards;
+    private final List<UserEventOutboxAdapter> outboxes;
+    private final List<TransactionalOperator> transactionalOperators;
+    private final List<Counter> routedOperations;
+
+    /**
+     * @param shardRepositories      The 'usuario' table of every shard, in shard order.
+     * @param outboxes               The 'outbox_evento' table of every shard, in shard order.
+     * @param transactionalOperators The transactions of every shard, in shard order.
+     */
+    public ShardedUserRepository(List<UserDataRepository> shardRepositories, List<UserEventOutboxAdapter> outboxes,
+                                 List<TransactionalOperator> transactionalOperators, UserMapper userMapper, MeterRegistry meterRegistry) {
+        if (shardRepositories.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required.");
+        }
+        if (outboxes.size() != shardRepositories.size() || transactionalOperators.size() != shardRepositories.size()) {
+            throw new IllegalArgumentException("Every shard needs an outbox and a transactional operator.");
+        }
+        this.shardRepositories = List.copyOf(shardRepositories);
+        this.outboxes = List.copyOf(outboxes);
+        this.transactionalOperators = List.copyOf(transactionalOperators);
+        this.shards = shardRepositories.stream()
+                .map(shardRepository -> (UserRepository) new UserRepositoryAdapter(shardRepository, userMapper, meterRegistry))
+                .toList();
+        this.routedOperations = IntStream.range(0, shards.size())
+                .mapToObj(shard -> Counter.builder("user.repository.shard.operations")
+                        .description("Single-shard user persistence operations routed to each shard")
+                        .tag("shard", String.valueOf(shard))
+                        .register(meterRegistry))
+                .toList();
+    }
+
+    /**
+     * The number of shards users are spread across.
+     */
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * The outbox of every shard, in shard order, each drained by its own relay.
+     */
+    public List<UserEventOutboxAdapter> outboxes() {
+        return outboxes;
+    }
+
+    /**
+     * Returns the shard that stores the user with the given email.
+     *
+     * @param email The email of the user, in any case.
+     * @return The index of the shard, between zero and the number of shards.
+     */
+    public int shardOf(String email) {
+        return Math.floorMod(hash(EmailValidator.normalize(email)), shards.size());
+    }
+
+    /**
+     * Returns the shard that stores the user with the given identifier.
+     *
+     * @param id An identifier returned by this repository.
+     * @return The index of the shard, between zero and the number of shards.
+     */
+    public int shardOf(Long id) {
+        return (int) Math.floorMod(id, (long) shards.size());
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return shard(shardOf(email)).existsByEmail(email);
+    }
+
+    /**
+     * Finds which of the given emails are already registered, with a single query on each shard that holds any of them.
+     */
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        Map<Integer, List<String>> emailsByShard = emails.stream()
+                .collect(Collectors.groupingBy(this::shardOf, TreeMap::new, Collectors.toList()));
+        return Flux.fromIterable(emailsByShard.entrySet())
+                .flatMap(shardEmails -> shard(shardEmails.getKey()).findExistingEmails(shardEmails.getValue()));
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        int shard = shardOf(id);
+        return shard(shard).findById(Math.floorDiv(id, (long) shards.size()))
+                .map(user -> toGlobal(user, shard));
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        int shard = shardOf(email);
+        return shard(shard).findByEmail(email)
+                .map(user -> toGlobal(user, shard));
+    }
+
+    /**
+     * Finds a page of users in ascending identifier order by asking every shard for a page of the same size and keeping
+     * the first {@code limit} users of their merge.
+     */
+    @Override
+    public Flux<User> findPageAfter(Long afterId, int limit) {
+        return mergeShards(shard -> shards.get(shard).findPageAfter(localAfter(afterId, shard), limit)
+                .map(user -> toGlobal(user, shard)))
+                .take(limit);
+    }
+
+    /**
+     * Streams every user in ascending identifier order by merging the streams of all the shards. Each shard is read as
+     * the merge needs its rows, so memory use does not depend on the size of the tables.
+     */
+    @Override
+    public Flux<User> streamAfter(Long afterId) {
+        return mergeShards(shard -> shards.get(shard).streamAfter(localAfter(afterId, shard))
+                .map(user -> toGlobal(user, shard)));
+    }
+
+    /**
+     * Persists a new user and appends its {@link UserRegistered} event in one transaction of its shard.
+     */
+    @Override
+    public Mono<User> save(User user) {
+        int shard = shardOf(user.getEmail());
+        return shard(shard).save(user)
+                .map(savedUser -> toGlobal(savedUser, shard))
+                .flatMap(savedUser -> outboxes.get(shard).append(List.of(UserRegistered.of(savedUser))).thenReturn(savedUser))
+                .as(transactionalOperators.get(shard)::transactional);
+    }
+
+    /**
+     * Persists several new users and their {@link UserRegistered} events with one batched statement each on every
+     * shard that receives any of them.
+     * The transactions of those shards are nested, so no shard commits until every shard stored its users: a duplicate
+     * email in any shard rolls the whole batch back. Only a failure while committing, after some shards committed,
+     * leaves the batch partially stored, with the events of the users that were stored.
+     */
+    @Override
+    public Flux<User> saveAll(List<User> users) {
+        return Mono.defer(() -> {
+                    Map<Integer, List<Integer>> positionsByShard = IntStream.range(0, users.size()).boxed()
+                            .collect(Collectors.groupingBy(position -> shardOf(users.get(position).getEmail()), TreeMap::new, Collectors.toList()));
+                    User[] savedUsers = new User[users.size()];
+                    Mono<List<User>> batch = Flux.fromIterable(positionsByShard.entrySet())
+                            .flatMap(shardPositions -> {
+                                int shard = shardPositions.getKey();
+                                List<Integer> positions = shardPositions.getValue();
+                                return shard(shard).saveAll(positions.stream().map(users::get).toList())
+                                        .map(savedUser -> toGlobal(savedUser, shard))
+                                        .collectList()
+                                        .flatMap(shardUsers -> {
+                                            for (int i = 0; i < shardUsers.size(); i++) {
+                                                savedUsers[positions.get(i)] = shardUsers.get(i);
+                                            }
+                                            return outboxes.get(shard).append(shardUsers.stream().map(UserRegistered::of).toList());
+                                        });
+                            })
+                            .then(Mono.fromSupplier(() -> Arrays.asList(savedUsers)));
+                    for (int shard : positionsByShard.keySet()) {
+                        batch = transactionalOperators.get(shard).transactional(batch);
+                    }
+                    return batch;
+                })
+                .flatMapIterable(savedUsers -> savedUsers);
+    }
+
+    /**
+     * Streams the normalized email of every user in every shard, used to warm up in-memory indexes.
+     */
+    public Flux<String> findAllNormalizedEmails() {
+        return Flux.fromIterable(shardRepositories)
+                .flatMap(UserDataRepository::findAllNormalizedEmails);
+    }
+
+    private UserRepository shard(int shard) {
+        routedOperations.get(shard).increment();
+        return shards.get(shard);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<User> mergeShards(IntFunction<Flux<User>> query) {
+        List<Flux<User>> perShard = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            perShard.add(query.apply(shard));
+        }
+        return Flux.mergeComparing(BY_ID, perShard.toArray(Flux[]::new));
+    }
+
+    /**
+     * Translates a global identifier to keyset over the shard: the largest local identifier whose global identifier is
+     * not after it.
+     */
+    private Long localAfter(Long afterId, int shard) {
+        return afterId == null ? null : Math.floorDiv(afterId - shard, (long) shards.size());
+    }
+
+    private User toGlobal(User user, int shard) {
+        return user.withId(user.getId() * shards.size() + shard);
+    }
+
+    /**
+     * FNV-1a over the characters of the normalized email, followed by a finalizer that spreads its bits. Unlike
+     * {@link String#hashCode()} changes in a single character affect every bit, so consecutive emails do not cluster.
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,170 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import com.crediya.auth.domain.ports.out.UserEventOutbox;
+import com.crediya.auth.domain.ports.out.UserEventPublisher;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.UserRepositoryAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapper;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.OutboxProperties;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.OutboxRelay;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.outbox.UserEventOutboxAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataBatchRepositoryImpl;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Stores users across the databases listed in {@link ShardingProperties} instead of the primary database, when enabled.
+ * Each shard also holds the outbox of the users it stores, drained by its own relay; the primary database keeps
+ * everything else.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "crediya.persistence.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+    /**
+     * Created eagerly even with lazy initialization, so that a configuration that would store users in the wrong place
+     * fails startup.
+     *
+     * @throws IllegalStateException if the read replica is enabled too, or the shards do not match the ones users were
+     * stored with.
+     */
+    @Bean(destroyMethod = "dispose")
+    @Lazy(false)
+    public ShardConnectionPools shardConnectionPools(ShardingProperties properties, Environment environment) {
+        if (environment.getProperty("crediya.persistence.replica.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("crediya.persistence.sharding.enabled and crediya.persistence.replica.enabled cannot both be true: "
+                    + "users are stored in the shards, which have no read replicas.");
+        }
+        ShardConnectionPools pools = ShardConnectionPools.create(properties);
+        try {
+            if (properties.initializeSchema()) {
+                pools.initializeSchema();
+            }
+            pools.verifyLayout();
+        } catch (RuntimeException ex) {
+            pools.dispose();
+            throw ex;
+        }
+        return pools;
+    }
+
+    /**
+     * One {@link UserDataRepository} per shard, each with the same queries and batch insert as the primary one, wrapped
+     * in a {@link UserRepositoryAdapter} by the sharded repository, along with the outbox and the transactions of the
+     * shard.
+     */
+    @Bean
+    public ShardedUserRepository shardedUserRepository(ShardConnectionPools shardConnectionPools, R2dbcConverter r2dbcConverter,
+                                                       ObjectMapper objectMapper, UserMapper userMapper, MeterRegistry meterRegistry) {
+        List<? extends ConnectionFactory> connectionFactories = shardConnectionPools.connectionFactories();
+        List<DatabaseClient> databaseClients = connectionFactories.stream()
+                .map(ShardingConfiguration::databaseClient)
+                .toList();
+        List<UserDataRepository> shardRepositories = databaseClients.stream()
+                .map(databaseClient -> userDataRepository(databaseClient, r2dbcConverter))
+                .toList();
+        List<UserEventOutboxAdapter> outboxes = databaseClients.stream()
+                .map(databaseClient -> new UserEventOutboxAdapter(databaseClient, objectMapper))
+                .toList();
+        List<TransactionalOperator> transactionalOperators = connectionFactories.stream()
+                .map(connectionFactory -> TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)))
+                .toList();
+        return new ShardedUserRepository(shardRepositories, outboxes, transactionalOperators, userMapper, meterRegistry);
+    }
+
+    /**
+     * Takes the place of the primary database's outbox in the registration use case, which appends to it in the
+     * transaction that saves the users: with sharding, that transaction is the primary database's and the users are
+     * not in it, so the {@link ShardedUserRepository} appends their events to the outbox of their shard instead.
+     */
+    @Bean
+    @Primary
+    public UserEventOutbox shardedUserEventOutbox() {
+        return events -> Mono.empty();
+    }
+
+    /**
+     * Takes the place of the primary database's transactions in the registration use case: the users and their events
+     * are stored in the shards, whose transactions the {@link ShardedUserRepository} runs itself, so a primary database
+     * transaction around them would only hold a primary connection for nothing.
+     */
+    @Bean
+    @Primary
+    public TransactionalOperator shardedTransactionalOperator() {
+        return new ShardTransactions();
+    }
+
+    /**
+     * Drains the outbox of every shard in the background, one relay per shard, for as long as the application runs.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "crediya.persistence.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public Disposable shardOutboxRelayTasks(ShardedUserRepository shardedUserRepository, UserEventPublisher userEventPublisher,
+                                            OutboxProperties properties, MeterRegistry meterRegistry) {
+        List<UserEventOutboxAdapter> outboxes = shardedUserRepository.outboxes();
+        return Disposables.composite(IntStream.range(0, outboxes.size())
+                .mapToObj(shard -> new OutboxRelay(outboxes.get(shard), userEventPublisher, properties, Clock.systemUTC(),
+                        meterRegistry, "shard-" + shard).start())
+                .toList());
+    }
+
+    /**
+     * Runs the given work as it is, leaving transactions to the {@link ShardedUserRepository}.
+     */
+    private static final class ShardTransactions implements TransactionalOperator {
+
+        @Override
+        public <T> Flux<T> transactional(Flux<T> flux) {
+            return flux;
+        }
+
+        @Override
+        public <T> Mono<T> transactional(Mono<T> mono) {
+            return mono;
+        }
+
+        @Override
+        public <T> Flux<T> execute(TransactionCallback<T> action) {
+            return Flux.error(new UnsupportedOperationException("Shard transactions are run by the ShardedUserRepository."));
+        }
+    }
+
+    private static DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.builder()
+                .connectionFactory(connectionFactory)
+                .bindMarkers(DialectResolver.getDialect(connectionFactory).getBindMarkersFactory())
+                .build();
+    }
+
+    private static UserDataRepository userDataRepository(DatabaseClient databaseClient, R2dbcConverter r2dbcConverter) {
+        R2dbcDialect dialect = DialectResolver.getDialect(databaseClient.getConnectionFactory());
+        R2dbcRepositoryFactory repositoryFactory = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(databaseClient, dialect, r2dbcConverter));
+        return repositoryFactory.getRepository(UserDataRepository.class, new UserDataBatchRepositoryImpl(databaseClient));
+    }
+}
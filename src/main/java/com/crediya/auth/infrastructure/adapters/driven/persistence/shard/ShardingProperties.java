@@ -0,0 +1,32 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Configuration for storing users across several databases, each holding its own 'usuario' and 'outbox_evento' tables.
+ *
+ * The number and order of the URLs decide which shard every user and identifier belongs to, so they must not change
+ * once users have been stored: each shard records its position and the shard count on first use, and startup fails
+ * when they no longer match. Sharding cannot be combined with the read replica.
+ *
+ * @param enabled          Whether users are stored in the shards instead of the application's primary database.
+ * @param urls             The R2DBC URL of every shard, in shard order.
+ * @param username         The user to connect to the shards with, if not given in the URLs.
+ * @param password         The password to connect to the shards with, if not given in the URLs.
+ * @param maxPoolSize      The maximum number of connections pooled for each shard.
+ * @param initializeSchema Whether the 'particion', 'usuario' and 'outbox_evento' tables are created in every shard at
+ *                         startup when they do not exist.
+ */
+@ConfigurationProperties(prefix = "crediya.persistence.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maxPoolSize,
+        @DefaultValue("true") boolean initializeSchema
+) {
+}
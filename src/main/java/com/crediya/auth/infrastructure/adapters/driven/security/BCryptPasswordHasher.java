@@ -0,0 +1,77 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link PasswordHasher} backed by BCrypt.
+ *
+ * Every hash and verification runs on the given dedicated scheduler, never on the caller's thread, so that the
+ * WebFlux event loop keeps serving other requests while a hash is computed.
+ */
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final Scheduler scheduler;
+    private final String dummyHash;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Timer queueTimer;
+
+    public BCryptPasswordHasher(int cost, Scheduler scheduler, MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.scheduler = scheduler;
+        this.dummyHash = encoder.encode("dummy-password-for-unknown-users");
+        this.hashTimer = hashingTimer("hash", meterRegistry);
+        this.verifyTimer = hashingTimer("verify", meterRegistry);
+        this.queueTimer = Timer.builder("password.hashing.queue")
+                .description("Time a password hashing task waited for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<String> hash(String rawPassword) {
+        return onHashingScheduler(() -> encoder.encode(rawPassword), hashTimer);
+    }
+
+    @Override
+    public Mono<Boolean> matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return onHashingScheduler(() -> {
+                encoder.matches(rawPassword, dummyHash);
+                return false;
+            }, verifyTimer);
+        }
+        return onHashingScheduler(() -> encoder.matches(rawPassword, passwordHash), verifyTimer);
+    }
+
+    private <T> Mono<T> onHashingScheduler(Callable<T> task, Timer timer) {
+        return Mono.defer(() -> {
+            long submittedAt = System.nanoTime();
+            return Mono.fromCallable(() -> {
+                        long startedAt = System.nanoTime();
+                        queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                        try {
+                            return task.call();
+                        } finally {
+                            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .subscribeOn(scheduler);
+        });
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("password.hashing")
+                .description("Time spent computing password hashes, excluding the wait for a hashing thread")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.TokenIssuer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link TokenIssuer} that issues JSON Web Tokens signed with HMAC-SHA256 ({@code HS256}).
+ *
+ * Tokens carry the user id as subject plus the email and role, and name the signing key in the {@code kid} header.
+ * They are signed with the current key of the {@link SigningKeyRing}, so a rotation takes effect on the next token.
+ */
+public class HmacTokenIssuer implements TokenIssuer {
+
+    static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<KeyedMac> MACS = new ThreadLocal<>();
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String issuer;
+    private final Duration timeToLive;
+    private final SigningKeyRing keyRing;
+
+    public HmacTokenIssuer(String issuer, Duration timeToLive, SigningKeyRing keyRing, ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.issuer = issuer;
+        this.timeToLive = timeToLive;
+        this.keyRing = keyRing;
+    }
+
+    @Override
+    public AccessToken issue(User user) {
+        Instant issuedAt = clock.instant();
+        Instant expiresAt = issuedAt.plus(timeToLive);
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", issuer);
+        claims.put("sub", String.valueOf(user.getId()));
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getIdRole());
+        claims.put("iat", issuedAt.getEpochSecond());
+        claims.put("exp", expiresAt.getEpochSecond());
+
+        SigningKeyRing.SigningKey signingKey = keyRing.current();
+        String encodedHeader = encode(toJson(Map.of("alg", "HS256", "typ", "JWT", "kid", signingKey.id())));
+        String signingInput = encodedHeader + "." + encode(toJson(claims));
+        return new AccessToken(signingInput + "." + encode(sign(signingKey, signingInput)), expiresAt);
+    }
+
+    /**
+     * Signs with a {@link Mac} kept per thread and initialized again only when the key changes, since looking up the
+     * provider and deriving the HMAC pads cost more than hashing a token. {@code doFinal} leaves the Mac ready for the
+     * next token with the same key.
+     */
+    static byte[] sign(SigningKeyRing.SigningKey signingKey, String signingInput) {
+        try {
+            KeyedMac keyedMac = MACS.get();
+            if (keyedMac == null || keyedMac.key() != signingKey.key()) {
+                Mac mac = keyedMac == null ? Mac.getInstance(ALGORITHM) : keyedMac.mac();
+                mac.init(signingKey.key());
+                keyedMac = new KeyedMac(signingKey.key(), mac);
+                MACS.set(keyedMac);
+            }
+            return keyedMac.mac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not sign the access token.", ex);
+        }
+    }
+
+    private byte[] toJson(Map<String, ?> value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the access token.", ex);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    private record KeyedMac(SecretKeySpec key, Mac mac) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.domain.ports.out.TokenVerifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * A {@link TokenVerifier} for the tokens issued by {@link HmacTokenIssuer}.
+ *
+ * The signature is checked in constant time against the key named in the {@code kid} header, looked up in the
+ * {@link SigningKeyRing}, so tokens signed with a retired key keep verifying until they expire.
+ */
+public class HmacTokenVerifier implements TokenVerifier {
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final String issuer;
+    private final SigningKeyRing keyRing;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public HmacTokenVerifier(String issuer, SigningKeyRing keyRing, ObjectMapper objectMapper, Clock clock) {
+        this.issuer = issuer;
+        this.keyRing = keyRing;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public TokenClaims verify(String token) {
+        int headerEnd = token.indexOf('.');
+        int claimsEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || claimsEnd < 0 || token.indexOf('.', claimsEnd + 1) >= 0) {
+            throw new InvalidTokenException("Malformed access token.");
+        }
+
+        JsonNode header = decode(token.substring(0, headerEnd));
+        if (!"HS256".equals(header.path("alg").asText())) {
+            throw new InvalidTokenException("Unsupported access token algorithm.");
+        }
+        SigningKeyRing.SigningKey signingKey = keyRing.find(header.path("kid").asText())
+                .orElseThrow(() -> new InvalidTokenException("Unknown access token signing key."));
+
+        byte[] expectedSignature = HmacTokenIssuer.sign(signingKey, token.substring(0, claimsEnd));
+        if (!MessageDigest.isEqual(expectedSignature, decodeBytes(token.substring(claimsEnd + 1)))) {
+            throw new InvalidTokenException("Invalid access token signature.");
+        }
+
+        JsonNode claims = decode(token.substring(headerEnd + 1, claimsEnd));
+        if (!issuer.equals(claims.path("iss").asText())) {
+            throw new InvalidTokenException("Access token was issued by another issuer.");
+        }
+        Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new InvalidTokenException("Access token has expired.");
+        }
+        return new TokenClaims(
+                claims.path("sub").asLong(),
+                claims.path("email").asText(null),
+                claims.path("role").asText(null),
+                Instant.ofEpochSecond(claims.path("iat").asLong()),
+                expiresAt);
+    }
+
+    private JsonNode decode(String part) {
+        try {
+            return objectMapper.readTree(decodeBytes(part));
+        } catch (IOException ex) {
+            throw new InvalidTokenException("Malformed access token.");
+        }
+    }
+
+    private static byte[] decodeBytes(String part) {
+        try {
+            return BASE64_URL.decode(part);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTokenException("Malformed access token.");
+        }
+    }
+}
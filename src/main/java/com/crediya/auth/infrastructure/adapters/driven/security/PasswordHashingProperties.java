@@ -0,0 +1,26 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for password hashing.
+ *
+ * @param cost      The BCrypt cost factor (log2 of the number of rounds); each increment doubles the time per hash.
+ * @param threads   The number of threads dedicated to hashing; 0 uses one per available processor.
+ * @param queueSize The maximum number of hashing tasks waiting for a thread; further tasks are rejected.
+ */
+@ConfigurationProperties(prefix = "crediya.security.password")
+public record PasswordHashingProperties(
+        @DefaultValue("10") int cost,
+        @DefaultValue("0") int threads,
+        @DefaultValue("1000") int queueSize
+) {
+
+    /**
+     * @return The number of hashing threads to start.
+     */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
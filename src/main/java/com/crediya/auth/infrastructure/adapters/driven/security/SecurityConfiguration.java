@@ -0,0 +1,110 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.infrastructure.adapters.driven.security.cache.CachingTokenVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+@Slf4j
+@Configuration
+public class SecurityConfiguration {
+
+    /**
+     * A bounded scheduler dedicated to password hashing, so that hashing never runs on the WebFlux event loop and
+     * a burst of logins queues up to a fixed limit instead of spawning threads.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(PasswordHashingProperties properties) {
+        return Schedulers.newBoundedElastic(properties.effectiveThreads(), properties.queueSize(), "password-hashing");
+    }
+
+    @Bean
+    public BCryptPasswordHasher passwordHasher(PasswordHashingProperties properties, Scheduler passwordHashingScheduler,
+                                               MeterRegistry meterRegistry) {
+        return new BCryptPasswordHasher(properties.cost(), passwordHashingScheduler, meterRegistry);
+    }
+
+    @Bean
+    public SigningKeyRing signingKeyRing(TokenProperties properties) throws IOException {
+        if (properties.rotation().enabled()) {
+            SigningKeyFile.Keys keys = SigningKeyFile.read(keysFile(properties.rotation()));
+            return new SigningKeyRing(keys.currentKeyId(), keys.secrets(), properties.timeToLive(), Clock.systemUTC());
+        }
+        byte[] secret;
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            log.warn("No token signing key configured (crediya.security.token.secret); using a random key, tokens will not survive a restart.");
+            secret = new byte[SigningKeyRing.KEY_LENGTH];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = Base64.getDecoder().decode(properties.secret());
+        }
+        return new SigningKeyRing(properties.keyId(), secret, properties.timeToLive(), Clock.systemUTC());
+    }
+
+    @Bean
+    public HmacTokenIssuer tokenIssuer(TokenProperties properties, SigningKeyRing signingKeyRing, ObjectMapper objectMapper) {
+        return new HmacTokenIssuer(properties.issuer(), properties.timeToLive(), signingKeyRing, objectMapper, Clock.systemUTC());
+    }
+
+    /**
+     * Verifies tokens locally against the key ring, remembering the ones already verified until they expire.
+     * Dropping a signing key clears the cache, so the tokens it signed stop verifying.
+     */
+    @Bean
+    public CachingTokenVerifier tokenVerifier(TokenProperties properties, SigningKeyRing signingKeyRing, ObjectMapper objectMapper,
+                                              MeterRegistry meterRegistry) {
+        HmacTokenVerifier verifier = new HmacTokenVerifier(properties.issuer(), signingKeyRing, objectMapper, Clock.systemUTC());
+        CachingTokenVerifier cachingVerifier = new CachingTokenVerifier(verifier, properties.cache().maximumSize(), Clock.systemUTC(), meterRegistry);
+        signingKeyRing.onKeyRemoved(keyId -> cachingVerifier.invalidateAll());
+        return cachingVerifier;
+    }
+
+    /**
+     * Reloads the signing keys from the shared key file on a fixed interval, when rotation is enabled, and drops retired
+     * keys once their tokens have expired. A file that cannot be read or holds invalid keys leaves the current keys in
+     * place until the next reload.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Disposable signingKeyRotation(TokenProperties properties, SigningKeyRing signingKeyRing) {
+        TokenProperties.Rotation rotation = properties.rotation();
+        if (!rotation.enabled()) {
+            return Disposables.disposed();
+        }
+        Path keysFile = keysFile(rotation);
+        Duration interval = rotation.reloadInterval();
+        return Flux.interval(interval, interval, Schedulers.boundedElastic())
+                .subscribe(tick -> reloadKeys(keysFile, signingKeyRing),
+                        ex -> log.error("Signing key rotation stopped.", ex));
+    }
+
+    private static void reloadKeys(Path keysFile, SigningKeyRing signingKeyRing) {
+        try {
+            SigningKeyFile.Keys keys = SigningKeyFile.read(keysFile);
+            signingKeyRing.update(keys.currentKeyId(), keys.secrets());
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Could not reload the token signing keys from {}; keeping the current keys.", keysFile, ex);
+            signingKeyRing.dropExpiredKeys();
+        }
+    }
+
+    private static Path keysFile(TokenProperties.Rotation rotation) {
+        if (rotation.keysFile() == null) {
+            throw new IllegalStateException("crediya.security.token.rotation.keys-file is required when rotation is enabled.");
+        }
+        return rotation.keysFile();
+    }
+}
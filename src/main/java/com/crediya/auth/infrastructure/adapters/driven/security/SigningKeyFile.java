@@ -0,0 +1,58 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads the token signing keys from a properties file shared by every instance and by every service that verifies the
+ * tokens, such as a mounted Kubernetes secret: {@code current} names the key new tokens are signed with, and every
+ * other entry maps a key id to its Base64-encoded secret.
+ *
+ * <pre>
+ * current=2030-01
+ * 2029-12=c2VjcmV0LW9mLWF0LWxlYXN0LTMyLWJ5dGVzLi4uLi4uLi4=
+ * 2030-01=YW5vdGhlci1zZWNyZXQtb2YtYXQtbGVhc3QtMzItYnl0ZXM=
+ * </pre>
+ */
+final class SigningKeyFile {
+
+    static final String CURRENT = "current";
+
+    /**
+     * The keys read from the file.
+     */
+    record Keys(String currentKeyId, Map<String, byte[]> secrets) {
+    }
+
+    private SigningKeyFile() {
+    }
+
+    /**
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if it names no current key or a secret is not valid Base64.
+     */
+    static Keys read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        String currentKeyId = properties.getProperty(CURRENT);
+        if (currentKeyId == null || currentKeyId.isBlank()) {
+            throw new IllegalArgumentException("The signing key file " + file + " has no '" + CURRENT + "' entry.");
+        }
+        Map<String, byte[]> secrets = new HashMap<>();
+        for (String keyId : properties.stringPropertyNames()) {
+            if (!keyId.equals(CURRENT)) {
+                secrets.put(keyId, Base64.getDecoder().decode(properties.getProperty(keyId).trim()));
+            }
+        }
+        return new Keys(currentKeyId.trim(), secrets);
+    }
+}
@@ -0,0 +1,140 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The in-memory set of HMAC keys used to sign and verify access tokens.
+ *
+ * New tokens are always signed with the current key. The keys are installed from configuration shared by every
+ * instance, and can be replaced without a restart through {@link #update}; keys that are no longer configured keep
+ * verifying the tokens they signed until those tokens have expired, and are then dropped.
+ */
+@Slf4j
+public class SigningKeyRing {
+
+    static final int KEY_LENGTH = 32;
+
+    /**
+     * A signing key and the instant it stopped being configured, or null while it is.
+     */
+    public record SigningKey(String id, SecretKeySpec key, Instant retiredAt) {
+    }
+
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> removalListeners = new CopyOnWriteArrayList<>();
+    private volatile SigningKey current;
+
+    /**
+     * @param initialKeyId  The identifier of the initial key.
+     * @param initialSecret The initial key, at least {@value #KEY_LENGTH} bytes long.
+     * @param retention     How long a retired key keeps verifying tokens; the lifetime of the tokens it signed.
+     * @param clock         The clock used to retire and drop keys.
+     */
+    public SigningKeyRing(String initialKeyId, byte[] initialSecret, Duration retention, Clock clock) {
+        this(initialKeyId, Map.of(initialKeyId, initialSecret), retention, clock);
+    }
+
+    /**
+     * @param currentKeyId The identifier of the key new tokens are signed with; must be one of {@code secrets}.
+     * @param secrets      The keys by identifier, each at least {@value #KEY_LENGTH} bytes long.
+     * @param retention    How long a retired key keeps verifying tokens; the lifetime of the tokens it signed.
+     * @param clock        The clock used to retire and drop keys.
+     */
+    public SigningKeyRing(String currentKeyId, Map<String, byte[]> secrets, Duration retention, Clock clock) {
+        this.retention = retention;
+        this.clock = clock;
+        update(currentKeyId, secrets);
+    }
+
+    /**
+     * @return The key new tokens are signed with.
+     */
+    public SigningKey current() {
+        return current;
+    }
+
+    /**
+     * Finds a key that may still verify tokens.
+     *
+     * @param keyId The identifier from the token's {@code kid} header.
+     * @return The key, or empty if it is unknown or was dropped.
+     */
+    public Optional<SigningKey> find(String keyId) {
+        return Optional.ofNullable(keys.get(keyId));
+    }
+
+    /**
+     * Installs the configured keys: new tokens are signed with {@code currentKeyId}, the given keys verify tokens, and
+     * the keys that are no longer given are retired. The update is rejected as a whole if it is invalid, including when
+     * it changes the secret of a known key identifier, which would invalidate the tokens that key signed.
+     *
+     * @param currentKeyId The identifier of the key new tokens are signed with; must be one of {@code secrets}.
+     * @param secrets      The keys by identifier, each at least {@value #KEY_LENGTH} bytes long.
+     * @throws IllegalArgumentException if the keys are invalid; the ring is left unchanged.
+     */
+    public synchronized void update(String currentKeyId, Map<String, byte[]> secrets) {
+        if (!secrets.containsKey(currentKeyId)) {
+            throw new IllegalArgumentException("The current token signing key " + currentKeyId + " is not among the configured keys.");
+        }
+        Map<String, SigningKey> configured = new HashMap<>();
+        secrets.forEach((id, secret) -> {
+            if (secret.length < KEY_LENGTH) {
+                throw new IllegalArgumentException("The token signing key must be at least " + KEY_LENGTH + " bytes long.");
+            }
+            SigningKey known = keys.get(id);
+            if (known != null && !MessageDigest.isEqual(known.key().getEncoded(), secret)) {
+                throw new IllegalArgumentException("The secret of token signing key " + id + " changed; use a new key id instead.");
+            }
+            configured.put(id, new SigningKey(id, new SecretKeySpec(secret, HmacTokenIssuer.ALGORITHM), null));
+        });
+
+        Instant now = clock.instant();
+        keys.replaceAll((id, key) -> configured.containsKey(id) || key.retiredAt() != null
+                ? key
+                : new SigningKey(id, key.key(), now));
+        keys.putAll(configured);
+        SigningKey previous = current;
+        current = configured.get(currentKeyId);
+        if (previous != null && !previous.id().equals(currentKeyId)) {
+            log.info("Rotated token signing key from {} to {}.", previous.id(), currentKeyId);
+        }
+        dropExpiredKeys();
+    }
+
+    /**
+     * Drops the retired keys whose tokens have all expired, notifying the removal listeners.
+     */
+    public synchronized void dropExpiredKeys() {
+        Instant cutoff = clock.instant().minus(retention);
+        keys.values().removeIf(key -> {
+            boolean expired = key.retiredAt() != null && key.retiredAt().isBefore(cutoff);
+            if (expired) {
+                log.info("Dropped token signing key {}.", key.id());
+                removalListeners.forEach(listener -> listener.accept(key.id()));
+            }
+            return expired;
+        });
+    }
+
+    /**
+     * Registers a callback invoked with the identifier of every key that is dropped.
+     */
+    public void onKeyRemoved(Consumer<String> listener) {
+        removalListeners.add(listener);
+    }
+}
@@ -0,0 +1,52 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the access tokens issued on login.
+ *
+ * @param issuer     The value of the {@code iss} claim.
+ * @param timeToLive How long an issued token is valid.
+ * @param keyId      The identifier of the initial signing key, sent in the {@code kid} header.
+ * @param secret     The Base64-encoded initial HMAC-SHA256 signing key, at least 32 bytes long; when empty a random key
+ *                   is generated at startup and tokens do not survive a restart.
+ * @param rotation   How the signing keys are rotated while the service runs.
+ * @param cache      The cache of already verified tokens.
+ */
+@ConfigurationProperties(prefix = "crediya.security.token")
+public record TokenProperties(
+        @DefaultValue("crediya-auth") String issuer,
+        @DefaultValue("1h") Duration timeToLive,
+        @DefaultValue("default") String keyId,
+        String secret,
+        @DefaultValue Rotation rotation,
+        @DefaultValue Cache cache
+) {
+
+    /**
+     * @param enabled        Whether the signing keys are read from {@code keysFile} instead of {@code secret}, and
+     *                       reloaded from it every {@code reloadInterval}. Keys removed from the file keep verifying the
+     *                       tokens they signed for one {@code time-to-live}.
+     * @param keysFile       The properties file with the keys, shared by every instance and every service that verifies
+     *                       the tokens; see {@link SigningKeyFile}.
+     * @param reloadInterval How often the file is read again.
+     */
+    public record Rotation(
+            @DefaultValue("false") boolean enabled,
+            Path keysFile,
+            @DefaultValue("30s") Duration reloadInterval
+    ) {
+    }
+
+    /**
+     * @param maximumSize The maximum number of verified tokens kept; each entry expires with its token.
+     */
+    public record Cache(
+            @DefaultValue("100000") long maximumSize
+    ) {
+    }
+}
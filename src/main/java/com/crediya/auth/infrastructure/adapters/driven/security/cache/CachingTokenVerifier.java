@@ -0,0 +1,112 @@
+package com.crediya.auth.infrastructure.adapters.driven.security.cache;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.domain.ports.out.TokenVerifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * A {@link TokenVerifier} decorator that remembers the tokens it has already verified in a bounded in-process cache.
+ *
+ * Entries are keyed by the SHA-256 hash of the token, so raw tokens are never kept in memory, and expire when the token
+ * itself expires. Tokens that fail verification are not cached.
+ */
+public class CachingTokenVerifier implements TokenVerifier {
+
+    private static final Base64.Encoder BASE64 = Base64.getEncoder().withoutPadding();
+
+    private final TokenVerifier delegate;
+    private final Clock clock;
+    private final Cache<String, TokenClaims> verifiedTokens;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    private final Timer invalidTimer;
+
+    public CachingTokenVerifier(TokenVerifier delegate, long maximumSize, Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified.tokens");
+        this.hitTimer = verificationTimer(meterRegistry, "valid", "hit");
+        this.missTimer = verificationTimer(meterRegistry, "valid", "miss");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid", "miss");
+    }
+
+    @Override
+    public TokenClaims verify(String token) {
+        long start = System.nanoTime();
+        String key = hash(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+            hitTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            return cached;
+        }
+        try {
+            TokenClaims claims = delegate.verify(token);
+            verifiedTokens.put(key, claims);
+            missTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            return claims;
+        } catch (InvalidTokenException ex) {
+            invalidTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            throw ex;
+        }
+    }
+
+    /**
+     * Forgets every verified token, so the next verification of each goes through the delegate again.
+     * Called when a signing key is dropped, since the tokens it signed must stop verifying.
+     */
+    public void invalidateAll() {
+        verifiedTokens.invalidateAll();
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result, String cache) {
+        return Timer.builder("token.verification")
+                .description("Time spent verifying an access token")
+                .tag("result", result)
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            return BASE64.encodeToString(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
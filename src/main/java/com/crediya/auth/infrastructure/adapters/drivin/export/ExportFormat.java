@@ -0,0 +1,165 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.drivin.web.codec.UserRegistrationResponseEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The file formats users can be exported to. Both write every column of the user except the password hash, encoding
+ * straight into the target buffer. CSV columns are named like those of the CSV import, but an export cannot be imported
+ * as it is: it has an id column, no password column, and text protected against formula injection.
+ */
+public enum ExportFormat {
+
+    CSV("csv") {
+        private static final byte[] HEADER =
+                "id,firstName,lastName,email,identityNumber,phoneNumber,birthDate,address,idRole,baseSalary\n"
+                        .getBytes(StandardCharsets.US_ASCII);
+
+        @Override
+        void writeHeader(DataBuffer buffer) {
+            buffer.write(HEADER);
+        }
+
+        @Override
+        void writeUser(DataBuffer buffer, User user) {
+            writeAscii(buffer, String.valueOf(user.getId()));
+            buffer.write((byte) ',');
+            writeField(buffer, user.getFirstName());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getLastName());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getEmail());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getIdentityNumber());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getPhoneNumber());
+            buffer.write((byte) ',');
+            writeAscii(buffer, user.getBirthDate() == null ? null : user.getBirthDate().toString());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getAddress());
+            buffer.write((byte) ',');
+            writeField(buffer, user.getIdRole());
+            buffer.write((byte) ',');
+            writeAscii(buffer, user.getBaseSalary() == null ? null : user.getBaseSalary().toPlainString());
+            buffer.write((byte) '\n');
+        }
+
+        /**
+         * Writes a field as RFC 4180 text, quoted only when it contains a separator, a quote or a line break. Text that
+         * a spreadsheet would evaluate as a formula is prefixed with a single quote and quoted, so that it is shown as
+         * text; this also applies to phone numbers starting with {@code +}.
+         */
+        private static void writeField(DataBuffer buffer, String value) {
+            if (value == null) {
+                return;
+            }
+            boolean formula = startsFormula(value);
+            if (!formula && !needsQuotes(value)) {
+                buffer.write(value, StandardCharsets.UTF_8);
+                return;
+            }
+            buffer.write((byte) '"');
+            if (formula) {
+                buffer.write((byte) '\'');
+            }
+            buffer.write(value.replace("\"", "\"\""), StandardCharsets.UTF_8);
+            buffer.write((byte) '"');
+        }
+
+        private static boolean startsFormula(String value) {
+            if (value.isEmpty()) {
+                return false;
+            }
+            char first = value.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        }
+
+        private static boolean needsQuotes(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    },
+
+    NDJSON("ndjson") {
+        private static final byte[] ID_FIELD = "{\"id\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] FIRST_NAME_FIELD = ",\"firstName\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] LAST_NAME_FIELD = ",\"lastName\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] EMAIL_FIELD = ",\"email\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] IDENTITY_NUMBER_FIELD = ",\"identityNumber\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] PHONE_NUMBER_FIELD = ",\"phoneNumber\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] BIRTH_DATE_FIELD = ",\"birthDate\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] ADDRESS_FIELD = ",\"address\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] ID_ROLE_FIELD = ",\"idRole\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] BASE_SALARY_FIELD = ",\"baseSalary\":".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] END_OF_LINE = "}\n".getBytes(StandardCharsets.US_ASCII);
+
+        @Override
+        void writeHeader(DataBuffer buffer) {
+        }
+
+        @Override
+        void writeUser(DataBuffer buffer, User user) {
+            buffer.write(ID_FIELD);
+            writeAscii(buffer, String.valueOf(user.getId()));
+            buffer.write(FIRST_NAME_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getFirstName());
+            buffer.write(LAST_NAME_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getLastName());
+            buffer.write(EMAIL_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getEmail());
+            buffer.write(IDENTITY_NUMBER_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getIdentityNumber());
+            buffer.write(PHONE_NUMBER_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getPhoneNumber());
+            buffer.write(BIRTH_DATE_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getBirthDate() == null ? null : user.getBirthDate().toString());
+            buffer.write(ADDRESS_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getAddress());
+            buffer.write(ID_ROLE_FIELD);
+            UserRegistrationResponseEncoder.writeString(buffer, user.getIdRole());
+            buffer.write(BASE_SALARY_FIELD);
+            writeAscii(buffer, user.getBaseSalary() == null ? "null" : user.getBaseSalary().toPlainString());
+            buffer.write(END_OF_LINE);
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * The file name extension of the format, without the dot.
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Writes what precedes the first user, if anything.
+     */
+    abstract void writeHeader(DataBuffer buffer);
+
+    /**
+     * Writes one user as a line.
+     */
+    abstract void writeUser(DataBuffer buffer, User user);
+
+    private static void writeAscii(DataBuffer buffer, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            buffer.write((byte) value.charAt(i));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses a stream of buffers to the gzip format (RFC 1952) as it flows: each input buffer is deflated into a new
+ * buffer and released, so only the deflater's window is held in memory whatever the length of the stream.
+ */
+final class GzipCompressor {
+
+    private static final byte[] HEADER = {0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF};
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final DataBufferFactory bufferFactory;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+
+    private GzipCompressor(DataBufferFactory bufferFactory, int level) {
+        this.bufferFactory = bufferFactory;
+        this.deflater = new Deflater(level, true);
+    }
+
+    /**
+     * @param input         The buffers to compress, released as they are consumed.
+     * @param bufferFactory The factory for the compressed buffers.
+     * @param level         The deflate level, from 1 to 9.
+     * @return A Flux emitting the gzip stream, ending with its trailer when the input completes.
+     */
+    static Flux<DataBuffer> compress(Flux<DataBuffer> input, DataBufferFactory bufferFactory, int level) {
+        return Flux.using(() -> new GzipCompressor(bufferFactory, level),
+                compressor -> Flux.concat(
+                        Mono.fromSupplier(() -> bufferFactory.wrap(HEADER.clone())),
+                        input.<DataBuffer>handle((buffer, sink) -> {
+                            DataBuffer compressed = compressor.deflate(buffer);
+                            if (compressed.readableByteCount() > 0) {
+                                sink.next(compressed);
+                            } else {
+                                DataBufferUtils.release(compressed);
+                            }
+                        }),
+                        Mono.fromSupplier(compressor::finish)),
+                GzipCompressor::end);
+    }
+
+    private DataBuffer deflate(DataBuffer input) {
+        DataBuffer output = bufferFactory.allocateBuffer(Math.max(input.readableByteCount() / 4, 64));
+        try (DataBuffer.ByteBufferIterator bytes = input.readableByteBuffers()) {
+            while (bytes.hasNext()) {
+                ByteBuffer next = bytes.next();
+                crc.update(next.duplicate());
+                deflater.setInput(next);
+                while (!deflater.needsInput()) {
+                    drain(output);
+                }
+            }
+            return output;
+        } catch (RuntimeException ex) {
+            DataBufferUtils.release(output);
+            throw ex;
+        } finally {
+            DataBufferUtils.release(input);
+        }
+    }
+
+    private DataBuffer finish() {
+        DataBuffer output = bufferFactory.allocateBuffer(CHUNK_SIZE);
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(output);
+        }
+        writeIntLittleEndian(output, (int) crc.getValue());
+        writeIntLittleEndian(output, (int) deflater.getBytesRead());
+        return output;
+    }
+
+    private void drain(DataBuffer output) {
+        int length = deflater.deflate(chunk, 0, chunk.length, Deflater.NO_FLUSH);
+        output.write(chunk, 0, length);
+    }
+
+    private void end() {
+        deflater.end();
+    }
+
+    private static void writeIntLittleEndian(DataBuffer buffer, int value) {
+        buffer.write((byte) value).write((byte) (value >> 8)).write((byte) (value >> 16)).write((byte) (value >> 24));
+    }
+}
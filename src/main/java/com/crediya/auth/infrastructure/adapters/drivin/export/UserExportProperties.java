@@ -0,0 +1,25 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for exporting the user table to files.
+ *
+ * @param directory The directory export files are written to.
+ * @param pageSize  The number of users read per keyset query and encoded into each buffer.
+ * @param format    The format used when a request does not name one.
+ * @param gzip      Whether files are compressed when a request does not say.
+ * @param gzipLevel The deflate level, from 1 (fastest) to 9 (smallest).
+ */
+@ConfigurationProperties(prefix = "crediya.user-export")
+public record UserExportProperties(
+        @DefaultValue("exports") Path directory,
+        @DefaultValue("1000") int pageSize,
+        @DefaultValue("csv") ExportFormat format,
+        @DefaultValue("false") boolean gzip,
+        @DefaultValue("6") int gzipLevel
+) {
+}
@@ -0,0 +1,21 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import java.time.Duration;
+
+/**
+ * The outcome of an export.
+ *
+ * @param file     The name of the written file, inside the export directory.
+ * @param format   The format of the file.
+ * @param gzip     Whether the file is gzip compressed.
+ * @param rows     The number of users written.
+ * @param bytes    The size of the file.
+ * @param duration How long the export took.
+ */
+public record UserExportResult(String file, ExportFormat format, boolean gzip, long rows, long bytes, Duration duration) {
+
+    public double rowsPerSecond() {
+        double seconds = duration.toNanos() / 1e9;
+        return seconds > 0 ? Math.round(rows / seconds * 10) / 10.0 : 0;
+    }
+}
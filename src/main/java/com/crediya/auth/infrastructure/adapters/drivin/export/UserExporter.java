@@ -0,0 +1,164 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserPageReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.PooledByteBufAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exports every user to a file of the export directory.
+ *
+ * Users are read in ascending identifier order with keyset queries of {@code pageSize} rows, through the
+ * {@link UserPageReader}, which is the user repository, so reads go to the replica or to every shard when those are
+ * enabled. Each page is encoded
+ * into one pooled buffer, optionally gzip compressed, and written to the file channel, which requests the next buffer
+ * only once the previous one is written. At most a couple of pages are in memory at any time, whatever the size of the
+ * table. The file is written under a {@code .part} name and renamed when complete, so a file with the final name is
+ * always a full snapshot. File names end with a random suffix and are created exclusively, so exports started in the
+ * same second, by this or another instance, never write to the same file.
+ */
+@Slf4j
+@Component
+public class UserExporter {
+
+    private static final DataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int ESTIMATED_ROW_BYTES = 192;
+
+    private final UserPageReader userPageReader;
+    private final UserExportProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public UserExporter(UserPageReader userPageReader, UserExportProperties properties, MeterRegistry meterRegistry) {
+        this.userPageReader = userPageReader;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Exports every user to a new file named after the current time, like {@code usuarios-20250101-020000-3f9a1c2b.csv.gz}.
+     *
+     * @param format The format of the file, or null for the configured one.
+     * @param gzip   Whether to compress the file, or null for the configured default.
+     * @return A Mono emitting the {@link UserExportResult} once the file is complete.
+     */
+    public Mono<UserExportResult> export(ExportFormat format, Boolean gzip) {
+        ExportFormat fileFormat = format != null ? format : properties.format();
+        boolean compressed = gzip != null ? gzip : properties.gzip();
+        return Mono.defer(() -> {
+            String fileName = "usuarios-" + FILE_TIMESTAMP.format(LocalDateTime.now()) + "-" + uniqueSuffix()
+                    + "." + fileFormat.extension() + (compressed ? ".gz" : "");
+            Path file = properties.directory().resolve(fileName);
+            Path partialFile = properties.directory().resolve(fileName + ".part");
+            AtomicLong rows = new AtomicLong();
+            AtomicLong bytes = new AtomicLong();
+            long startedAt = System.nanoTime();
+
+            Flux<DataBuffer> content = encode(fileFormat, rows);
+            if (compressed) {
+                content = GzipCompressor.compress(content, BUFFER_FACTORY, properties.gzipLevel());
+            }
+            content = content.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+
+            return Mono.fromCallable(() -> Files.createDirectories(properties.directory()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(DataBufferUtils.write(content, partialFile,
+                            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))
+                    .then(Mono.fromCallable(() -> Files.move(partialFile, file, StandardCopyOption.ATOMIC_MOVE))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .doOnError(ex -> deletePartialFile(partialFile))
+                    .then(Mono.fromSupplier(() -> complete(new UserExportResult(fileName, fileFormat, compressed, rows.get(),
+                            bytes.get(), Duration.ofNanos(System.nanoTime() - startedAt)))));
+        });
+    }
+
+    /**
+     * Encodes the header and then each page of users into its own buffer. Encoding runs off the database driver's
+     * threads, with at most two pages queued ahead of it.
+     */
+    private Flux<DataBuffer> encode(ExportFormat format, AtomicLong rows) {
+        Mono<DataBuffer> header = Mono.fromSupplier(() -> {
+            DataBuffer buffer = BUFFER_FACTORY.allocateBuffer(ESTIMATED_ROW_BYTES);
+            format.writeHeader(buffer);
+            return buffer;
+        });
+        Flux<DataBuffer> pages = pages()
+                .publishOn(Schedulers.parallel(), 2)
+                .map(page -> {
+                    DataBuffer buffer = BUFFER_FACTORY.allocateBuffer(page.size() * ESTIMATED_ROW_BYTES);
+                    try {
+                        for (User user : page) {
+                            format.writeUser(buffer, user);
+                        }
+                    } catch (RuntimeException ex) {
+                        DataBufferUtils.release(buffer);
+                        throw ex;
+                    }
+                    rows.addAndGet(page.size());
+                    return buffer;
+                });
+        return Flux.concat(header, pages)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private Flux<List<User>> pages() {
+        int pageSize = properties.pageSize();
+        return userPageReader.findPageAfter(null, pageSize).collectList()
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : userPageReader.findPageAfter(page.get(page.size() - 1).getId(), pageSize).collectList())
+                .filter(page -> !page.isEmpty());
+    }
+
+    private static String uniqueSuffix() {
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextInt());
+    }
+
+    private UserExportResult complete(UserExportResult result) {
+        Counter.builder("user.export.rows")
+                .description("Users written to export files")
+                .tag("format", result.format().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment(result.rows());
+        Timer.builder("user.export")
+                .description("Time taken to export every user to a file")
+                .tag("format", result.format().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(result.duration());
+        log.info("Exported {} users to {} ({} bytes) in {} ms, {} rows/s.", result.rows(), result.file(), result.bytes(),
+                result.duration().toMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private static void deletePartialFile(Path partialFile) {
+        try {
+            Files.deleteIfExists(partialFile);
+        } catch (Exception ex) {
+            log.warn("Could not delete {}.", partialFile, ex);
+        }
+    }
+}
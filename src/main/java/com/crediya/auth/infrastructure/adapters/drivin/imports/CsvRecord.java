@@ -0,0 +1,11 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+/**
+ * A record read from a CSV file.
+ *
+ * @param number    The position of the record in the file, starting at one for the first row after the header.
+ * @param text      The record as it appears in the file, without its line terminator.
+ * @param endOffset The byte offset right after the record's line terminator, where the next record starts.
+ */
+record CsvRecord(long number, String text, long endOffset) {
+}
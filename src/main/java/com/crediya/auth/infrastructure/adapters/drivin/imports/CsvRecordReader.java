@@ -0,0 +1,87 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the records of a CSV file through a {@link FileChannel} and a fixed-size buffer, so memory use does not depend
+ * on the size of the file.
+ *
+ * Records end at a line feed outside quotes, so quoted fields may span lines. A trailing carriage return is dropped and
+ * blank lines are skipped. Every record carries the byte offset where the next one starts, which is where reading can
+ * resume.
+ */
+final class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long offset;
+    private long number;
+    private byte[] record = new byte[512];
+    private int length;
+
+    /**
+     * @param file         The file to read.
+     * @param startOffset  The byte offset of the first record to read.
+     * @param recordNumber The number of the records already read before that offset.
+     */
+    CsvRecordReader(Path file, long startOffset, long recordNumber) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.channel.position(startOffset);
+        this.offset = startOffset;
+        this.number = recordNumber;
+        this.buffer.flip();
+    }
+
+    /**
+     * @return The next record, or null at the end of the file.
+     */
+    CsvRecord next() throws IOException {
+        length = 0;
+        boolean inQuotes = false;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read <= 0) {
+                    return length == 0 ? null : toRecord();
+                }
+            }
+            byte b = buffer.get();
+            offset++;
+            if (b == '\n' && !inQuotes) {
+                if (length > 0 && !(length == 1 && record[0] == '\r')) {
+                    return toRecord();
+                }
+                length = 0;
+                continue;
+            }
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            }
+            if (length == record.length) {
+                record = Arrays.copyOf(record, length * 2);
+            }
+            record[length++] = b;
+        }
+    }
+
+    private CsvRecord toRecord() {
+        int end = length > 0 && record[length - 1] == '\r' ? length - 1 : length;
+        return new CsvRecord(++number, new String(record, 0, end, StandardCharsets.UTF_8), offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
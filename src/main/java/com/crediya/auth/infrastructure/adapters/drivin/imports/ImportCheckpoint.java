@@ -0,0 +1,38 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The progress of an import that has been made durable: every row before {@code offset} has been registered or written
+ * to the rejects file, which was {@code rejectsSize} bytes long at that point.
+ *
+ * @param offset      The byte offset of the first row not yet processed.
+ * @param rows        The number of rows processed.
+ * @param created     The number of users registered.
+ * @param rejected    The number of rows written to the rejects file.
+ * @param rejectsSize The size of the rejects file, in bytes.
+ * @param completed   Whether the whole file has been processed.
+ */
+record ImportCheckpoint(long offset, long rows, long created, long rejected, long rejectsSize, boolean completed) {
+
+    /**
+     * Reads the checkpoint of an import, if it has one.
+     */
+    static ImportCheckpoint read(Path path, ObjectMapper objectMapper) throws IOException {
+        return Files.exists(path) ? objectMapper.readValue(path.toFile(), ImportCheckpoint.class) : null;
+    }
+
+    /**
+     * Replaces the checkpoint of an import atomically, so a crash leaves either the previous or the new one.
+     */
+    void write(Path path, ObjectMapper objectMapper) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writeValue(temporary.toFile(), this);
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+/**
+ * Thrown when a file to import, or an import to report on, does not exist in the import directory.
+ */
+public class ImportFileNotFoundException extends RuntimeException {
+
+    public ImportFileNotFoundException(String fileName) {
+        super("File " + fileName + " not found in the import directory.");
+    }
+}
@@ -0,0 +1,157 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Maps CSV records to {@link UserRegistrationRequest}s and their role by the column names in the header, ignoring case
+ * and unknown columns. Fields follow RFC 4180: they may be quoted, and quotes inside quoted fields are doubled. Empty fields are null.
+ */
+final class UserCsvParser {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    /**
+     * @param header The header record of the file.
+     * @throws IllegalArgumentException if the header has no email column.
+     */
+    UserCsvParser(String header) {
+        List<String> names = split(header.isEmpty() || header.charAt(0) != BYTE_ORDER_MARK ? header : header.substring(1));
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email")) {
+            throw new IllegalArgumentException("The CSV header has no 'email' column.");
+        }
+    }
+
+    /**
+     * A parsed record: the registration request and the role chosen for the user by the administrator importing it.
+     */
+    record Row(UserRegistrationRequest request, String idRole) {
+    }
+
+    /**
+     * Parses a record into a registration request and its role. Only field syntax is checked here; the values are
+     * validated afterwards with the same rules as the API.
+     *
+     * @throws IllegalArgumentException if the record is malformed or a date or number cannot be parsed.
+     */
+    Row parse(String record) {
+        List<String> fields = split(record);
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName(field(fields, "firstName"))
+                .lastName(field(fields, "lastName"))
+                .email(field(fields, "email"))
+                .identityNumber(field(fields, "identityNumber"))
+                .phoneNumber(field(fields, "phoneNumber"))
+                .birthDate(field(fields, "birthDate", LocalDate::parse, "must be a date in the format yyyy-MM-dd"))
+                .address(field(fields, "address"))
+                .baseSalary(field(fields, "baseSalary", BigDecimal::new, "must be a decimal number"))
+                .password(field(fields, "password"))
+                .build();
+        return new Row(request, field(fields, "idRole"));
+    }
+
+    /**
+     * Blanks the password of a record, so that it can be written to the rejects file. A record that cannot be split is
+     * dropped entirely, since its password cannot be located.
+     */
+    String redact(String record) {
+        Integer index = columns.get("password");
+        if (index == null) {
+            return record;
+        }
+        List<String> fields;
+        try {
+            fields = split(record);
+        } catch (IllegalArgumentException ex) {
+            return "";
+        }
+        if (index < fields.size()) {
+            fields.set(index, "");
+        }
+        StringJoiner redacted = new StringJoiner(",");
+        fields.forEach(field -> redacted.add(quote(field)));
+        return redacted.toString();
+    }
+
+    /**
+     * Splits a record into its fields, removing the quotes around quoted fields.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    static List<String> split(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Quotes a value for a CSV field when it contains a separator, a quote or a line break.
+     */
+    static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private String field(List<String> fields, String name) {
+        Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private <T> T field(List<String> fields, String name, Function<String, T> parser, String expected) {
+        String value = field(fields, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException(String.format("'%s': %s", name, expected), ex);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import com.crediya.auth.infrastructure.adapters.drivin.web.BatchRegistration;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports the users of one CSV file.
+ *
+ * The file is read as a stream of records through NIO. Records are parsed and validated in blocks, several blocks in
+ * parallel, with the same rules as the registration API, and registered block by block, in file order, through
+ * {@link RegisterUserPort#registerUsers}, which inserts them with batched statements. Invalid rows and already registered
+ * emails are written to a rejects file next to the input, with the reason in an extra {@code error} column and the
+ * password blanked.
+ *
+ * Every {@code checkpointInterval} rows the rejects file is flushed and the offset reached is saved to a checkpoint file,
+ * so an import that crashed resumes from there when run again; rows registered after the last checkpoint are then
+ * reported as already registered. Running a completed import again does nothing until its checkpoint is deleted.
+ */
+@Slf4j
+class UserImportJob {
+
+    private final Path file;
+    private final Path checkpointFile;
+    private final Path rejectsFile;
+    private final UserImportProperties properties;
+    private final RegisterUserPort registerUserPort;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportCounters counters;
+
+    private volatile UserImportStatus.State state = UserImportStatus.State.RUNNING;
+    private volatile long rows;
+    private volatile long created;
+    private volatile long rejected;
+    private volatile long offset;
+    private volatile String error;
+    private volatile long startedAtNanos = System.nanoTime();
+    private long rowsAtStart;
+    private long rowsAtCheckpoint;
+    private long rowsAtLastProgress;
+    private UserCsvParser parser;
+    private FileChannel rejects;
+    private Disposable progressLogger;
+
+    /**
+     * The counters of imported rows by outcome, shared by all imports.
+     */
+    record ImportCounters(Counter created, Counter conflict, Counter invalid) {
+    }
+
+    UserImportJob(Path file, UserImportProperties properties, RegisterUserPort registerUserPort, Validator validator,
+                  ObjectMapper objectMapper, ImportCounters counters) {
+        this.file = file;
+        this.checkpointFile = file.resolveSibling(file.getFileName() + ".checkpoint.json");
+        this.rejectsFile = file.resolveSibling(file.getFileName() + ".rejects.csv");
+        this.properties = properties;
+        this.registerUserPort = registerUserPort;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.counters = counters;
+    }
+
+    /**
+     * Runs the import, resuming from its checkpoint if it has one.
+     *
+     * @return A Mono emitting the final status of the import; failures are reported in the status, not as errors.
+     */
+    Mono<UserImportStatus> run() {
+        return Mono.fromCallable(this::open)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(reader -> importRecords(reader)
+                        .doFinally(signal -> close(reader)))
+                .then(Mono.fromCallable(this::complete).subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(ex -> Mono.fromSupplier(() -> fail(ex)))
+                .doFinally(signal -> release());
+    }
+
+    boolean isRunning() {
+        return state == UserImportStatus.State.RUNNING;
+    }
+
+    UserImportStatus status() {
+        double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1e9;
+        double rowsPerSecond = elapsedSeconds > 0 ? (rows - rowsAtStart) / elapsedSeconds : 0;
+        return new UserImportStatus(file.getFileName().toString(), state, rows, created, rejected, offset,
+                Math.round(rowsPerSecond * 10) / 10.0, rejectsFile.getFileName().toString(), error);
+    }
+
+    /**
+     * Reads the header and the checkpoint, and prepares the rejects file.
+     *
+     * @return The reader positioned at the first row to import, or null if the import already completed.
+     */
+    private CsvRecordReader open() throws IOException {
+        long dataOffset;
+        try (CsvRecordReader headerReader = new CsvRecordReader(file, 0, 0)) {
+            CsvRecord header = headerReader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("The file " + file.getFileName() + " is empty.");
+            }
+            parser = new UserCsvParser(header.text());
+            dataOffset = header.endOffset();
+
+            ImportCheckpoint checkpoint = ImportCheckpoint.read(checkpointFile, objectMapper);
+            if (checkpoint != null && checkpoint.completed()) {
+                restore(checkpoint);
+                state = UserImportStatus.State.COMPLETED;
+                log.info("Import of {} already completed; delete {} to import it again.", file.getFileName(), checkpointFile.getFileName());
+                return null;
+            }
+
+            rejects = FileChannel.open(rejectsFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (checkpoint == null) {
+                offset = dataOffset;
+                rejects.truncate(0);
+                rejects.write(ByteBuffer.wrap((header.text() + ",error\n").getBytes(StandardCharsets.UTF_8)));
+            } else {
+                restore(checkpoint);
+                rejects.truncate(checkpoint.rejectsSize());
+                rejects.position(checkpoint.rejectsSize());
+                log.info("Resuming import of {} at byte {}, after {} rows.", file.getFileName(), offset, rows);
+            }
+        }
+        startedAtNanos = System.nanoTime();
+        rowsAtStart = rows;
+        rowsAtCheckpoint = rows;
+        rowsAtLastProgress = rows;
+        progressLogger = Flux.interval(properties.progressInterval()).subscribe(tick -> logProgress());
+        return new CsvRecordReader(file, offset, rows);
+    }
+
+    private Mono<Void> importRecords(CsvRecordReader reader) {
+        return Flux.<CsvRecord>generate(sink -> {
+                    try {
+                        CsvRecord record = reader.next();
+                        if (record == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(record);
+                        }
+                    } catch (IOException ex) {
+                        sink.error(ex);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .buffer(properties.blockSize())
+                .flatMapSequential(block -> Mono.fromCallable(() -> parse(block)).subscribeOn(Schedulers.parallel()),
+                        properties.effectiveParallelism(), 1)
+                .concatMap(this::register, 1)
+                // a failure upstream waits for the block being recorded: interrupting a FileChannel write closes the channel
+                .concatMapDelayError(outcomes -> Mono.fromRunnable(() -> record(outcomes)).subscribeOn(Schedulers.boundedElastic()), 1)
+                .then();
+    }
+
+    private List<ParsedRow> parse(List<CsvRecord> block) {
+        List<ParsedRow> parsedRows = new ArrayList<>(block.size());
+        for (CsvRecord record : block) {
+            UserCsvParser.Row row;
+            try {
+                row = parser.parse(record.text());
+            } catch (IllegalArgumentException ex) {
+                parsedRows.add(ParsedRow.invalid(record, ex.getMessage()));
+                continue;
+            }
+            UserRegistrationRequest request = row.request();
+            Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                parsedRows.add(ParsedRow.invalid(record, BatchRegistration.formatViolations(violations)));
+                continue;
+            }
+            parsedRows.add(new ParsedRow(record, request.toCommand(row.idRole()), null));
+        }
+        return parsedRows;
+    }
+
+    private Mono<List<RowOutcome>> register(List<ParsedRow> parsedRows) {
+        List<RowOutcome> outcomes = new ArrayList<>(parsedRows.size());
+        List<Integer> commandIndexes = new ArrayList<>(parsedRows.size());
+        List<RegisterUserCommand> commands = new ArrayList<>(parsedRows.size());
+        for (ParsedRow parsedRow : parsedRows) {
+            if (parsedRow.command() == null) {
+                outcomes.add(new RowOutcome(parsedRow.record(), RegistrationResult.Status.INVALID, parsedRow.error()));
+            } else {
+                commandIndexes.add(outcomes.size());
+                commands.add(parsedRow.command());
+                outcomes.add(null);
+            }
+        }
+        if (commands.isEmpty()) {
+            return Mono.just(outcomes);
+        }
+        return registerUserPort.registerUsers(commands)
+                .index()
+                .doOnNext(result -> {
+                    int index = commandIndexes.get(result.getT1().intValue());
+                    outcomes.set(index, new RowOutcome(parsedRows.get(index).record(), result.getT2().status(), result.getT2().message()));
+                })
+                .then(Mono.fromSupplier(() -> outcomes));
+    }
+
+    /**
+     * Counts the outcomes of a block, writes its rejected rows and saves a checkpoint when one is due.
+     * Blocks are recorded one at a time, in file order.
+     */
+    private void record(List<RowOutcome> outcomes) {
+        ByteArrayOutputStream rejectedRows = new ByteArrayOutputStream();
+        long blockCreated = 0;
+        long blockRejected = 0;
+        for (RowOutcome outcome : outcomes) {
+            switch (outcome.status()) {
+                case CREATED -> {
+                    blockCreated++;
+                    counters.created().increment();
+                }
+                case CONFLICT -> counters.conflict().increment();
+                case INVALID -> counters.invalid().increment();
+            }
+            if (outcome.status() != RegistrationResult.Status.CREATED) {
+                blockRejected++;
+                rejectedRows.writeBytes((parser.redact(outcome.record().text()) + "," + UserCsvParser.quote(String.valueOf(outcome.message())) + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try {
+            if (rejectedRows.size() > 0) {
+                ByteBuffer buffer = ByteBuffer.wrap(rejectedRows.toByteArray());
+                while (buffer.hasRemaining()) {
+                    rejects.write(buffer);
+                }
+            }
+            created += blockCreated;
+            rejected += blockRejected;
+            rows += outcomes.size();
+            offset = outcomes.get(outcomes.size() - 1).record().endOffset();
+            if (rows - rowsAtCheckpoint >= properties.checkpointInterval()) {
+                checkpoint(false);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not record the progress of the import of " + file.getFileName() + ".", ex);
+        }
+    }
+
+    private void checkpoint(boolean completed) throws IOException {
+        rejects.force(false);
+        new ImportCheckpoint(offset, rows, created, rejected, rejects.size(), completed).write(checkpointFile, objectMapper);
+        rowsAtCheckpoint = rows;
+    }
+
+    private UserImportStatus complete() throws IOException {
+        if (state == UserImportStatus.State.RUNNING) {
+            checkpoint(true);
+            state = UserImportStatus.State.COMPLETED;
+            UserImportStatus status = status();
+            log.info("Imported {}: {} rows, {} users registered, {} rows rejected to {}, {} rows/s.", status.file(), status.rows(),
+                    status.created(), status.rejected(), status.rejectsFile(), status.rowsPerSecond());
+        }
+        return status();
+    }
+
+    private UserImportStatus fail(Throwable ex) {
+        error = ex.getMessage();
+        state = UserImportStatus.State.FAILED;
+        log.error("Import of {} failed after {} rows; running it again resumes from the last checkpoint.", file.getFileName(), rows, ex);
+        return status();
+    }
+
+    private void restore(ImportCheckpoint checkpoint) {
+        offset = checkpoint.offset();
+        rows = checkpoint.rows();
+        created = checkpoint.created();
+        rejected = checkpoint.rejected();
+    }
+
+    private void logProgress() {
+        long currentRows = rows;
+        double rowsPerSecond = (currentRows - rowsAtLastProgress) / (properties.progressInterval().toMillis() / 1000.0);
+        rowsAtLastProgress = currentRows;
+        log.info("Importing {}: {} rows, {} registered, {} rejected, {} rows/s.", file.getFileName(), currentRows, created, rejected,
+                Math.round(rowsPerSecond));
+    }
+
+    private void release() {
+        if (progressLogger != null) {
+            progressLogger.dispose();
+        }
+        if (rejects != null) {
+            try {
+                rejects.close();
+            } catch (IOException ex) {
+                log.warn("Could not close {}.", rejectsFile, ex);
+            }
+        }
+    }
+
+    private void close(CsvRecordReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            log.warn("Could not close {}.", file, ex);
+        }
+    }
+
+    private record ParsedRow(CsvRecord record, RegisterUserCommand command, String error) {
+
+        static ParsedRow invalid(CsvRecord record, String error) {
+            return new ParsedRow(record, null, error);
+        }
+    }
+
+    private record RowOutcome(CsvRecord record, RegistrationResult.Status status, String message) {
+    }
+}
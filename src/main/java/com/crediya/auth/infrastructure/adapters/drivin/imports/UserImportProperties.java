@@ -0,0 +1,33 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for importing users from CSV files.
+ *
+ * @param directory          The directory the admin endpoint imports files from; paths outside it are rejected.
+ * @param file               A file to import at startup, from the command line; the application fails to start if
+ *                           the import fails.
+ * @param blockSize          The number of rows parsed and registered together.
+ * @param parallelism        The number of blocks parsed and validated in parallel; zero uses one per processor.
+ * @param checkpointInterval The minimum number of rows between two checkpoints.
+ * @param progressInterval   How often progress is logged while an import runs.
+ */
+@ConfigurationProperties(prefix = "crediya.user-import")
+public record UserImportProperties(
+        @DefaultValue("imports") Path directory,
+        Path file,
+        @DefaultValue("1000") int blockSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("10000") int checkpointInterval,
+        @DefaultValue("5s") Duration progressInterval
+) {
+
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,28 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports the file given in {@code crediya.user-import.file} at startup, for example with
+ * {@code --crediya.user-import.file=users.csv} on the command line. Startup fails if the import does.
+ */
+@Component
+@ConditionalOnProperty(prefix = "crediya.user-import", name = "file")
+@RequiredArgsConstructor
+public class UserImportRunner implements ApplicationRunner {
+
+    private final UserImportService userImportService;
+    private final UserImportProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UserImportStatus status = userImportService.run(properties.file()).block();
+        if (status.state() == UserImportStatus.State.FAILED) {
+            throw new IllegalStateException("Import of " + properties.file() + " failed: " + status.error());
+        }
+    }
+}
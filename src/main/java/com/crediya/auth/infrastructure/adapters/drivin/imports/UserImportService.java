@@ -0,0 +1,102 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Starts user imports and keeps track of them, at most one running import per file.
+ */
+@Component
+public class UserImportService {
+
+    private final UserImportProperties properties;
+    private final RegisterUserPort registerUserPort;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserImportJob.ImportCounters counters;
+    private final Map<Path, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    public UserImportService(UserImportProperties properties, RegisterUserPort registerUserPort, Validator validator,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.registerUserPort = registerUserPort;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.counters = new UserImportJob.ImportCounters(rowCounter("created", meterRegistry),
+                rowCounter("conflict", meterRegistry), rowCounter("invalid", meterRegistry));
+    }
+
+    /**
+     * Starts importing a file of the import directory in the background, unless it is already being imported.
+     *
+     * @param fileName The name of the file, relative to the import directory.
+     * @return The status of the started import, or of the running one.
+     * @throws IllegalArgumentException     if the name points outside the import directory.
+     * @throws ImportFileNotFoundException if the file does not exist.
+     */
+    public UserImportStatus start(String fileName) {
+        Path file = resolve(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new ImportFileNotFoundException(fileName);
+        }
+        UserImportJob job = newJob(file);
+        UserImportJob current = jobs.compute(file, (key, existing) -> existing != null && existing.isRunning() ? existing : job);
+        if (current == job) {
+            job.run().subscribe();
+        }
+        return current.status();
+    }
+
+    /**
+     * @param fileName The name of the file, relative to the import directory.
+     * @return The status of the last import of the file started since this instance started, if any.
+     */
+    public Optional<UserImportStatus> status(String fileName) {
+        return Optional.ofNullable(jobs.get(resolve(fileName))).map(UserImportJob::status);
+    }
+
+    /**
+     * Imports a file from anywhere in the file system, for the command line runner.
+     *
+     * @param file The file to import.
+     * @return A Mono emitting the final status of the import.
+     */
+    public Mono<UserImportStatus> run(Path file) {
+        return Mono.defer(() -> {
+            UserImportJob job = newJob(file.toAbsolutePath().normalize());
+            jobs.put(file.toAbsolutePath().normalize(), job);
+            return job.run();
+        });
+    }
+
+    private Path resolve(String fileName) {
+        Path directory = properties.directory().toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || file.equals(directory)) {
+            throw new IllegalArgumentException("The file must be inside the import directory.");
+        }
+        return file;
+    }
+
+    private UserImportJob newJob(Path file) {
+        return new UserImportJob(file, properties, registerUserPort, validator, objectMapper, counters);
+    }
+
+    private static Counter rowCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("user.import.rows")
+                .description("Rows of imported CSV files, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
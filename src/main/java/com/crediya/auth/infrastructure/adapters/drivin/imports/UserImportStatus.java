@@ -0,0 +1,24 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+/**
+ * A snapshot of the progress of an import.
+ *
+ * @param file          The name of the imported file.
+ * @param state         Whether the import is running, completed or failed.
+ * @param rows          The number of rows processed, including those processed before a resume.
+ * @param created       The number of users registered.
+ * @param rejected      The number of rows written to the rejects file, because they were invalid or already registered.
+ * @param offset        The byte offset up to which the file has been processed.
+ * @param rowsPerSecond The rows processed per second since the import started or resumed.
+ * @param rejectsFile   The name of the rejects file.
+ * @param error         The reason the import failed, if it did.
+ */
+public record UserImportStatus(String file, State state, long rows, long created, long rejected, long offset,
+                               double rowsPerSecond, String rejectsFile, String error) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
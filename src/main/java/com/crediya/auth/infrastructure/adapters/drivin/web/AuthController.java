@@ -0,0 +1,116 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.exceptions.InvalidCredentialsException;
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.application.ports.in.LoginPort;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.IntrospectionResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.LoginRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.LoginResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.filter.TokenAuthenticationFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "APIs for authenticating users")
+public class AuthController {
+
+    private final LoginPort loginPort;
+    private final IntrospectTokenPort introspectTokenPort;
+
+    /**
+     * Handles the HTTP POST request to authenticate a user with their email and password.
+     *
+     * @param request The request body containing the user's credentials, which is validated automatically.
+     * @return A {@link Mono} emitting a {@link LoginResponse} with the signed access token.
+     */
+    @PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Log in",
+            description = "Verifies the user's email and password and issues a signed access token."
+    )
+    @ApiResponse(responseCode = "200", description = "Authenticated successfully.",
+            content = @Content(schema = @Schema(implementation = LoginResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid input data.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Invalid email or password.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "503", description = "Too many logins in progress.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+        return loginPort.login(request.toCommand())
+                .map(LoginResponse::fromToken);
+    }
+
+    /**
+     * Handles the HTTP GET request to check an access token issued by this service.
+     * The token is verified locally against the in-memory signing keys, without a database round trip; a malformed,
+     * forged or expired token is reported as inactive rather than as an error.
+     *
+     * @param authorization The {@code Authorization} header carrying the token as a bearer credential.
+     * @return A {@link Mono} emitting an {@link IntrospectionResponse} with the token's claims when it is active.
+     */
+    @GetMapping(value = "/introspect", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Introspect an access token",
+            description = "Verifies the bearer token's signature and expiry and returns its claims."
+    )
+    @ApiResponse(responseCode = "200", description = "The token was checked; 'active' tells whether it is valid.",
+            content = @Content(schema = @Schema(implementation = IntrospectionResponse.class)))
+    public Mono<IntrospectionResponse> introspect(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return TokenAuthenticationFilter.bearerToken(authorization)
+                .map(token -> introspectTokenPort.introspect(token)
+                        .map(IntrospectionResponse::fromClaims)
+                        .onErrorResume(InvalidTokenException.class, ex -> Mono.just(IntrospectionResponse.inactive())))
+                .orElseGet(() -> Mono.just(IntrospectionResponse.inactive()));
+    }
+
+    /**
+     * Handles the business exception thrown when the email and password do not match a registered user.
+     *
+     * @param ex The captured {@link InvalidCredentialsException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 401 Unauthorized status.
+     */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public Mono<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the rejection raised when the password hashing queue is full.
+     *
+     * @param ex The captured {@link RejectedExecutionException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 503 Service Unavailable status.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Mono<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Login rejected: password hashing queue is full.");
+        return Mono.just(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many logins in progress, please retry."));
+    }
+}
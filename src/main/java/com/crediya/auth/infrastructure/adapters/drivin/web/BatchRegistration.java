@@ -0,0 +1,91 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserBatchRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.filter.BatchRateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Registers a stream of users in chunks of {@value #BATCH_CHUNK_SIZE}, validating each request on its own, for both the
+ * annotated and the functional user API.
+ */
+public class BatchRegistration {
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private final RegisterUserPort registerUserPort;
+    private final Validator validator;
+    private final Counter validationFailureCounter;
+
+    BatchRegistration(RegisterUserPort registerUserPort, Validator validator, MeterRegistry meterRegistry) {
+        this.registerUserPort = registerUserPort;
+        this.validator = validator;
+        this.validationFailureCounter = SingleRegistration.validationFailureCounter(meterRegistry, "batch");
+    }
+
+    /**
+     * @param requests The stream of registration requests.
+     * @return A {@link Flux} emitting one {@link UserBatchRegistrationResponse} per request, in input order. If the
+     * client is rate limited, the chunk being registered still completes and emits its responses; once responses were
+     * sent a last 429 line replaces the lines that were not processed, before that the error is passed on.
+     */
+    Flux<UserBatchRegistrationResponse> register(Flux<UserRegistrationRequest> requests) {
+        AtomicBoolean responded = new AtomicBoolean();
+        return requests
+                .buffer(BATCH_CHUNK_SIZE)
+                .concatMapDelayError(this::registerChunk, 1)
+                .doOnNext(response -> responded.set(true))
+                .onErrorResume(ex -> ex instanceof BatchRateLimitExceededException && responded.get(),
+                        ex -> Flux.just(UserBatchRegistrationResponse.rateLimited(ex.getMessage())));
+    }
+
+    /**
+     * Formats constraint violations as {@code 'field': message} pairs, ordered by field. Also used by the CSV import.
+     */
+    public static String formatViolations(Set<ConstraintViolation<UserRegistrationRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> String.format("'%s': %s", violation.getPropertyPath(), violation.getMessage()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private Flux<UserBatchRegistrationResponse> registerChunk(List<UserRegistrationRequest> chunk) {
+        UserBatchRegistrationResponse[] responses = new UserBatchRegistrationResponse[chunk.size()];
+        List<Integer> commandIndexes = new ArrayList<>(chunk.size());
+        List<RegisterUserCommand> commands = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            UserRegistrationRequest request = chunk.get(i);
+            Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                validationFailureCounter.increment();
+                responses[i] = UserBatchRegistrationResponse.invalid(request.getEmail(), formatViolations(violations));
+                continue;
+            }
+            commands.add(request.toCommand());
+            commandIndexes.add(i);
+        }
+
+        if (commands.isEmpty()) {
+            return Flux.fromArray(responses);
+        }
+
+        return registerUserPort.registerUsers(commands)
+                .index()
+                .doOnNext(result -> responses[commandIndexes.get(result.getT1().intValue())] = UserBatchRegistrationResponse.fromResult(result.getT2()))
+                .thenMany(Flux.fromArray(responses));
+    }
+}
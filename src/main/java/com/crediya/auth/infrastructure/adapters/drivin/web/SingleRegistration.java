@@ -0,0 +1,97 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyStore;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotentResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers one validated user under an optional {@code Idempotency-Key}, for both the annotated and the functional
+ * user API. Each API only reads the request and writes the resulting status, body and replay header.
+ */
+@Slf4j
+class SingleRegistration {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final RegisterUserPort registerUserPort;
+    private final IdempotencyStore idempotencyStore;
+    private final Timer decodeAndValidateTimer;
+    private final Counter validationFailureCounter;
+
+    SingleRegistration(RegisterUserPort registerUserPort, IdempotencyStore idempotencyStore, MeterRegistry meterRegistry) {
+        this.registerUserPort = registerUserPort;
+        this.idempotencyStore = idempotencyStore;
+        this.decodeAndValidateTimer = Timer.builder("registration.stage")
+                .description("Time spent in each stage of a user registration")
+                .tag("stage", "decode_and_validate")
+                .register(meterRegistry);
+        this.validationFailureCounter = validationFailureCounter(meterRegistry, "single");
+    }
+
+    /**
+     * The counter of registration requests rejected by input validation, tagged with the registration path.
+     */
+    static Counter validationFailureCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("registration.validation.failures")
+                .description("Registration requests rejected by input validation")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the user, or replays the response stored for the same {@code Idempotency-Key} and request.
+     *
+     * @param request           The request, already validated.
+     * @param idempotencyKey    The optional client-chosen key identifying this registration attempt.
+     * @param decodeStartNanos When the request left the filter chain, or {@code null} if it was not measured.
+     * @return A {@link Mono} emitting the created or conflict response, or the stored response of the key.
+     */
+    Mono<IdempotentResponse> register(UserRegistrationRequest request, String idempotencyKey, Long decodeStartNanos) {
+        if (decodeStartNanos != null) {
+            decodeAndValidateTimer.record(System.nanoTime() - decodeStartNanos, TimeUnit.NANOSECONDS);
+        }
+        log.debug("Received registration request for email: {}", request.getEmail());
+        return idempotencyStore.execute(idempotencyKey, request, () -> register(request))
+                .doOnNext(response -> {
+                    if (response.replayed()) {
+                        log.info("Replayed registration response for Idempotency-Key {}.", idempotencyKey);
+                    }
+                });
+    }
+
+    /**
+     * Counts and logs a registration request rejected by input validation.
+     *
+     * @param errors The formatted validation errors.
+     */
+    void rejected(String errors) {
+        validationFailureCounter.increment();
+        log.warn("Validation failed for registration request: {}", errors);
+    }
+
+    private Mono<IdempotentResponse> register(UserRegistrationRequest request) {
+        return Mono.just(request)
+                .map(UserRegistrationRequest::toCommand)
+                .flatMap(registerUserPort::registerUser)
+                .map(UserRegistrationResponse::fromDomain)
+                .doOnSuccess(response -> log.info("Successfully registered user with email: {}", response.getEmail()))
+                .map(response -> IdempotentResponse.of(HttpStatus.CREATED, response))
+                .onErrorResume(EmailAlreadyExistsException.class, ex -> {
+                    log.warn("Registration failed: {}", ex.getMessage());
+                    return Mono.just(IdempotentResponse.of(HttpStatus.CONFLICT, new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage())));
+                });
+    }
+}
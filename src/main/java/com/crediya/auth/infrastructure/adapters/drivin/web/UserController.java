@@ -1,48 +1,80 @@
 package com.crediya.auth.infrastructure.adapters.drivin.web;
 
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.ports.in.FindUserPort;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
 import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserBatchRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserPageResponse;
 import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
 import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.filter.RequestTimingFilter;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyStore;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * The annotated implementation of the user API, used unless {@code crediya.web.api-style} selects the functional
+ * {@link UserRouter}.
+ */
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/users")
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "crediya.web", name = "api-style", havingValue = "annotated", matchIfMissing = true)
 @Tag(name = "User Management", description = "APIs for user registration and management")
 public class UserController {
 
-    private final RegisterUserPort registerUserPort;
+    private final FindUserPort findUserPort;
+    private final SingleRegistration singleRegistration;
+    private final BatchRegistration batchRegistration;
+
+    public UserController(RegisterUserPort registerUserPort, FindUserPort findUserPort, Validator validator,
+                          IdempotencyStore idempotencyStore, MeterRegistry meterRegistry) {
+        this.findUserPort = findUserPort;
+        this.singleRegistration = new SingleRegistration(registerUserPort, idempotencyStore, meterRegistry);
+        this.batchRegistration = new BatchRegistration(registerUserPort, validator, meterRegistry);
+    }
 
     /**
      * Handles the HTTP POST request to register a new user.
+     * When an {@code Idempotency-Key} header is sent, the created or conflict response is kept and replayed for
+     * retries with the same key and request, without running the registration again.
      *
-     * @param request The request body containing the user's data, which is validated automatically.
-     * @return A {@link Mono} emitting a {@link UserRegistrationResponse} upon successful creation.
+     * @param request        The request body containing the user's data, which is validated automatically.
+     * @param idempotencyKey The optional client-chosen key identifying this registration attempt.
+     * @param exchange       The current exchange, used to measure the time spent decoding and validating the request.
+     * @return A {@link Mono} emitting a {@link UserRegistrationResponse} upon successful creation, or the stored response of the key.
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.CREATED)
     @Operation(
             summary = "Register a new user",
             description = "Creates a new user in the system based on the provided data."
@@ -53,29 +85,117 @@ public class UserController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "409", description = "Email already exists.",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public Mono<UserRegistrationResponse> registerUser(@Valid @RequestBody UserRegistrationRequest request) {
-        log.info("Received registration request for email: {}", request.getEmail());
-        return Mono.just(request)
-                .map(UserRegistrationRequest::toCommand)
-                .flatMap(registerUserPort::registerUser)
-                .map(UserRegistrationResponse::fromDomain)
-                .doOnSuccess(response -> log.info("Successfully registered user with email: {}", response.getEmail()));
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key is malformed or was used for a different request.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<ResponseEntity<Object>> registerUser(@Valid @RequestBody UserRegistrationRequest request,
+                                                     @RequestHeader(value = SingleRegistration.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                     ServerWebExchange exchange) {
+        Long decodeStartNanos = exchange.getAttribute(RequestTimingFilter.DECODE_START_NANOS);
+        return singleRegistration.register(request, idempotencyKey, decodeStartNanos)
+                .map(response -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.status());
+                    if (response.replayed()) {
+                        builder.header(SingleRegistration.IDEMPOTENT_REPLAYED, "true");
+                    }
+                    return builder.body(response.body());
+                });
+    }
+
+    /**
+     * Handles the HTTP POST request to register users in bulk from a newline-delimited JSON stream.
+     * Each line is validated on its own, so an invalid or conflicting line does not abort the rest of the upload.
+     *
+     * @param requests The stream of registration requests, one per NDJSON line.
+     * @return A {@link Flux} emitting one {@link UserBatchRegistrationResponse} per input line, in input order.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Register users in bulk",
+            description = "Registers a stream of users sent as newline-delimited JSON and streams back one result line per input line."
+    )
+    @ApiResponse(responseCode = "200", description = "Stream of per-user registration results.",
+            content = @Content(schema = @Schema(implementation = UserBatchRegistrationResponse.class)))
+    public Flux<UserBatchRegistrationResponse> registerUsers(@RequestBody Flux<UserRegistrationRequest> requests) {
+        return batchRegistration.register(requests);
+    }
+
+    /**
+     * Handles the HTTP GET request to look up a user by their identifier.
+     *
+     * @param id The identifier of the user.
+     * @return A {@link Mono} emitting the {@link UserResponse} of the user.
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Find a user by ID",
+            description = "Returns the registered user with the given identifier."
+    )
+    @ApiResponse(responseCode = "200", description = "User found.",
+            content = @Content(schema = @Schema(implementation = UserResponse.class)))
+    @ApiResponse(responseCode = "404", description = "User not found.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserResponse> findUserById(@PathVariable Long id) {
+        return findUserPort.findById(id)
+                .map(UserResponse::fromDomain);
+    }
+
+    /**
+     * Handles the HTTP GET request to look up a user by their email.
+     *
+     * @param email The email of the user.
+     * @return A {@link Mono} emitting the {@link UserResponse} of the user.
+     */
+    @GetMapping(params = "email", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Find a user by email",
+            description = "Returns the registered user with the given email."
+    )
+    @ApiResponse(responseCode = "200", description = "User found.",
+            content = @Content(schema = @Schema(implementation = UserResponse.class)))
+    @ApiResponse(responseCode = "404", description = "User not found.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserResponse> findUserByEmail(@RequestParam String email) {
+        return findUserPort.findByEmail(email)
+                .map(UserResponse::fromDomain);
     }
 
     /**
-     * Exception handler that centralizes the logic for handling input validation errors for this controller.
+     * Handles the HTTP GET request to list users one page at a time, paginating by keyset on the user identifier.
      *
-     * @param ex The captured {@link WebExchangeBindException} containing validation details.
-     * @return A {@link Mono} emitting a standardized {@link ErrorResponse}.
+     * @param after The cursor returned with the previous page; omit it to get the first page.
+     * @param limit The maximum number of users in the page.
+     * @return A {@link Mono} emitting the {@link UserPageResponse} with the users and the cursor of the following page.
      */
-    @ExceptionHandler(WebExchangeBindException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Mono<ErrorResponse> handleValidationException(WebExchangeBindException ex) {
-        String errors = ex.getBindingResult().getFieldErrors().stream()
-                .map(error -> String.format("'%s': %s", error.getField(), error.getDefaultMessage()))
-                .collect(Collectors.joining(", "));
-        log.warn("Validation failed for registration request: {}", errors);
-        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List users",
+            description = "Returns a page of users ordered by ID. Pass the returned nextCursor as 'after' to get the following page; it is null on the last page."
+    )
+    @ApiResponse(responseCode = "200", description = "Page of users.",
+            content = @Content(schema = @Schema(implementation = UserPageResponse.class)))
+    public Mono<UserPageResponse> listUsers(@RequestParam(required = false) Long after,
+                                            @RequestParam(defaultValue = "100") int limit) {
+        return findUserPort.listUsers(after, limit)
+                .map(UserPageResponse::fromPage);
+    }
+
+    /**
+     * Handles the HTTP GET request to stream every user as newline-delimited JSON.
+     * Rows are read from the database as the client consumes them, so a full export is never buffered in memory.
+     *
+     * @param after The identifier to resume after; omit it to start from the beginning.
+     * @return A {@link Flux} emitting one {@link UserResponse} per user, ordered by ID.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream users",
+            description = "Streams every user ordered by ID as newline-delimited JSON, starting after the given ID."
+    )
+    @ApiResponse(responseCode = "200", description = "Stream of users.",
+            content = @Content(schema = @Schema(implementation = UserResponse.class)))
+    public Flux<UserResponse> streamUsers(@RequestParam(required = false) Long after) {
+        return findUserPort.streamUsers(after)
+                .map(UserResponse::fromDomain);
     }
 
     /**
@@ -90,4 +210,43 @@ public class UserController {
         log.warn("Registration failed: {}", ex.getMessage());
         return Mono.just(new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage()));
     }
+
+    /**
+     * Handles the business exception thrown when a looked-up user does not exist.
+     *
+     * @param ex The captured {@link UserNotFoundException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 404 Not Found status.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Mono<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
+        log.debug("Lookup failed: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles a malformed {@code Idempotency-Key}, or one already used for a different registration request.
+     *
+     * @param ex The captured {@link InvalidIdempotencyKeyException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 422 Unprocessable Entity status.
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public Mono<ErrorResponse> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex) {
+        log.warn("Registration rejected: {}", ex.getMessage());
+        return Mono.just(new ErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles the rejection raised when the password hashing queue is full.
+     *
+     * @param ex The captured {@link RejectedExecutionException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 503 Service Unavailable status.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Mono<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Registration rejected: password hashing queue is full.");
+        return Mono.just(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many registrations in progress, please retry."));
+    }
 }
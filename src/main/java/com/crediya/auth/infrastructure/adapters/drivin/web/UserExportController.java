@@ -0,0 +1,59 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.infrastructure.adapters.drivin.export.ExportFormat;
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExporter;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserExportRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserExportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/admin/user-exports")
+@RequiredArgsConstructor
+@Tag(name = "User Exports", description = "APIs for exporting users to files")
+public class UserExportController {
+
+    private final UserExporter userExporter;
+
+    /**
+     * Handles the HTTP POST request to export every user to a new file of the export directory.
+     * The response is sent once the file is complete; the export holds no thread while it waits for the database or
+     * the disk.
+     *
+     * @param request The optional request body with the format and compression, which is validated automatically.
+     * @return A {@link Mono} emitting the {@link UserExportResponse} describing the written file.
+     */
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Export every user to a file",
+            description = "Streams every user, in identifier order, to a CSV or NDJSON file of the export directory, optionally gzip compressed."
+    )
+    @ApiResponse(responseCode = "201", description = "File written.",
+            content = @Content(schema = @Schema(implementation = UserExportResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid format.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserExportResponse> export(@Valid @RequestBody(required = false) UserExportRequest request) {
+        ExportFormat format = request == null || request.getFormat() == null
+                ? null
+                : ExportFormat.valueOf(request.getFormat().toUpperCase(Locale.ROOT));
+        return userExporter.export(format, request == null ? null : request.getGzip())
+                .map(UserExportResponse::fromResult);
+    }
+}
@@ -0,0 +1,195 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserBatchRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserPageResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.filter.RequestTimingFilter;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyStore;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The functional implementation of the user API, routed by {@link UserRouter}.
+ * It serves the same contract as {@link UserController} without handler method lookup, argument resolution or
+ * exception handler dispatch: request bodies are validated explicitly and every failure is mapped to an
+ * {@link ErrorResponse} in {@link #errorResponse(Throwable)}.
+ */
+@Slf4j
+public class UserHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final FindUserPort findUserPort;
+    private final Validator validator;
+    private final SingleRegistration singleRegistration;
+    private final BatchRegistration batchRegistration;
+    private final Timer beanValidationTimer;
+
+    public UserHandler(RegisterUserPort registerUserPort, FindUserPort findUserPort, Validator validator,
+                       IdempotencyStore idempotencyStore, MeterRegistry meterRegistry) {
+        this.findUserPort = findUserPort;
+        this.validator = validator;
+        this.singleRegistration = new SingleRegistration(registerUserPort, idempotencyStore, meterRegistry);
+        this.batchRegistration = new BatchRegistration(registerUserPort, validator, meterRegistry);
+        this.beanValidationTimer = Timer.builder("registration.stage")
+                .description("Time spent in each stage of a user registration")
+                .tag("stage", "bean_validation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a new user, replaying the stored response for retries carrying the same {@code Idempotency-Key}.
+     */
+    public Mono<ServerResponse> registerUser(ServerRequest request) {
+        String idempotencyKey = request.headers().firstHeader(SingleRegistration.IDEMPOTENCY_KEY);
+        return request.bodyToMono(UserRegistrationRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body is missing.")))
+                .flatMap(registration -> {
+                    Set<ConstraintViolation<UserRegistrationRequest>> violations = beanValidationTimer.record(() -> validator.validate(registration));
+                    if (!violations.isEmpty()) {
+                        String errors = BatchRegistration.formatViolations(violations);
+                        singleRegistration.rejected(errors);
+                        return error(HttpStatus.BAD_REQUEST, errors);
+                    }
+                    Long decodeStartNanos = (Long) request.attribute(RequestTimingFilter.DECODE_START_NANOS).orElse(null);
+                    return singleRegistration.register(registration, idempotencyKey, decodeStartNanos)
+                            .flatMap(response -> {
+                                ServerResponse.BodyBuilder builder = ServerResponse.status(response.status())
+                                        .contentType(MediaType.APPLICATION_JSON);
+                                if (response.replayed()) {
+                                    builder.header(SingleRegistration.IDEMPOTENT_REPLAYED, "true");
+                                }
+                                return builder.bodyValue(response.body());
+                            });
+                })
+                .onErrorResume(this::errorResponse);
+    }
+
+    /**
+     * Registers users in bulk from a newline-delimited JSON stream, streaming back one result line per input line.
+     */
+    public Mono<ServerResponse> registerUsers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(batchRegistration.register(request.bodyToFlux(UserRegistrationRequest.class)), UserBatchRegistrationResponse.class);
+    }
+
+    /**
+     * Looks up a user by the identifier in the path.
+     */
+    public Mono<ServerResponse> findUserById(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            return error(HttpStatus.BAD_REQUEST, "'id' must be a number.");
+        }
+        return findUserPort.findById(id)
+                .map(UserResponse::fromDomain)
+                .flatMap(this::ok)
+                .onErrorResume(this::errorResponse);
+    }
+
+    /**
+     * Looks up a user by the {@code email} query parameter.
+     */
+    public Mono<ServerResponse> findUserByEmail(ServerRequest request) {
+        return findUserPort.findByEmail(request.queryParam("email").orElseThrow())
+                .map(UserResponse::fromDomain)
+                .flatMap(this::ok)
+                .onErrorResume(this::errorResponse);
+    }
+
+    /**
+     * Lists users one page at a time, paginating by keyset on the user identifier.
+     */
+    public Mono<ServerResponse> listUsers(ServerRequest request) {
+        Long after;
+        int limit;
+        try {
+            after = request.queryParam("after").map(Long::valueOf).orElse(null);
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        } catch (NumberFormatException ex) {
+            return error(HttpStatus.BAD_REQUEST, "'after' and 'limit' must be numbers.");
+        }
+        return findUserPort.listUsers(after, limit)
+                .map(UserPageResponse::fromPage)
+                .flatMap(this::ok);
+    }
+
+    /**
+     * Streams every user as newline-delimited JSON, ordered by identifier.
+     */
+    public Mono<ServerResponse> streamUsers(ServerRequest request) {
+        Long after;
+        try {
+            after = request.queryParam("after").map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException ex) {
+            return error(HttpStatus.BAD_REQUEST, "'after' must be a number.");
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(findUserPort.streamUsers(after).map(UserResponse::fromDomain), UserResponse.class);
+    }
+
+    private Mono<ServerResponse> ok(Object body) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    /**
+     * Maps the failures of the user API to their status, with the same messages as the handlers of {@link UserController}.
+     */
+    private Mono<ServerResponse> errorResponse(Throwable error) {
+        if (error instanceof EmailAlreadyExistsException) {
+            log.warn("Registration failed: {}", error.getMessage());
+            return error(HttpStatus.CONFLICT, error.getMessage());
+        }
+        if (error instanceof UserNotFoundException) {
+            log.debug("Lookup failed: {}", error.getMessage());
+            return error(HttpStatus.NOT_FOUND, error.getMessage());
+        }
+        if (error instanceof InvalidIdempotencyKeyException) {
+            log.warn("Registration rejected: {}", error.getMessage());
+            return error(HttpStatus.UNPROCESSABLE_ENTITY, error.getMessage());
+        }
+        if (error instanceof RejectedExecutionException) {
+            log.warn("Registration rejected: password hashing queue is full.");
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "Too many registrations in progress, please retry.");
+        }
+        if (error instanceof ResponseStatusException ex) {
+            return error(ex.getStatusCode(), ex.getReason());
+        }
+        if (error instanceof CodecException) {
+            log.debug("Could not read the request body: {}", error.getMessage());
+            return error(HttpStatus.BAD_REQUEST, "Request body is not valid JSON.");
+        }
+        return Mono.error(error);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatusCode status, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status.value(), message));
+    }
+}
@@ -0,0 +1,102 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.infrastructure.adapters.drivin.imports.ImportFileNotFoundException;
+import com.crediya.auth.infrastructure.adapters.drivin.imports.UserImportService;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserImportRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/admin/user-imports")
+@RequiredArgsConstructor
+@Tag(name = "User Imports", description = "APIs for importing users from CSV files")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    /**
+     * Handles the HTTP POST request to import a CSV file of users from the import directory.
+     * The import runs in the background; its progress is available from {@link #status}.
+     *
+     * @param request The request body with the name of the file, which is validated automatically.
+     * @return A {@link Mono} emitting the {@link UserImportResponse} of the started import, or of the one already running.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Import users from a CSV file",
+            description = "Starts importing a CSV file of the import directory, resuming from its checkpoint if a previous import was interrupted."
+    )
+    @ApiResponse(responseCode = "202", description = "The import started or was already running.",
+            content = @Content(schema = @Schema(implementation = UserImportResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid file name.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "File not found in the import directory.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserImportResponse> startImport(@Valid @RequestBody UserImportRequest request) {
+        return Mono.fromCallable(() -> userImportService.start(request.getFile()))
+                .map(UserImportResponse::fromStatus);
+    }
+
+    /**
+     * Handles the HTTP GET request to check the progress of an import.
+     *
+     * @param file The name of the imported file.
+     * @return A {@link Mono} emitting the {@link UserImportResponse} of the last import of the file.
+     */
+    @GetMapping(value = "/{file}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get the progress of an import",
+            description = "Returns the progress of the last import of the file since the service started."
+    )
+    @ApiResponse(responseCode = "200", description = "Import found.",
+            content = @Content(schema = @Schema(implementation = UserImportResponse.class)))
+    @ApiResponse(responseCode = "404", description = "No import of the file.",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public Mono<UserImportResponse> status(@PathVariable String file) {
+        return Mono.fromCallable(() -> userImportService.status(file).orElseThrow(() -> new ImportFileNotFoundException(file)))
+                .map(UserImportResponse::fromStatus);
+    }
+
+    /**
+     * Handles file names that point outside the import directory.
+     *
+     * @param ex The captured {@link IllegalArgumentException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 400 Bad Request status.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    /**
+     * Handles files and imports that do not exist.
+     *
+     * @param ex The captured {@link ImportFileNotFoundException}.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse} with a 404 Not Found status.
+     */
+    @ExceptionHandler(ImportFileNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Mono<ErrorResponse> handleImportFileNotFoundException(ImportFileNotFoundException ex) {
+        return Mono.just(new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
+    }
+}
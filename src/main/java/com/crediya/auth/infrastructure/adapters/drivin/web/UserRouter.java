@@ -0,0 +1,52 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+
+/**
+ * Routes {@code /api/v1/users} to the functional {@link UserHandler} when {@code crediya.web.api-style} is
+ * {@code functional}, in place of the annotated {@link UserController}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "crediya.web", name = "api-style", havingValue = "functional")
+public class UserRouter {
+
+    /**
+     * Matches only requests that explicitly accept newline-delimited JSON, so wildcard clients get the JSON page.
+     */
+    private static final RequestPredicate ACCEPTS_NDJSON =
+            request -> request.headers().accept().contains(MediaType.APPLICATION_NDJSON);
+
+    @Bean
+    public UserHandler userHandler(RegisterUserPort registerUserPort, FindUserPort findUserPort, Validator validator,
+                                   IdempotencyStore idempotencyStore, MeterRegistry meterRegistry) {
+        return new UserHandler(registerUserPort, findUserPort, validator, idempotencyStore, meterRegistry);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> userRoutes(UserHandler userHandler) {
+        return RouterFunctions.route()
+                .path("/api/v1/users", users -> users
+                        .POST("/batch", contentType(MediaType.APPLICATION_NDJSON), userHandler::registerUsers)
+                        .POST("", contentType(MediaType.APPLICATION_JSON), userHandler::registerUser)
+                        .GET("/{id}", userHandler::findUserById)
+                        .GET("", queryParam("email", email -> true), userHandler::findUserByEmail)
+                        .GET("", ACCEPTS_NDJSON, userHandler::streamUsers)
+                        .GET("", userHandler::listUsers))
+                .build();
+    }
+}
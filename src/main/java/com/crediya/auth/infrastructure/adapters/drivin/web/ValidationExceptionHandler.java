@@ -0,0 +1,49 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Maps the input validation errors of every annotated controller to a standardized {@link ErrorResponse}.
+ * Rejected user registrations are also counted and logged, as the functional user API does in {@link UserHandler}.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ValidationExceptionHandler {
+
+    private final Counter registrationValidationFailureCounter;
+
+    public ValidationExceptionHandler(MeterRegistry meterRegistry) {
+        this.registrationValidationFailureCounter = SingleRegistration.validationFailureCounter(meterRegistry, "single");
+    }
+
+    /**
+     * Exception handler that centralizes the logic for handling input validation errors.
+     *
+     * @param ex The captured {@link WebExchangeBindException} containing validation details.
+     * @return A {@link Mono} emitting a standardized {@link ErrorResponse}.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleValidationException(WebExchangeBindException ex) {
+        String errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> String.format("'%s': %s", error.getField(), error.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+        if (ex.getTarget() instanceof UserRegistrationRequest) {
+            registrationValidationFailureCounter.increment();
+            log.warn("Validation failed for registration request: {}", errors);
+        }
+        return Mono.just(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), errors));
+    }
+}
@@ -0,0 +1,152 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.codec;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Decodes a {@link UserRegistrationRequest} body by reading its fields straight off a streaming parser, without
+ * databind's reflective bean deserialization.
+ *
+ * Only the canonical form is read this way: an object whose fields hold strings, numbers or nulls of the expected
+ * type, and a birth date in {@code yyyy-MM-dd} form. Anything else, including malformed JSON, is handed to
+ * {@link Jackson2JsonDecoder} on the same bytes, so lenient coercions and error messages stay exactly as they were.
+ * Streams of requests, like the NDJSON batch, are decoded by Jackson as before.
+ */
+public class UserRegistrationRequestDecoder extends Jackson2JsonDecoder {
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private final boolean ignoresUnknownFields;
+    private final boolean defaultMapping;
+
+    public UserRegistrationRequestDecoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.ignoresUnknownFields = !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.defaultMapping = objectMapper.getPropertyNamingStrategy() == null
+                && !objectMapper.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return elementType.toClass() == UserRegistrationRequest.class && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType,
+                         @Nullable Map<String, Object> hints) throws DecodingException {
+        if (defaultMapping && (hints == null || !hints.containsKey(JSON_VIEW_HINT))) {
+            int readPosition = dataBuffer.readPosition();
+            UserRegistrationRequest request = read(dataBuffer);
+            if (request != null) {
+                DataBufferUtils.release(dataBuffer);
+                return request;
+            }
+            dataBuffer.readPosition(readPosition);
+        }
+        return super.decode(dataBuffer, targetType, mimeType, hints);
+    }
+
+    /**
+     * @return The request, or null if the body is not in the canonical form and has to go through databind.
+     */
+    @Nullable
+    private UserRegistrationRequest read(DataBuffer dataBuffer) {
+        try (InputStream input = dataBuffer.asInputStream(); JsonParser parser = getObjectMapper().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            UserRegistrationRequest.UserRegistrationRequestBuilder request = UserRegistrationRequest.builder();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "firstName" -> request.firstName(text(parser, value));
+                    case "lastName" -> request.lastName(text(parser, value));
+                    case "email" -> request.email(text(parser, value));
+                    case "identityNumber" -> request.identityNumber(text(parser, value));
+                    case "phoneNumber" -> request.phoneNumber(text(parser, value));
+                    case "birthDate" -> request.birthDate(date(parser, value));
+                    case "address" -> request.address(text(parser, value));
+                    case "baseSalary" -> request.baseSalary(decimal(parser, value));
+                    case "password" -> request.password(text(parser, value));
+                    default -> {
+                        if (!ignoresUnknownFields) {
+                            return null;
+                        }
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return request.build();
+        } catch (IOException | NotCanonical ex) {
+            return null;
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw NotCanonical.INSTANCE;
+    }
+
+    private static BigDecimal decimal(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw NotCanonical.INSTANCE;
+    }
+
+    private static LocalDate date(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.VALUE_STRING || parser.getTextLength() != ISO_DATE_LENGTH) {
+            throw NotCanonical.INSTANCE;
+        }
+        try {
+            return LocalDate.parse(parser.getText());
+        } catch (DateTimeParseException ex) {
+            throw NotCanonical.INSTANCE;
+        }
+    }
+
+    /**
+     * Signals a value that the fast path does not read, so databind decodes the body instead.
+     */
+    private static final class NotCanonical extends RuntimeException {
+
+        private static final NotCanonical INSTANCE = new NotCanonical();
+
+        private NotCanonical() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.codec;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Encodes a {@link UserRegistrationResponse} by writing its JSON straight into a buffer from the response's buffer
+ * factory, pooled on Netty, without databind's reflective bean serialization. The output is the same as Jackson's
+ * defaults: fields in declaration order, nulls included, non-ASCII characters as UTF-8, and control characters and
+ * surrogates escaped.
+ *
+ * If the ObjectMapper is configured to write anything else, and for JSON views and non-UTF-8 charsets, values go
+ * through {@link Jackson2JsonEncoder}.
+ */
+public class UserRegistrationResponseEncoder extends Jackson2JsonEncoder {
+
+    private static final byte[] EMAIL_FIELD = "{\"email\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MESSAGE_FIELD = ",\"message\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_CAPACITY = 128;
+
+    /**
+     * Exercises naming, null inclusion, escaping and surrogates, to check the ObjectMapper writes what this encoder does.
+     */
+    private static final UserRegistrationResponse PROBE = new UserRegistrationResponse("\"\\/\t\u0001 ñ € \uD83D\uDE00", null);
+
+    private final boolean defaultMapping;
+
+    public UserRegistrationResponseEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.defaultMapping = writesLikeJackson(objectMapper);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return elementType.toClass() == UserRegistrationResponse.class && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                 @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (!defaultMapping || !(value instanceof UserRegistrationResponse response)
+                || (hints != null && hints.containsKey(JSON_VIEW_HINT))
+                || (mimeType != null && mimeType.getCharset() != null && !StandardCharsets.UTF_8.equals(mimeType.getCharset()))) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_CAPACITY);
+        boolean written = false;
+        try {
+            write(buffer, response);
+            written = true;
+            return buffer;
+        } finally {
+            if (!written) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private static boolean writesLikeJackson(ObjectMapper objectMapper) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(INITIAL_CAPACITY);
+        try {
+            write(buffer, PROBE);
+            byte[] written = new byte[buffer.readableByteCount()];
+            buffer.read(written);
+            return Arrays.equals(objectMapper.writeValueAsBytes(PROBE), written);
+        } catch (JsonProcessingException ex) {
+            return false;
+        }
+    }
+
+    private static void write(DataBuffer buffer, UserRegistrationResponse response) {
+        buffer.write(EMAIL_FIELD);
+        writeString(buffer, response.getEmail());
+        buffer.write(MESSAGE_FIELD);
+        writeString(buffer, response.getMessage());
+        buffer.write((byte) '}');
+    }
+
+    /**
+     * Writes a JSON string with the escapes Jackson uses by default. Also used by the NDJSON user export.
+     */
+    public static void writeString(DataBuffer buffer, @Nullable String value) {
+        if (value == null) {
+            buffer.write(NULL);
+            return;
+        }
+        buffer.write((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                writeNonAscii(buffer, c);
+            } else if (c == '"' || c == '\\') {
+                buffer.write((byte) '\\').write((byte) c);
+            } else if (c >= 0x20) {
+                buffer.write((byte) c);
+            } else {
+                writeControl(buffer, c);
+            }
+        }
+        buffer.write((byte) '"');
+    }
+
+    private static void writeControl(DataBuffer buffer, char c) {
+        switch (c) {
+            case '\b' -> buffer.write((byte) '\\').write((byte) 'b');
+            case '\t' -> buffer.write((byte) '\\').write((byte) 't');
+            case '\n' -> buffer.write((byte) '\\').write((byte) 'n');
+            case '\f' -> buffer.write((byte) '\\').write((byte) 'f');
+            case '\r' -> buffer.write((byte) '\\').write((byte) 'r');
+            default -> writeUnicodeEscape(buffer, c);
+        }
+    }
+
+    /**
+     * Writes a non-ASCII character as UTF-8, except for surrogates, which Jackson writes as {@code \\uXXXX} escapes.
+     */
+    private static void writeNonAscii(DataBuffer buffer, char c) {
+        if (c < 0x800) {
+            buffer.write((byte) (0xC0 | (c >> 6))).write((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isSurrogate(c)) {
+            writeUnicodeEscape(buffer, c);
+        } else {
+            buffer.write((byte) (0xE0 | (c >> 12))).write((byte) (0x80 | ((c >> 6) & 0x3F))).write((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    private static void writeUnicodeEscape(DataBuffer buffer, char c) {
+        buffer.write((byte) '\\').write((byte) 'u')
+                .write(HEX_DIGITS[c >> 12]).write(HEX_DIGITS[(c >> 8) & 0xF])
+                .write(HEX_DIGITS[(c >> 4) & 0xF]).write(HEX_DIGITS[c & 0xF]);
+    }
+}
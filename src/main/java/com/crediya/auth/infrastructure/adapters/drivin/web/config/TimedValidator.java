@@ -0,0 +1,38 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * A {@link SmartValidator} decorator that records the time spent in bean validation of request bodies.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final Timer timer;
+
+    public TimedValidator(SmartValidator delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timer = Timer.builder("registration.stage")
+                .description("Time spent in each stage of a user registration")
+                .tag("stage", "bean_validation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        timer.record(() -> delegate.validate(target, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        timer.record(() -> delegate.validate(target, errors, validationHints));
+    }
+}
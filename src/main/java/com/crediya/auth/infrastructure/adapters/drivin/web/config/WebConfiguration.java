@@ -0,0 +1,55 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.config;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.codec.UserRegistrationRequestDecoder;
+import com.crediya.auth.infrastructure.adapters.drivin.web.codec.UserRegistrationResponseEncoder;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyProperties;
+import com.crediya.auth.infrastructure.adapters.drivin.web.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFlux customizations for the driving web adapter.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class WebConfiguration implements WebFluxConfigurer {
+
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Uses the application's bean validator for {@code @Valid} arguments, wrapped so its cost is measured.
+     */
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(validator), meterRegistry);
+    }
+
+    /**
+     * Reads registration requests and writes registration responses without reflective bean (de)serialization.
+     * Registered with the default codec configuration, so limits like the maximum in-memory size still apply.
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().registerWithDefaultConfig(new UserRegistrationRequestDecoder(objectMapper));
+        configurer.customCodecs().registerWithDefaultConfig(new UserRegistrationResponseEncoder(objectMapper));
+    }
+
+    /**
+     * The store of registration responses replayed for retries carrying the same {@code Idempotency-Key}.
+     */
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore(properties, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.domain.model.TokenClaims;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) for the token introspection response.
+ * Inactive tokens carry only {@code active: false}, without saying why they were rejected.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResponse {
+
+    private boolean active;
+    private Long userId;
+    private String email;
+    private String role;
+    private Instant issuedAt;
+    private Instant expiresAt;
+
+    /**
+     * A static factory method to create a response from the claims of a verified token.
+     *
+     * @param claims The verified claims.
+     * @return A new IntrospectionResponse object for an active token.
+     */
+    public static IntrospectionResponse fromClaims(TokenClaims claims) {
+        return IntrospectionResponse.builder()
+                .active(true)
+                .userId(claims.userId())
+                .email(claims.email())
+                .role(claims.role())
+                .issuedAt(claims.issuedAt())
+                .expiresAt(claims.expiresAt())
+                .build();
+    }
+
+    /**
+     * @return A new IntrospectionResponse object for an inactive token.
+     */
+    public static IntrospectionResponse inactive() {
+        return IntrospectionResponse.builder().active(false).build();
+    }
+}
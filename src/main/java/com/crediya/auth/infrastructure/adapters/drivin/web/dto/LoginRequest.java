@@ -0,0 +1,33 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.application.ports.in.LoginCommand;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the login request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRequest {
+
+    @NotBlank(message = "Email cannot be blank")
+    private String email;
+
+    @NotBlank(message = "Password cannot be blank")
+    private String password;
+
+    /**
+     * Maps this DTO to the application layer's LoginCommand.
+     *
+     * @return A LoginCommand object.
+     */
+    public LoginCommand toCommand() {
+        return new LoginCommand(this.email, this.password);
+    }
+}
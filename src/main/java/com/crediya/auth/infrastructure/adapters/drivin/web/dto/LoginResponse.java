@@ -0,0 +1,37 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.domain.model.AccessToken;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) for the login response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponse {
+
+    private String accessToken;
+    private String tokenType;
+    private Instant expiresAt;
+
+    /**
+     * A static factory method to create a response from an issued access token.
+     *
+     * @param token The issued token.
+     * @return A new LoginResponse object.
+     */
+    public static LoginResponse fromToken(AccessToken token) {
+        return LoginResponse.builder()
+                .accessToken(token.value())
+                .tokenType("Bearer")
+                .expiresAt(token.expiresAt())
+                .build();
+    }
+}
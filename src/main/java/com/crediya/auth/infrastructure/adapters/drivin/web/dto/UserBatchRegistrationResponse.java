@@ -0,0 +1,50 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import org.springframework.http.HttpStatus;
+
+/**
+ * DTO for one line of the bulk user registration response stream.
+ *
+ * @param status  The HTTP status code that the registration would have produced on its own.
+ * @param email   The email of the user the line refers to.
+ * @param message A descriptive message for the outcome.
+ */
+public record UserBatchRegistrationResponse(int status, String email, String message) {
+
+    /**
+     * A static factory method to create a response line from an application registration result.
+     *
+     * @param result The outcome of the registration.
+     * @return A new UserBatchRegistrationResponse object.
+     */
+    public static UserBatchRegistrationResponse fromResult(RegistrationResult result) {
+        HttpStatus status = switch (result.status()) {
+            case CREATED -> HttpStatus.CREATED;
+            case CONFLICT -> HttpStatus.CONFLICT;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+        };
+        return new UserBatchRegistrationResponse(status.value(), result.email(), result.message());
+    }
+
+    /**
+     * A static factory method to create a response line for a request that failed input validation.
+     *
+     * @param email   The email of the rejected request.
+     * @param message The validation errors.
+     * @return A new UserBatchRegistrationResponse object.
+     */
+    public static UserBatchRegistrationResponse invalid(String email, String message) {
+        return new UserBatchRegistrationResponse(HttpStatus.BAD_REQUEST.value(), email, message);
+    }
+
+    /**
+     * A static factory method to create the last response line of a batch cut short by the rate limit.
+     *
+     * @param message Which lines were not processed.
+     * @return A new UserBatchRegistrationResponse object, with no email.
+     */
+    public static UserBatchRegistrationResponse rateLimited(String message) {
+        return new UserBatchRegistrationResponse(HttpStatus.TOO_MANY_REQUESTS.value(), null, message);
+    }
+}
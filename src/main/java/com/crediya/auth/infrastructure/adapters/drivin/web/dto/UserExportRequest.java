@@ -0,0 +1,22 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the request to export every user to a file. Omitted fields take the configured defaults.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserExportRequest {
+
+    @Pattern(regexp = "(?i)csv|ndjson", message = "Format must be csv or ndjson")
+    private String format;
+
+    private Boolean gzip;
+}
@@ -0,0 +1,43 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExportResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a completed export of the users.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserExportResponse {
+
+    private String file;
+    private String format;
+    private boolean gzip;
+    private long rows;
+    private long bytes;
+    private long durationMillis;
+    private double rowsPerSecond;
+
+    /**
+     * A static factory method to create a response from the result of an export.
+     *
+     * @param result The result of the export.
+     * @return A new UserExportResponse object.
+     */
+    public static UserExportResponse fromResult(UserExportResult result) {
+        return UserExportResponse.builder()
+                .file(result.file())
+                .format(result.format().extension())
+                .gzip(result.gzip())
+                .rows(result.rows())
+                .bytes(result.bytes())
+                .durationMillis(result.duration().toMillis())
+                .rowsPerSecond(result.rowsPerSecond())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the request to import a CSV file of users.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequest {
+
+    @NotBlank(message = "File cannot be blank")
+    private String file;
+}
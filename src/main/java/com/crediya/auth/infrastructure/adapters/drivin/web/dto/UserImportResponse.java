@@ -0,0 +1,49 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.infrastructure.adapters.drivin.imports.UserImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the progress of a CSV import of users.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResponse {
+
+    private String file;
+    private String state;
+    private long rows;
+    private long created;
+    private long rejected;
+    private long offset;
+    private double rowsPerSecond;
+    private String rejectsFile;
+    private String error;
+
+    /**
+     * A static factory method to create a response from the status of an import.
+     *
+     * @param status The status of the import.
+     * @return A new UserImportResponse object.
+     */
+    public static UserImportResponse fromStatus(UserImportStatus status) {
+        return UserImportResponse.builder()
+                .file(status.file())
+                .state(status.state().name())
+                .rows(status.rows())
+                .created(status.created())
+                .rejected(status.rejected())
+                .offset(status.offset())
+                .rowsPerSecond(status.rowsPerSecond())
+                .rejectsFile(status.rejectsFile())
+                .error(status.error())
+                .build();
+    }
+}
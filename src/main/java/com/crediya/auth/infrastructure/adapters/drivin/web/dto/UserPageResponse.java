@@ -0,0 +1,35 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.application.ports.in.UserPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of the keyset-paginated user listing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponse {
+
+    private List<UserResponse> users;
+    private Long nextCursor;
+
+    /**
+     * A static factory method to create a response from a page of domain users.
+     *
+     * @param page The page returned by the use case.
+     * @return A new UserPageResponse object; {@code nextCursor} is null on the last page.
+     */
+    public static UserPageResponse fromPage(UserPage page) {
+        return UserPageResponse.builder()
+                .users(page.users().stream().map(UserResponse::fromDomain).toList())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+}
@@ -1,12 +1,14 @@
 package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
 
 import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.validation.MaxUtf8Bytes;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.validation.ValidEmail;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,11 +17,17 @@ import java.time.LocalDate;
 
 /**
  * Data Transfer Object (DTO) for the user registration request.
+ * The role is not part of the request: self-registered users always get the {@link #SELF_REGISTERED_ROLE}.
  */
 @Data
 @Builder
 public class UserRegistrationRequest {
 
+    /**
+     * The role of every user registered through the public API.
+     */
+    public static final String SELF_REGISTERED_ROLE = "APPLICANT";
+
     @NotBlank(message = "First name cannot be blank")
     private String firstName;
 
@@ -27,29 +35,45 @@ public class UserRegistrationRequest {
     private String lastName;
 
     @NotBlank(message = "Email cannot be blank")
-    @Email(message = "Email should be valid")
+    @ValidEmail(message = "Email should be valid")
     private String email;
 
     private String identityNumber;
     private String phoneNumber;
 
+    @NotNull(message = "Birth date cannot be null")
     @Past(message = "Birth date must be in the past")
     private LocalDate birthDate;
 
+    @NotNull(message = "Address cannot be null")
     private String address;
-    private String idRole;
 
     @NotNull(message = "Base salary cannot be null")
     @DecimalMin(value = "0.0", inclusive = true, message = "Salary cannot be negative")
     @DecimalMax(value = "15000000.0", inclusive = true, message = "Salary exceeds maximum limit")
     private BigDecimal baseSalary;
 
+    @NotBlank(message = "Password cannot be blank")
+    @Size(min = 8, max = 72, message = "Password must be between 8 and 72 characters")
+    @MaxUtf8Bytes(value = 72, message = "Password cannot be longer than 72 bytes in UTF-8")
+    private String password;
+
     /**
-     * Maps this DTO to the application layer's RegisterUserCommand.
+     * Maps this DTO to the application layer's RegisterUserCommand, with the {@link #SELF_REGISTERED_ROLE}.
      *
      * @return A RegisterUserCommand object.
      */
     public RegisterUserCommand toCommand() {
+        return toCommand(SELF_REGISTERED_ROLE);
+    }
+
+    /**
+     * Maps this DTO to the application layer's RegisterUserCommand with a role chosen by an administrator.
+     *
+     * @param idRole The role of the new user.
+     * @return A RegisterUserCommand object.
+     */
+    public RegisterUserCommand toCommand(String idRole) {
         return new RegisterUserCommand(
                 this.firstName,
                 this.lastName,
@@ -58,8 +82,9 @@ public class UserRegistrationRequest {
                 this.phoneNumber,
                 this.birthDate,
                 this.address,
-                this.idRole,
-                this.baseSalary
+                idRole,
+                this.baseSalary,
+                this.password
         );
     }
 }
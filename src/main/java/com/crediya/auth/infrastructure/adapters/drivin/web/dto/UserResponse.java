@@ -0,0 +1,52 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto;
+
+import com.crediya.auth.domain.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) for a registered user returned by the lookup endpoints.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserResponse {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String identityNumber;
+    private String phoneNumber;
+    private LocalDate birthDate;
+    private String address;
+    private String idRole;
+    private BigDecimal baseSalary;
+
+    /**
+     * A static factory method to create a response from a domain User object.
+     *
+     * @param user The registered user.
+     * @return A new UserResponse object.
+     */
+    public static UserResponse fromDomain(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .identityNumber(user.getIdentityNumber())
+                .phoneNumber(user.getPhoneNumber())
+                .birthDate(user.getBirthDate())
+                .address(user.getAddress())
+                .idRole(user.getIdRole())
+                .baseSalary(user.getBaseSalary())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bean validation constraint that limits the length of a string once encoded in UTF-8, for values whose limit is in
+ * bytes rather than characters, like BCrypt's 72 bytes for a password. Null values are considered valid.
+ */
+@Documented
+@Constraint(validatedBy = MaxUtf8BytesValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxUtf8Bytes {
+
+    String message() default "must be at most {value} bytes in UTF-8";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * @return The maximum number of bytes of the UTF-8 encoded value.
+     */
+    int value();
+}
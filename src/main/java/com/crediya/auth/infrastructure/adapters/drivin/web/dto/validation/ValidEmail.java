@@ -0,0 +1,28 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto.validation;
+
+import com.crediya.auth.domain.validation.EmailValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bean validation constraint that checks an email with the domain {@link EmailValidator}, so the web layer and the
+ * {@code User} model accept exactly the same addresses. Null values are considered valid; combine with {@code @NotBlank}.
+ */
+@Documented
+@Constraint(validatedBy = ValidEmailValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidEmail {
+
+    String message() default "Email should be valid";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
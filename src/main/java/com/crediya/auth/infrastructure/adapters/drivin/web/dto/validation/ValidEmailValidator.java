@@ -0,0 +1,16 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.dto.validation;
+
+import com.crediya.auth.domain.validation.EmailValidator;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator backing the {@link ValidEmail} constraint.
+ */
+public class ValidEmailValidator implements ConstraintValidator<ValidEmail, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || EmailValidator.isValid(value);
+    }
+}
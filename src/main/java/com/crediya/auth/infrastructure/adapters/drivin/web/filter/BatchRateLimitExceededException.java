@@ -0,0 +1,23 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+/**
+ * Ends the body of a batch registration whose client ran out of batch line tokens. The {@link RateLimitingFilter}
+ * turns it into a 429 response while no result has been sent; afterwards the batch registration reports it as its
+ * last result line.
+ */
+public class BatchRateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    BatchRateLimitExceededException(long retryAfterMillis) {
+        super("Too many registration lines, the remaining lines were not processed; retry them later.", null, false, false);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * @return How many milliseconds until the next line token will be available.
+     */
+    public long retryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,43 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the {@link RateLimitingFilter}.
+ *
+ * @param enabled        Whether registrations are rate limited.
+ * @param buckets        How many buckets each limit keeps; bounds memory, clients hashing to the same bucket share it.
+ * @param perClientIp    The limit applied to each client IP address; 20 back to back and 5 per second by default.
+ * @param perEmailDomain The limit applied to each email domain, shared by every client registering emails in it;
+ *                       200 back to back and 50 per second by default.
+ * @param perClientIpBatchLines The limit on the lines of batch registrations from each client IP address, charged as
+ *                       the body streams; 4000 back to back and 1000 per second by default.
+ * @param maxBodySize    The largest single registration body buffered to read its email domain; larger bodies get a
+ *                       413 response. 256KB by default, the limit of the JSON codecs.
+ */
+@ConfigurationProperties(prefix = "crediya.security.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("65536") int buckets,
+        Limit perClientIp,
+        Limit perEmailDomain,
+        Limit perClientIpBatchLines,
+        DataSize maxBodySize
+) {
+
+    public RateLimitProperties {
+        perClientIp = perClientIp != null ? perClientIp : new Limit(20, 5);
+        perEmailDomain = perEmailDomain != null ? perEmailDomain : new Limit(200, 50);
+        perClientIpBatchLines = perClientIpBatchLines != null ? perClientIpBatchLines : new Limit(4000, 1000);
+        maxBodySize = maxBodySize != null ? maxBodySize : DataSize.ofKilobytes(256);
+    }
+
+    /**
+     * @param capacity        The burst size: how many requests are allowed back to back.
+     * @param refillPerSecond The sustained number of requests allowed per second.
+     */
+    public record Limit(int capacity, int refillPerSecond) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Sheds abusive registration traffic before it reaches validation, the use case or the database.
+ *
+ * Registrations are limited per client IP address and, for single registrations, per email domain, using lock-free
+ * {@link TokenBuckets}. The IP limit is checked first and needs nothing but the remote address; the email domain is
+ * read with a byte scan of the buffered request body, which is then handed on to the controller unchanged.
+ * Batch registrations are also charged one token per line from a separate per client IP budget as their body streams,
+ * so that one request cannot register an unlimited number of users.
+ * Rejected requests get a 429 response with a {@code Retry-After} header; bodies larger than {@code maxBodySize} are
+ * not buffered and get a 413 response. A batch running out of budget once its first results were sent can no longer
+ * change its status; it ends with a last result line for the lines that were not processed instead.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitingFilter implements WebFilter {
+
+    private static final String USERS_PATH = "/api/v1/users";
+    private static final String BATCH_PATH = "/api/v1/users/batch";
+    private static final String ESCAPED_EMAIL_DOMAIN = "\\";
+    private static final byte[] EMAIL_FIELD = "email".getBytes(StandardCharsets.US_ASCII);
+
+    private final boolean enabled;
+    private final TokenBuckets clientIpBuckets;
+    private final TokenBuckets emailDomainBuckets;
+    private final TokenBuckets batchLineBuckets;
+    private final int maxBodyBytes;
+    private final ObjectMapper objectMapper;
+    private final Counter clientIpRejections;
+    private final Counter emailDomainRejections;
+    private final Counter batchLineRejections;
+
+    public RateLimitingFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.clientIpBuckets = new TokenBuckets(properties.buckets(), properties.perClientIp().capacity(),
+                properties.perClientIp().refillPerSecond());
+        this.emailDomainBuckets = new TokenBuckets(properties.buckets(), properties.perEmailDomain().capacity(),
+                properties.perEmailDomain().refillPerSecond());
+        this.batchLineBuckets = new TokenBuckets(properties.buckets(), properties.perClientIpBatchLines().capacity(),
+                properties.perClientIpBatchLines().refillPerSecond());
+        this.maxBodyBytes = (int) properties.maxBodySize().toBytes();
+        this.objectMapper = objectMapper;
+        this.clientIpRejections = rejectionCounter(meterRegistry, "client_ip");
+        this.emailDomainRejections = rejectionCounter(meterRegistry, "email_domain");
+        this.batchLineRejections = rejectionCounter(meterRegistry, "batch_lines");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() != HttpMethod.POST) {
+            return chain.filter(exchange);
+        }
+        String path = request.getPath().pathWithinApplication().value();
+        boolean single = USERS_PATH.equals(path);
+        if (!single && !BATCH_PATH.equals(path)) {
+            return chain.filter(exchange);
+        }
+
+        String clientIp = clientIp(request);
+        long retryAfterMillis = clientIpBuckets.tryAcquire(clientIp);
+        if (retryAfterMillis > 0) {
+            clientIpRejections.increment();
+            return tooManyRequests(exchange.getResponse(), retryAfterMillis);
+        }
+        if (!single) {
+            return chargeBatchLines(exchange, chain, clientIp);
+        }
+
+        Flux<DataBuffer> requestBody = request.getBody()
+                .switchIfEmpty(Mono.fromSupplier(() -> exchange.getResponse().bufferFactory().wrap(new byte[0])));
+        return DataBufferUtils.join(requestBody, maxBodyBytes)
+                .flatMap(body -> {
+                    String domain = emailDomain(body);
+                    long domainRetryAfterMillis = domain == null ? 0 : emailDomainBuckets.tryAcquire(domain);
+                    if (domainRetryAfterMillis > 0) {
+                        DataBufferUtils.release(body);
+                        emailDomainRejections.increment();
+                        log.debug("Rejected registration for email domain {}: rate limit exceeded.", domain);
+                        return tooManyRequests(exchange.getResponse(), domainRetryAfterMillis);
+                    }
+                    ServerHttpRequest replayed = new ServerHttpRequestDecorator(request) {
+                        @Override
+                        public Flux<DataBuffer> getBody() {
+                            return Flux.just(body);
+                        }
+                    };
+                    return chain.filter(exchange.mutate().request(replayed).build());
+                })
+                .onErrorResume(DataBufferLimitException.class, ex -> error(exchange.getResponse(), HttpStatus.PAYLOAD_TOO_LARGE,
+                        "The registration request exceeds " + maxBodyBytes + " bytes."));
+    }
+
+    /**
+     * Passes the batch body on while taking one token per line from the client's batch budget, and ends the body with a
+     * {@link BatchRateLimitExceededException} once the budget is empty, before the lines of that buffer reach the controller.
+     */
+    private Mono<Void> chargeBatchLines(ServerWebExchange exchange, WebFilterChain chain, String clientIp) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpRequest charged = new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return request.getBody().handle((buffer, sink) -> {
+                    long retryAfterMillis = chargeLines(buffer, clientIp);
+                    if (retryAfterMillis > 0) {
+                        DataBufferUtils.release(buffer);
+                        batchLineRejections.increment();
+                        sink.error(new BatchRateLimitExceededException(retryAfterMillis));
+                    } else {
+                        sink.next(buffer);
+                    }
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().request(charged).build())
+                .onErrorResume(BatchRateLimitExceededException.class, ex -> {
+                    log.debug("Rejected batch registration from {}: line rate limit exceeded.", clientIp);
+                    return exchange.getResponse().isCommitted()
+                            ? Mono.error(ex)
+                            : tooManyRequests(exchange.getResponse(), ex.retryAfterMillis());
+                });
+    }
+
+    /**
+     * @return 0 if a token was taken for every line ending in the buffer, otherwise how many milliseconds until the
+     * next one will be available.
+     */
+    private long chargeLines(DataBuffer buffer, String clientIp) {
+        for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+            if (buffer.getByte(i) == '\n') {
+                long retryAfterMillis = batchLineBuckets.tryAcquire(clientIp);
+                if (retryAfterMillis > 0) {
+                    return retryAfterMillis;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    /**
+     * Finds the domain of the top-level {@code "email"} string value without parsing the JSON document. Keys of nested
+     * objects are skipped, and when the key is repeated the last one wins, as it does when the body is deserialized.
+     *
+     * Emails written with escape sequences are not decoded; they all share a single bucket.
+     *
+     * @return The lower-cased domain, or null if there is none; validation rejects such requests later.
+     */
+    static String emailDomain(DataBuffer body) {
+        int end = body.writePosition();
+        int depth = 0;
+        String domain = null;
+        for (int i = body.readPosition(); i < end; i++) {
+            byte b = body.getByte(i);
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            } else if (b == '"') {
+                int close = closingQuote(body, i + 1, end);
+                if (close < 0) {
+                    return domain;
+                }
+                if (depth == 1 && isEmailKey(body, i + 1, close)) {
+                    int position = skipWhitespace(body, close + 1, end);
+                    if (position < end && body.getByte(position) == ':') {
+                        domain = domainOfValue(body, skipWhitespace(body, position + 1, end), end);
+                    }
+                }
+                i = close;
+            }
+        }
+        return domain;
+    }
+
+    /**
+     * @return The position of the quote closing the string that starts at {@code from}, or -1 if it is not closed.
+     */
+    private static int closingQuote(DataBuffer buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            byte b = buffer.getByte(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEmailKey(DataBuffer buffer, int from, int to) {
+        if (to - from != EMAIL_FIELD.length) {
+            return false;
+        }
+        for (int i = 0; i < EMAIL_FIELD.length; i++) {
+            if (buffer.getByte(from + i) != EMAIL_FIELD[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String domainOfValue(DataBuffer buffer, int position, int end) {
+        if (position >= end || buffer.getByte(position) != '"') {
+            return null;
+        }
+        int at = -1;
+        for (int i = position + 1; i < end; i++) {
+            byte b = buffer.getByte(i);
+            if (b == '@') {
+                at = i;
+            } else if (b == '\\') {
+                return ESCAPED_EMAIL_DOMAIN;
+            } else if (b == '"') {
+                return at < 0 || i == at + 1 ? null : asciiLowerCase(buffer, at + 1, i);
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(DataBuffer buffer, int position, int end) {
+        while (position < end && Character.isWhitespace(buffer.getByte(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static String asciiLowerCase(DataBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.getByte(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+    }
+
+    private Mono<Void> tooManyRequests(ServerHttpResponse response, long retryAfterMillis) {
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        return error(response, HttpStatus.TOO_MANY_REQUESTS, "Too many registration attempts, please retry later.");
+    }
+
+    private Mono<Void> error(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), message));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException ex) {
+            return Mono.error(ex);
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("rate.limit.rejected")
+                .description("Registration requests rejected because a rate limit was exceeded")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records the moment a request leaves the filter chain, so handlers can measure how long decoding and validation took before they were invoked.
+ * It runs after every other filter, so rate limiting and authentication are not counted as decoding.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RequestTimingFilter implements WebFilter {
+
+    /**
+     * Exchange attribute holding the {@link System#nanoTime()} at which the request left the filter chain.
+     */
+    public static final String DECODE_START_NANOS = RequestTimingFilter.class.getName() + ".decodeStartNanos";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        exchange.getAttributes().put(DECODE_START_NANOS, System.nanoTime());
+        return chain.filter(exchange);
+    }
+}
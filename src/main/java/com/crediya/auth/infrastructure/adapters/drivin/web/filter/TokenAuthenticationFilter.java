@@ -0,0 +1,134 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Requires a valid bearer token on the configured paths, verifying it locally without a database round trip, and
+ * the admin role on the admin paths.
+ *
+ * The verified {@link TokenClaims} are exposed to handlers as the {@link #AUTHENTICATED_CLAIMS} exchange attribute and
+ * in the Reactor context under the {@link TokenClaims} class. Requests without a valid token get a 401 response, and
+ * requests to an admin path with a token of another role get a 403 response.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@EnableConfigurationProperties(TokenAuthenticationProperties.class)
+public class TokenAuthenticationFilter implements WebFilter {
+
+    /**
+     * Exchange attribute holding the {@link TokenClaims} of the authenticated caller.
+     */
+    public static final String AUTHENTICATED_CLAIMS = TokenAuthenticationFilter.class.getName() + ".claims";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final IntrospectTokenPort introspectTokenPort;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> protectedPaths;
+    private final List<PathPattern> adminPaths;
+    private final String adminRole;
+
+    public TokenAuthenticationFilter(IntrospectTokenPort introspectTokenPort, ObjectMapper objectMapper,
+                                     TokenAuthenticationProperties properties) {
+        this.introspectTokenPort = introspectTokenPort;
+        this.objectMapper = objectMapper;
+        this.protectedPaths = parse(properties.protectedPaths());
+        this.adminPaths = parse(properties.adminPaths());
+        this.adminRole = properties.adminRole();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        boolean adminOnly = matches(adminPaths, exchange.getRequest());
+        if (!adminOnly && !matches(protectedPaths, exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        Optional<String> token = bearerToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token.isEmpty()) {
+            return unauthorized(exchange.getResponse(), "A bearer token is required.");
+        }
+        return introspectTokenPort.introspect(token.get())
+                .flatMap(claims -> {
+                    if (adminOnly && !adminRole.equals(claims.role())) {
+                        log.warn("Rejected request to {} by user {} with role {}.", exchange.getRequest().getPath(), claims.userId(), claims.role());
+                        return error(exchange.getResponse(), HttpStatus.FORBIDDEN, "This operation requires the " + adminRole + " role.");
+                    }
+                    exchange.getAttributes().put(AUTHENTICATED_CLAIMS, claims);
+                    return chain.filter(exchange).contextWrite(context -> context.put(TokenClaims.class, claims));
+                })
+                .onErrorResume(InvalidTokenException.class, ex -> {
+                    log.debug("Rejected request to {}: {}", exchange.getRequest().getPath(), ex.getMessage());
+                    return unauthorized(exchange.getResponse(), "Invalid or expired access token.");
+                });
+    }
+
+    /**
+     * Extracts the token from an {@code Authorization} header value.
+     *
+     * @param authorization The header value, possibly null.
+     * @return The token, or empty if the header is not a bearer credential.
+     */
+    public static Optional<String> bearerToken(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return Optional.empty();
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? Optional.empty() : Optional.of(token);
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> unauthorized(ServerHttpResponse response, String message) {
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return error(response, HttpStatus.UNAUTHORIZED, message);
+    }
+
+    private Mono<Void> error(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), message));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException ex) {
+            return Mono.error(ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Configuration for the {@link TokenAuthenticationFilter}.
+ *
+ * @param protectedPaths The path patterns that require a valid bearer token, e.g. {@code /api/v1/users/**}. None by default.
+ * @param adminPaths     The path patterns that require a valid bearer token whose role is {@code adminRole}. Only the
+ *                       admin endpoints, {@code /api/v1/admin/**}, by default.
+ * @param adminRole      The role claim required on the admin paths.
+ */
+@ConfigurationProperties(prefix = "crediya.security.authentication")
+public record TokenAuthenticationProperties(
+        @DefaultValue List<String> protectedPaths,
+        @DefaultValue("/api/v1/admin/**") List<String> adminPaths,
+        @DefaultValue("ADMIN") String adminRole
+) {
+}
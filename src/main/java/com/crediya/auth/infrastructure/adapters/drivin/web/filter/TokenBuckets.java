@@ -0,0 +1,101 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed number of token buckets, each packed into a single {@code long} and updated with compare-and-set, so taking a
+ * token never blocks and never takes a global lock.
+ *
+ * Keys are hashed onto the buckets, which bounds memory no matter how many distinct keys arrive; keys that collide
+ * share a bucket and therefore a budget. A bucket nobody has touched for a while has simply refilled, so nothing needs
+ * evicting.
+ *
+ * Each slot holds the time of its last update, in milliseconds since this instance was created, in the upper
+ * {@value #TIME_BITS} bits and the available tokens, in thousandths of a token, in the lower {@value #TOKEN_BITS} bits.
+ * A zero slot is a full bucket.
+ */
+final class TokenBuckets {
+
+    static final int TOKEN_BITS = 22;
+    static final int TIME_BITS = Long.SIZE - TOKEN_BITS;
+    static final long MAX_MILLI_TOKENS = (1L << TOKEN_BITS) - 1;
+
+    private static final long TOKEN_MASK = MAX_MILLI_TOKENS;
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final int seed = ThreadLocalRandom.current().nextInt();
+    private final long capacity;
+    private final long refillPerSecond;
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * @param buckets         The number of buckets, rounded up to a power of two.
+     * @param capacity        The burst size: how many tokens a full bucket holds.
+     * @param refillPerSecond How many tokens are added to each bucket per second.
+     */
+    TokenBuckets(int buckets, int capacity, int refillPerSecond) {
+        if (capacity < 1 || capacity * MILLI_TOKENS_PER_TOKEN > MAX_MILLI_TOKENS) {
+            throw new IllegalArgumentException("Bucket capacity must be between 1 and " + MAX_MILLI_TOKENS / MILLI_TOKENS_PER_TOKEN + ".");
+        }
+        if (refillPerSecond < 1) {
+            throw new IllegalArgumentException("Bucket refill rate must be at least 1 token per second.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = capacity * MILLI_TOKENS_PER_TOKEN;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    /**
+     * Takes one token from the bucket of the given key.
+     *
+     * @param key The client key, e.g. an IP address or an email domain.
+     * @return 0 if a token was taken, otherwise how many milliseconds until one will be available.
+     */
+    long tryAcquire(String key) {
+        return tryAcquire(key, (System.nanoTime() - originNanos) / 1_000_000 + 1);
+    }
+
+    long tryAcquire(String key, long nowMillis) {
+        int index = index(key);
+        while (true) {
+            long current = slots.get(index);
+            long tokens = available(current, nowMillis);
+            if (tokens < MILLI_TOKENS_PER_TOKEN) {
+                return ceilDiv(MILLI_TOKENS_PER_TOKEN - tokens, refillPerSecond);
+            }
+            long updated = (nowMillis << TOKEN_BITS) | (tokens - MILLI_TOKENS_PER_TOKEN);
+            if (slots.compareAndSet(index, current, updated)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Refills lazily: one token per second of refill rate is one thousandth of a token per millisecond.
+     */
+    private long available(long slot, long nowMillis) {
+        if (slot == 0) {
+            return capacity;
+        }
+        long elapsedMillis = Math.max(0, nowMillis - (slot >>> TOKEN_BITS));
+        long tokens = slot & TOKEN_MASK;
+        if (elapsedMillis >= capacity) {
+            return capacity;
+        }
+        return Math.min(capacity, tokens + elapsedMillis * refillPerSecond);
+    }
+
+    private int index(String key) {
+        int hash = (key.hashCode() ^ seed) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
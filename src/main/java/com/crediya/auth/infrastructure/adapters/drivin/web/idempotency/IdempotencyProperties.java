@@ -0,0 +1,21 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the {@code Idempotency-Key} support of the registration endpoint.
+ *
+ * @param enabled     Whether the header is honored.
+ * @param maximumSize The maximum number of responses kept for replay.
+ * @param timeToLive  How long a response is replayed for after it was produced.
+ */
+@ConfigurationProperties(prefix = "crediya.web.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("24h") Duration timeToLive
+) {
+}
@@ -0,0 +1,83 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs requests at most once per {@code Idempotency-Key}, keeping their responses in a bounded, TTL-evicted
+ * in-process cache for replay.
+ *
+ * A request whose key is already in flight waits for that request's response instead of running in parallel.
+ * Only responses the action emits are kept; if the action fails, the key is released and a retry runs again.
+ * Each response keeps the SHA-256 of its request serialized to JSON, never the request itself, so a key reused for a
+ * different request is detected without keeping passwords in memory.
+ */
+public class IdempotencyStore {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<String, IdempotentResponse> responses;
+
+    public IdempotencyStore(IdempotencyProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency.responses");
+    }
+
+    /**
+     * Runs the action once for the key, or replays the response it produced.
+     *
+     * @param key     The client-supplied idempotency key, or null to always run the action.
+     * @param request The request; a stored response is only replayed for a request that serializes to the same JSON.
+     * @param action  Produces the response of the request.
+     * @return A reactive stream emitting the response, marked as a replay when it was not produced by this call;
+     *         fails with an {@link InvalidIdempotencyKeyException} if the key is malformed or was used for another request.
+     */
+    public Mono<IdempotentResponse> execute(String key, Object request, Supplier<Mono<IdempotentResponse>> action) {
+        if (!enabled || key == null) {
+            return Mono.defer(action);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new InvalidIdempotencyKeyException("Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters."));
+        }
+        return Mono.defer(() -> {
+            byte[] fingerprint = fingerprint(request);
+            AtomicBoolean produced = new AtomicBoolean();
+            return Mono.fromFuture(() -> responses.get(key, (k, executor) -> {
+                        produced.set(true);
+                        return action.get().map(response -> response.withFingerprint(fingerprint)).toFuture();
+                    }), true)
+                    .flatMap(response -> {
+                        if (!MessageDigest.isEqual(response.fingerprint(), fingerprint)) {
+                            return Mono.error(new InvalidIdempotencyKeyException("Idempotency-Key " + key + " was already used for a different request."));
+                        }
+                        return Mono.just(produced.get() ? response : response.asReplay());
+                    });
+        });
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not fingerprint the request.", ex);
+        }
+    }
+}
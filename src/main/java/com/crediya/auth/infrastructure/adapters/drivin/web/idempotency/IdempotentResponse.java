@@ -0,0 +1,26 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A completed response kept for replay under an {@code Idempotency-Key}.
+ *
+ * @param status      The status of the response.
+ * @param body        The body of the response, either the success payload or an ErrorResponse.
+ * @param fingerprint The SHA-256 of the request that produced the response, to detect a key reused for another request.
+ * @param replayed    Whether this instance is a replay rather than the response of the request that produced it.
+ */
+public record IdempotentResponse(HttpStatus status, Object body, byte[] fingerprint, boolean replayed) {
+
+    public static IdempotentResponse of(HttpStatus status, Object body) {
+        return new IdempotentResponse(status, body, null, false);
+    }
+
+    IdempotentResponse withFingerprint(byte[] fingerprint) {
+        return new IdempotentResponse(status, body, fingerprint, false);
+    }
+
+    IdempotentResponse asReplay() {
+        return new IdempotentResponse(status, body, fingerprint, true);
+    }
+}
@@ -0,0 +1,10 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.idempotency;
+
+/**
+ * Thrown when an {@code Idempotency-Key} is malformed, or was already used for a different request.
+ */
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.crediya.auth.infrastructure.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.server.WebFilter;
+import reactor.core.Disposable;
+
+/**
+ * Startup tuning for the {@code fast-startup} profile, which turns on lazy initialization.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    /**
+     * Keeps the beans that serve the first request, and the background tasks that would otherwise never start,
+     * eagerly initialized when lazy initialization is on. Their dependencies are created along with them, so only
+     * beans off the request path, like most actuator and documentation infrastructure, are deferred.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter criticalBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> Disposable.class.isAssignableFrom(beanType)
+                || WebFilter.class.isAssignableFrom(beanType)
+                || ConnectionFactory.class.isAssignableFrom(beanType)
+                || AnnotatedElementUtils.hasAnnotation(beanType, Controller.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the counters of the logging pipeline configured in {@code logback-spring.xml}:
+ * {@code logging.events.dropped} and {@code logging.queue.size} for every {@link RingBufferAppender} of the root
+ * logger, and {@code logging.events.sampled.out} for the {@link SamplingTurboFilter}.
+ */
+@Configuration
+@ConditionalOnClass(LoggerContext.class)
+public class LoggingMetricsConfiguration {
+
+    @Bean
+    MeterBinder loggingMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+            Iterator<Appender<ILoggingEvent>> appenders = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof RingBufferAppender appender) {
+                    FunctionCounter.builder("logging.events.dropped", appender, RingBufferAppender::getDroppedCount)
+                            .description("Logging events dropped because the asynchronous appender's buffer was full")
+                            .tag("appender", appender.getName())
+                            .register(registry);
+                    Gauge.builder("logging.queue.size", appender, RingBufferAppender::getQueuedCount)
+                            .description("Logging events waiting in the asynchronous appender's buffer")
+                            .tag("appender", appender.getName())
+                            .register(registry);
+                }
+            }
+            for (TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+                if (turboFilter instanceof SamplingTurboFilter samplingFilter) {
+                    FunctionCounter.builder("logging.events.sampled.out", samplingFilter, SamplingTurboFilter::getSampledOutCount)
+                            .description("INFO logging events skipped by per-category sampling")
+                            .register(registry);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.pattern.CompositeConverter;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masks personal data in the output of the pattern it wraps, as in {@code %mask(%m)}: emails keep their first
+ * character and their domain ({@code l***@outlook.com}) and identity numbers keep their last four digits
+ * ({@code ******7890}). Identity and phone numbers cannot be told apart from other numbers in free text, so every
+ * standalone run of 6 to 15 digits is masked; digits within words, decimals and dates are left alone.
+ */
+public class PiiMaskingConverter extends CompositeConverter<ILoggingEvent> {
+
+    private static final Pattern PII = Pattern.compile(
+            "([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*(@[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)+)"
+                    + "|(?<![\\w-]|\\d[.,])(\\d{2,11})(\\d{4})(?![\\w-]|[.,]\\d)");
+
+    @Override
+    protected String transform(ILoggingEvent event, String in) {
+        return mask(in);
+    }
+
+    static String mask(String in) {
+        if (in == null || in.isEmpty()) {
+            return in;
+        }
+        Matcher matcher = PII.matcher(in);
+        if (!matcher.find()) {
+            return in;
+        }
+        StringBuilder out = new StringBuilder(in.length());
+        do {
+            if (matcher.group(1) != null) {
+                matcher.appendReplacement(out, "");
+                out.append(matcher.group(1)).append("***").append(matcher.group(2));
+            } else {
+                matcher.appendReplacement(out, "");
+                out.append("*".repeat(matcher.group(3).length())).append(matcher.group(4));
+            }
+        } while (matcher.find());
+        matcher.appendTail(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,209 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands logging events to its attached appenders from a dedicated thread, through a {@link RingBuffer}, so the thread
+ * that logs, usually an event loop, never waits for the console or a file.
+ *
+ * Logging never blocks: when fewer than {@code discardingThreshold} slots are free, events at INFO and below are
+ * dropped, and when the buffer is full every event is. Dropped events are counted in {@link #getDroppedCount()}.
+ * The message is formatted on the appender thread, so log arguments must not be mutated after the call; the thread
+ * name and the MDC are captured when the event is logged.
+ *
+ * Configured like logback's {@code AsyncAppender}: {@code queueSize}, {@code discardingThreshold} (a fifth of the
+ * queue by default), {@code includeCallerData} and {@code maxFlushTime} in milliseconds.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int discardingThreshold = -1;
+    private boolean includeCallerData;
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+
+    private RingBuffer<ILoggingEvent> buffer;
+    private Thread worker;
+    private volatile boolean running;
+    private volatile boolean workerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size [" + queueSize + "].");
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found.");
+            return;
+        }
+        buffer = new RingBuffer<>(queueSize);
+        if (discardingThreshold < 0) {
+            discardingThreshold = buffer.capacity() / 5;
+        }
+        running = true;
+        worker = new Thread(this::drain, "logback-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+            if (worker.isAlive()) {
+                addWarn("Max flush time exceeded; " + buffer.size() + " queued events may be discarded.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            addError("Interrupted while waiting for the queued events to be flushed.", ex);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (buffer.capacity() - buffer.size() <= discardingThreshold && event.getLevel().toInt() <= Level.INFO_INT) {
+            dropped.incrementAndGet();
+            return;
+        }
+        event.getThreadName();
+        event.getMDCPropertyMap();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            workerParked = true;
+            if (buffer.isEmpty() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            workerParked = false;
+        }
+    }
+
+    /**
+     * The number of events dropped since the appender started, because the buffer was full or nearly full.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * The number of events waiting to be appended.
+     */
+    public int getQueuedCount() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
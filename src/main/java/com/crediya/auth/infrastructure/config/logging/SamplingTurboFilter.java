@@ -0,0 +1,100 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one of every {@code n} INFO events of the configured logger categories, before the event is even created, so
+ * the routine success lines of hot paths cost almost nothing under load. Warnings, errors, events with an exception
+ * and other levels always pass.
+ *
+ * Categories are configured as {@code name=n} pairs separated by commas, e.g.
+ * {@code com.crediya.auth.infrastructure.adapters.drivin.web=10,com.crediya.auth.application=100}; a logger takes the
+ * rate of the longest category its name starts with.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler KEEP_ALL = new Sampler(1);
+
+    private final Map<String, Integer> rates = new ConcurrentHashMap<>();
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+    private final AtomicLong sampledOut = new AtomicLong();
+
+    public void setCategories(String categories) {
+        rates.clear();
+        samplers.clear();
+        if (categories == null || categories.isBlank()) {
+            return;
+        }
+        for (String category : categories.split(",")) {
+            String[] nameAndRate = category.trim().split("=");
+            int rate = nameAndRate.length == 2 ? parseRate(nameAndRate[1]) : 0;
+            if (rate < 1) {
+                addError("Invalid sampling category [" + category.trim() + "]; expected name=n with n at least 1.");
+                continue;
+            }
+            rates.put(nameAndRate[0].trim(), rate);
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // 'format' is null for isInfoEnabled() checks, which must not count as events
+        if (level != Level.INFO || format == null || t != null || rates.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.computeIfAbsent(logger.getName(), this::samplerFor);
+        if (sampler.keep()) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * The number of INFO events dropped by sampling since the filter started.
+     */
+    public long getSampledOutCount() {
+        return sampledOut.get();
+    }
+
+    private static int parseRate(String rate) {
+        try {
+            return Integer.parseInt(rate.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private Sampler samplerFor(String loggerName) {
+        String category = null;
+        for (String candidate : rates.keySet()) {
+            boolean matches = loggerName.equals(candidate) || loggerName.startsWith(candidate + ".");
+            if (matches && (category == null || candidate.length() > category.length())) {
+                category = candidate;
+            }
+        }
+        return category == null || rates.get(category) == 1 ? KEEP_ALL : new Sampler(rates.get(category));
+    }
+
+    private static final class Sampler {
+
+        private final int rate;
+        private final AtomicLong events = new AtomicLong();
+
+        Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        boolean keep() {
+            return rate == 1 || events.getAndIncrement() % rate == 0;
+        }
+    }
+}
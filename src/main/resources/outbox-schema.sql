@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS outbox_evento (
+                         id_evento BIGINT AUTO_INCREMENT PRIMARY KEY,
+                         tipo VARCHAR(100) NOT NULL,
+                         id_agregado BIGINT NOT NULL,
+                         payload VARCHAR(4000) NOT NULL,
+                         fecha_creacion TIMESTAMP WITH TIME ZONE NOT NULL,
+                         reclamado_por VARCHAR(36),
+                         reclamado_hasta TIMESTAMP WITH TIME ZONE
+);
@@ -1,14 +1,29 @@
 DROP TABLE IF EXISTS usuario;
+DROP TABLE IF EXISTS outbox_evento;
 
 CREATE TABLE usuario (
                          id_usuario BIGINT AUTO_INCREMENT PRIMARY KEY,
                          nombre VARCHAR(255) NOT NULL,
                          apellido VARCHAR(255) NOT NULL,
-                         email VARCHAR(255) NOT NULL UNIQUE,
+                         email VARCHAR(255) NOT NULL,
+                         email_normalizado VARCHAR(255) NOT NULL,
                          documento_identidad VARCHAR(50),
                          telefono VARCHAR(50),
                          fecha_nacimiento DATE,
                          direccion VARCHAR(255),
                          id_rol VARCHAR(50),
-                         salario_base DECIMAL(15, 2) NOT NULL
-);
\ No newline at end of file
+                         salario_base DECIMAL(15, 2) NOT NULL,
+                         password_hash VARCHAR(60)
+);
+
+CREATE UNIQUE INDEX ux_usuario_email_normalizado ON usuario (email_normalizado);
+
+CREATE TABLE outbox_evento (
+                         id_evento BIGINT AUTO_INCREMENT PRIMARY KEY,
+                         tipo VARCHAR(100) NOT NULL,
+                         id_agregado BIGINT NOT NULL,
+                         payload VARCHAR(4000) NOT NULL,
+                         fecha_creacion TIMESTAMP WITH TIME ZONE NOT NULL,
+                         reclamado_por VARCHAR(36),
+                         reclamado_hasta TIMESTAMP WITH TIME ZONE
+);
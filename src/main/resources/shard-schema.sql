@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS particion (
+                         indice INT PRIMARY KEY,
+                         total_particiones INT NOT NULL
+);
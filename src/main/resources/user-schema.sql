@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS usuario (
+                         id_usuario BIGINT AUTO_INCREMENT PRIMARY KEY,
+                         nombre VARCHAR(255) NOT NULL,
+                         apellido VARCHAR(255) NOT NULL,
+                         email VARCHAR(255) NOT NULL,
+                         email_normalizado VARCHAR(255) NOT NULL,
+                         documento_identidad VARCHAR(50),
+                         telefono VARCHAR(50),
+                         fecha_nacimiento DATE,
+                         direccion VARCHAR(255),
+                         id_rol VARCHAR(50),
+                         salario_base DECIMAL(15, 2) NOT NULL,
+                         password_hash VARCHAR(60)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_email_normalizado ON usuario (email_normalizado);
@@ -0,0 +1,54 @@
+package com.crediya.auth.startup;
+
+import com.crediya.auth.CrediyaAuthApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the application once at build time and writes the OpenAPI document springdoc produces for it, so the
+ * {@code fast-startup} profile can serve it as a static file instead of scanning the controllers on every start.
+ *
+ * Takes the path of the file to write as its only argument.
+ */
+public final class OpenApiDocsGenerator {
+
+    private OpenApiDocsGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: OpenApiDocsGenerator <output file>");
+        }
+        Path output = Path.of(args[0]);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CrediyaAuthApplication.class)
+                .run("--server.port=0", "--crediya.persistence.outbox.relay-enabled=false", "--logging.level.root=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Fetching the OpenAPI document failed with status " + response.statusCode());
+            }
+
+            // The generated servers point at the throwaway port; without them clients resolve paths against the host
+            // that serves the document.
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            ObjectNode document = (ObjectNode) objectMapper.readTree(response.body());
+            document.remove("servers");
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            objectMapper.writeValue(output.toFile(), document);
+        }
+    }
+}
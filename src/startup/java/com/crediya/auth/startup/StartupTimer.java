@@ -0,0 +1,138 @@
+package com.crediya.auth.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching the application jar until it serves its first request, for the default
+ * configuration and for the {@code fast-startup} profile with AOT processing and, when present, the AppCDS archive.
+ *
+ * Reads the {@code startup.*} system properties set by the {@code measureStartup} Gradle task.
+ */
+public final class StartupTimer {
+
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final String java;
+    private final Path jar;
+
+    private StartupTimer(String java, Path jar) {
+        this.java = java;
+        this.jar = jar;
+    }
+
+    record Variant(String name, List<String> jvmArguments) {
+    }
+
+    record Result(String variant, List<Long> runsMillis, long minMillis, long medianMillis, long maxMillis) {
+
+        static Result of(String variant, List<Long> runsMillis) {
+            List<Long> sorted = runsMillis.stream().sorted().toList();
+            return new Result(variant, runsMillis, sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path jar = Path.of(required("startup.jar"));
+        Path cdsArchive = Path.of(required("startup.cdsArchive"));
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path reportFile = Path.of(System.getProperty("startup.reportFile", "build/reports/startup/startup.json"));
+
+        List<String> fastStartupArguments = new ArrayList<>(List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast-startup"));
+        if (Files.exists(cdsArchive)) {
+            fastStartupArguments.add("-XX:SharedArchiveFile=" + cdsArchive);
+        } else {
+            System.out.printf("No AppCDS archive at %s, measuring the fast-startup profile without it.%n", cdsArchive);
+        }
+        List<Variant> variants = List.of(new Variant("default", List.of()), new Variant("fast-startup", fastStartupArguments));
+
+        StartupTimer timer = new StartupTimer(System.getProperty("startup.java", "java"), jar);
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            List<Long> runsMillis = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                runsMillis.add(timer.timeToFirstRequest(variant));
+            }
+            results.put(variant.name(), Result.of(variant.name(), runsMillis));
+        }
+
+        System.out.printf("%-14s %10s %10s %10s   runs%n", "variant", "min ms", "median ms", "max ms");
+        results.values().forEach(result -> System.out.printf("%-14s %10d %10d %10d   %s%n", result.variant(),
+                result.minMillis(), result.medianMillis(), result.maxMillis(), result.runsMillis()));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), results);
+    }
+
+    /**
+     * Starts the jar and polls the health endpoint, the one readiness probes use, until it answers.
+     */
+    private long timeToFirstRequest(Variant variant) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.jvmArguments());
+        command.addAll(Arrays.asList("-jar", jar.toString(), "--server.port=" + port));
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < READY_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with status " + process.exitValue() + " before serving a request");
+                }
+                try {
+                    if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // The server is still starting.
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException(variant.name() + " did not serve a request within " + READY_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing system property " + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+package com.crediya.auth;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the {@code fast-startup} profile: lazy initialization, with the request path and background
+ * tasks kept eager, and no OpenAPI scanning at runtime.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("fast-startup")
+class FastStartupProfileTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void shouldCreateCriticalBeansEagerlyAndDeferTheRest() {
+        assertThat(context.getBeanFactory().containsSingleton("outboxRelayTask")).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("userController")).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("rateLimitingFilter")).isTrue();
+        assertThat(context.getBeanFactory().getBeanDefinition("jacksonObjectMapperBuilder").isLazyInit()).isTrue();
+    }
+
+    @Test
+    void shouldServeRegistrationsWithoutRuntimeApiDocs() {
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("fast.startup@example.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/v3/api-docs")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
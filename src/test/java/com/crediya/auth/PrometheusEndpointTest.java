@@ -0,0 +1,68 @@
+package com.crediya.auth;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Integration test for the registration metrics exposed through the Actuator Prometheus endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class PrometheusEndpointTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldExposeRegistrationStageAndConnectionPoolMetrics() {
+
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("prometheus.test@example.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        String scrape = webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(scrape)
+                .contains("registration_stage_seconds_bucket{stage=\"decode_and_validate\"")
+                .contains("registration_stage_seconds_count{stage=\"bean_validation\"")
+                .contains("registration_stage_seconds_count{stage=\"transaction_commit\"")
+                .contains("user_repository_operations_seconds_count{operation=\"exists_by_email\"")
+                .contains("user_repository_operations_seconds_count{operation=\"save\"")
+                .contains("registration_conflicts_total{path=\"single\"} 1.0")
+                .contains("r2dbc_pool_acquired_connections");
+    }
+}
@@ -0,0 +1,93 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the FindUserUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class FindUserUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private FindUserUseCase findUserUseCase;
+
+    @BeforeEach
+    void setUp() {
+        findUserUseCase = new FindUserUseCase(userRepository);
+    }
+
+    @Test
+    void shouldFailWithUserNotFoundExceptionWhenNoUserHasTheEmail() {
+
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(findUserUseCase.findByEmail("unknown@example.com"))
+                .expectErrorMatches(error -> error instanceof UserNotFoundException &&
+                        error.getMessage().equals("User with email unknown@example.com was not found."))
+                .verify();
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreUsersFollowThePage() {
+
+        when(userRepository.findPageAfter(null, 3)).thenReturn(Flux.just(withId(1L), withId(2L), withId(3L)));
+
+        StepVerifier.create(findUserUseCase.listUsers(null, 2))
+                .expectNextMatches(page -> page.users().size() == 2 && page.nextCursor() == 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNoCursorOnTheLastPage() {
+
+        when(userRepository.findPageAfter(2L, 3)).thenReturn(Flux.just(withId(3L)));
+
+        StepVerifier.create(findUserUseCase.listUsers(2L, 2))
+                .expectNextMatches(page -> page.users().size() == 1 && page.users().get(0).getId() == 3L && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldClampThePageSizeToTheSupportedRange() {
+
+        when(userRepository.findPageAfter(null, FindUserUseCase.MAX_PAGE_SIZE + 1)).thenReturn(Flux.empty());
+
+        StepVerifier.create(findUserUseCase.listUsers(null, 1_000_000))
+                .expectNextMatches(page -> page.users().isEmpty() && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    private User withId(Long id) {
+        return new User(
+                id,
+                "Larry",
+                "Ramirez",
+                "user" + id + "@example.com",
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "456 Oak Ave",
+                "APPLICANT",
+                new BigDecimal("5000000"),
+                null
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.exceptions.InvalidCredentialsException;
+import com.crediya.auth.application.ports.in.LoginCommand;
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.domain.ports.out.TokenIssuer;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the LoginUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private TokenIssuer tokenIssuer;
+
+    private LoginUseCase loginUseCase;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loginUseCase = new LoginUseCase(userRepository, passwordHasher, tokenIssuer);
+        user = new User(1L, "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), "stored-hash");
+    }
+
+    @Test
+    void shouldIssueTokenWhenPasswordMatches() {
+
+        AccessToken token = new AccessToken("signed-token", Instant.parse("2030-01-01T00:00:00Z"));
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Mono.just(user));
+        when(passwordHasher.matches("S3cure-password", "stored-hash")).thenReturn(Mono.just(true));
+        when(tokenIssuer.issue(user)).thenReturn(token);
+
+        StepVerifier.create(loginUseCase.login(new LoginCommand(user.getEmail(), "S3cure-password")))
+                .expectNext(token)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectWrongPassword() {
+
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Mono.just(user));
+        when(passwordHasher.matches("wrong-password", "stored-hash")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(loginUseCase.login(new LoginCommand(user.getEmail(), "wrong-password")))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+
+        verify(tokenIssuer, never()).issue(any());
+    }
+
+    @Test
+    void shouldStillVerifyAPasswordWhenTheEmailIsUnknown() {
+
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Mono.empty());
+        when(passwordHasher.matches("S3cure-password", null)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(loginUseCase.login(new LoginCommand("unknown@example.com", "S3cure-password")))
+                .expectErrorMatches(error -> error instanceof InvalidCredentialsException
+                        && error.getMessage().equals("Invalid email or password."))
+                .verify();
+
+        verify(passwordHasher).matches("S3cure-password", null);
+    }
+}
@@ -0,0 +1,230 @@
+package com.crediya.auth.application.service;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import com.crediya.auth.domain.validation.EmailValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Concurrency tests for the in-flight registration coalescing of the RegisterUserUseCase.
+ *
+ * It uses an in-memory repository with simulated latency that counts every statement that reaches it.
+ */
+class RegisterUserUseCaseConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 64;
+
+    @ParameterizedTest
+    @EnumSource(RegistrationMode.class)
+    void shouldInsertOnlyOnceWhenTheSameEmailIsSubmittedConcurrently(RegistrationMode mode) {
+
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RegisterUserUseCase useCase = new RegisterUserUseCase(repository, new PrefixPasswordHasher(), events -> Mono.empty(), passThroughTransactions(),
+                new RegistrationProperties(mode, new RegistrationProperties.Coalescing(true, 16, 10_000)), meterRegistry);
+
+        List<Signal<User>> outcomes = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> useCase.registerUser(command(i % 2 == 0 ? "larry.ramirez11@outlook.com" : "Larry.Ramirez11@Outlook.com"))
+                        .subscribeOn(Schedulers.parallel())
+                        .materialize(), CONCURRENT_REQUESTS)
+                .filter(signal -> !signal.isOnComplete())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(1, outcomes.stream().filter(Signal::isOnNext).count());
+        assertEquals(CONCURRENT_REQUESTS - 1, outcomes.stream()
+                .filter(signal -> signal.isOnError() && signal.getThrowable() instanceof EmailAlreadyExistsException)
+                .count());
+        assertEquals(1, repository.insertAttempts.get());
+        assertTrue(repository.existsQueries.get() <= 1);
+        assertEquals(CONCURRENT_REQUESTS - 1, meterRegistry.get("registration.coalesced").counter().count());
+        assertEquals(0, meterRegistry.get("registration.in.flight").gauge().value());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegistrationMode.class)
+    void shouldReachTheDatabaseAgainOnceTheInFlightRegistrationCompleted(RegistrationMode mode) {
+
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        RegisterUserUseCase useCase = new RegisterUserUseCase(repository, new PrefixPasswordHasher(), events -> Mono.empty(), passThroughTransactions(),
+                new RegistrationProperties(mode, new RegistrationProperties.Coalescing(true, 16, 10_000)), new SimpleMeterRegistry());
+
+        useCase.registerUser(command("larry.ramirez11@outlook.com")).block(Duration.ofSeconds(5));
+        Signal<User> second = useCase.registerUser(command("larry.ramirez11@outlook.com")).materialize().block(Duration.ofSeconds(5));
+
+        assertTrue(second.getThrowable() instanceof EmailAlreadyExistsException);
+        assertEquals(mode == RegistrationMode.OPTIMISTIC_INSERT ? 2 : 1, repository.insertAttempts.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegistrationMode.class)
+    void shouldRunItsOwnRegistrationWhenTheInFlightOneFailsForAnotherReason(RegistrationMode mode) {
+
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        repository.failingInserts.set(1);
+        RegisterUserUseCase useCase = new RegisterUserUseCase(repository, new PrefixPasswordHasher(), events -> Mono.empty(), passThroughTransactions(),
+                new RegistrationProperties(mode, new RegistrationProperties.Coalescing(true, 16, 10_000)), new SimpleMeterRegistry());
+
+        Mono<Signal<User>> leader = useCase.registerUser(command("larry.ramirez11@outlook.com")).materialize().cache();
+        leader.subscribe();
+        Signal<User> follower = useCase.registerUser(command("Larry.Ramirez11@Outlook.com")).materialize().block(Duration.ofSeconds(5));
+
+        assertTrue(leader.block(Duration.ofSeconds(5)).getThrowable() instanceof IllegalStateException);
+        assertTrue(follower.isOnNext());
+        assertEquals(2, repository.insertAttempts.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegistrationMode.class)
+    void shouldCoalesceTheRetriesOfTheRegistrationsThatJoinedAFailedOne(RegistrationMode mode) {
+
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        repository.failingInserts.set(1);
+        RegisterUserUseCase useCase = new RegisterUserUseCase(repository, new PrefixPasswordHasher(), events -> Mono.empty(), passThroughTransactions(),
+                new RegistrationProperties(mode, new RegistrationProperties.Coalescing(true, 16, 10_000)), new SimpleMeterRegistry());
+
+        Mono<Signal<User>> leader = useCase.registerUser(command("larry.ramirez11@outlook.com")).materialize().cache();
+        leader.subscribe();
+        List<Signal<User>> followers = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> useCase.registerUser(command("larry.ramirez11@outlook.com")).materialize(), CONCURRENT_REQUESTS)
+                .filter(signal -> !signal.isOnComplete())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertTrue(leader.block(Duration.ofSeconds(5)).getThrowable() instanceof IllegalStateException);
+        assertEquals(1, followers.stream().filter(Signal::isOnNext).count());
+        assertEquals(CONCURRENT_REQUESTS - 1, followers.stream()
+                .filter(signal -> signal.isOnError() && signal.getThrowable() instanceof EmailAlreadyExistsException)
+                .count());
+        assertEquals(2, repository.insertAttempts.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TransactionalOperator passThroughTransactions() {
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return transactionalOperator;
+    }
+
+    private RegisterUserCommand command(String email) {
+        return new RegisterUserCommand(
+                "Larry",
+                "Ramirez",
+                email,
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "123 Main St",
+                "ROLE_USER",
+                new BigDecimal("5000000"),
+                "S3cure-password"
+        );
+    }
+
+    /**
+     * A hasher that answers immediately, so the test exercises only the coalescing.
+     */
+    private static final class PrefixPasswordHasher implements PasswordHasher {
+
+        @Override
+        public Mono<String> hash(String rawPassword) {
+            return Mono.just("hashed:" + rawPassword);
+        }
+
+        @Override
+        public Mono<Boolean> matches(String rawPassword, String passwordHash) {
+            return Mono.just(("hashed:" + rawPassword).equals(passwordHash));
+        }
+    }
+
+    /**
+     * A repository that behaves like a table with a unique index on the normalized email, answering after a short delay.
+     */
+    private static final class InMemoryUserRepository implements UserRepository {
+
+        private static final Duration LATENCY = Duration.ofMillis(20);
+
+        private final Set<String> normalizedEmails = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger insertAttempts = new AtomicInteger();
+        private final AtomicInteger existsQueries = new AtomicInteger();
+        private final AtomicInteger ids = new AtomicInteger();
+        private final AtomicInteger failingInserts = new AtomicInteger();
+
+        @Override
+        public Mono<Boolean> existsByEmail(String email) {
+            return Mono.delay(LATENCY)
+                    .doOnNext(tick -> existsQueries.incrementAndGet())
+                    .map(tick -> normalizedEmails.contains(EmailValidator.normalize(email)));
+        }
+
+        @Override
+        public Mono<User> save(User user) {
+            return Mono.delay(LATENCY)
+                    .doOnNext(tick -> insertAttempts.incrementAndGet())
+                    .flatMap(tick -> failingInserts.getAndDecrement() > 0
+                            ? Mono.error(new IllegalStateException("Database unavailable"))
+                            : Mono.just(tick))
+                    .flatMap(tick -> normalizedEmails.add(EmailValidator.normalize(user.getEmail()))
+                            ? Mono.just(new User((long) ids.incrementAndGet(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                            user.getIdentityNumber(), user.getPhoneNumber(), user.getBirthDate(), user.getAddress(),
+                            user.getIdRole(), user.getBaseSalary(), user.getPasswordHash()))
+                            : Mono.error(new EmailAlreadyExistsException("Email " + user.getEmail() + " is already registered.")));
+        }
+
+        @Override
+        public Flux<String> findExistingEmails(Collection<String> emails) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<User> findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<User> findByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<User> findPageAfter(Long afterId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<User> streamAfter(Long afterId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<User> saveAll(List<User> users) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
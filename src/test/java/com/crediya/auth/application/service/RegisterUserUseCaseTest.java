@@ -2,21 +2,32 @@ package com.crediya.auth.application.service;
 
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
 import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegistrationResult;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.domain.ports.out.UserEventOutbox;
 import com.crediya.auth.domain.ports.out.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,7 +44,15 @@ class RegisterUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private UserEventOutbox userEventOutbox;
+
     private RegisterUserUseCase registerUserUseCase;
 
     private RegisterUserCommand command;
@@ -50,10 +69,18 @@ class RegisterUserUseCaseTest {
                 LocalDate.of(1995, 11, 11),
                 "123 Main St",
                 "ROLE_USER",
-                new BigDecimal("5000000")
+                new BigDecimal("5000000"),
+                "S3cure-password"
         );
 
         user = command.toDomainUser();
+
+        lenient().when(userEventOutbox.append(anyList())).thenReturn(Mono.empty());
+        lenient().when(passwordHasher.hash(any())).thenAnswer(invocation -> Mono.just("hashed:" + invocation.getArgument(0)));
+        lenient().when(transactionalOperator.transactional(any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        registerUserUseCase = useCaseWithMode(RegistrationMode.CHECK_THEN_INSERT);
     }
 
 
@@ -82,6 +109,59 @@ class RegisterUserUseCaseTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void shouldStoreOnlyTheHashOfThePassword() {
+
+        when(userRepository.existsByEmail(command.email())).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(withId(invocation.getArgument(0))));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectNextMatches(savedUser -> savedUser.getPasswordHash().equals("hashed:" + command.password()))
+                .verifyComplete();
+
+        verify(userRepository).save(argThat(toSave -> ("hashed:" + command.password()).equals(toSave.getPasswordHash())));
+    }
+
+    @Test
+    void shouldRequireAPasswordToRegisterAUser() {
+
+        assertThatThrownBy(() -> commandWithPassword(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Password must not be null");
+        assertThatThrownBy(() -> commandWithPassword(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Password must not be blank");
+    }
+
+    @Test
+    void shouldRecordAUserRegisteredEventForTheSavedUser() {
+
+        when(userRepository.existsByEmail(command.email())).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(withId(invocation.getArgument(0))));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(userEventOutbox).append(argThat(events -> events.size() == 1
+                && events.get(0).userId() != null
+                && events.get(0).email().equals(command.email())));
+    }
+
+    @Test
+    void shouldRecordTheEventInTheSameTransactionInOptimisticMode() {
+
+        registerUserUseCase = useCaseWithMode(RegistrationMode.OPTIMISTIC_INSERT);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(withId(invocation.getArgument(0))));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(userEventOutbox).append(argThat(events -> events.size() == 1));
+    }
+
     @Test
     void shouldReturnErrorWhenEmailAlreadyExists() {
 
@@ -94,5 +174,150 @@ class RegisterUserUseCaseTest {
                 .verify();
 
         verify(userRepository, never()).save(any(User.class));
+        verify(userEventOutbox, never()).append(anyList());
+    }
+
+    @Test
+    void shouldRegisterUsersInBulkReportingOneResultPerCommandInOrder() {
+
+        RegisterUserCommand existing = commandWithEmail("existing@example.com");
+        RegisterUserCommand duplicate = commandWithEmail(command.email());
+        RegisterUserCommand invalid = commandWithEmail("not-an-email");
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Flux.just("existing@example.com"));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return Flux.fromIterable(users).map(this::withId);
+        });
+
+        Flux<RegistrationResult> results = registerUserUseCase.registerUsers(List.of(command, existing, duplicate, invalid));
+
+        StepVerifier.create(results)
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CREATED && result.user().getId() != null)
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CONFLICT && result.email().equals("existing@example.com"))
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CONFLICT && result.email().equals(command.email()))
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.INVALID && result.message().equals("The email format is not valid."))
+                .verifyComplete();
+
+        verify(userRepository).saveAll(argThat(users -> users.size() == 1));
+        verify(userEventOutbox).append(argThat(events -> events.size() == 1 && events.get(0).email().equals(command.email())));
+    }
+
+    @Test
+    void shouldTreatEmailsThatDifferOnlyInCaseAsDuplicatesWithinABulkRegistration() {
+
+        RegisterUserCommand upperCase = commandWithEmail(command.email().toUpperCase());
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Flux.empty());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return Flux.fromIterable(users).map(this::withId);
+        });
+
+        StepVerifier.create(registerUserUseCase.registerUsers(List.of(command, upperCase)))
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CREATED)
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CONFLICT && result.email().equals(upperCase.email()))
+                .verifyComplete();
+
+        verify(userRepository).saveAll(argThat(users -> users.size() == 1));
+    }
+
+    @Test
+    void shouldInsertWithoutCheckingEmailInOptimisticMode() {
+
+        registerUserUseCase = useCaseWithMode(RegistrationMode.OPTIMISTIC_INSERT);
+        when(userRepository.save(any(User.class))).thenReturn(Mono.just(user));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectNext(user)
+                .verifyComplete();
+
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void shouldPropagateConflictFromInsertInOptimisticMode() {
+
+        registerUserUseCase = useCaseWithMode(RegistrationMode.OPTIMISTIC_INSERT);
+        when(userRepository.save(any(User.class)))
+                .thenReturn(Mono.error(new EmailAlreadyExistsException("Email " + command.email() + " is already registered.")));
+
+        StepVerifier.create(registerUserUseCase.registerUser(command))
+                .expectErrorMatches(error -> error instanceof EmailAlreadyExistsException
+                        && error.getMessage().equals("Email " + command.email() + " is already registered."))
+                .verify();
+
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void shouldRetryChunkOneByOneWhenBatchedInsertHitsConcurrentRegistration() {
+
+        RegisterUserCommand other = commandWithEmail("other@example.com");
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Flux.empty());
+        when(userRepository.saveAll(anyList()))
+                .thenReturn(Flux.error(new EmailAlreadyExistsException("One or more emails in the batch are already registered.")));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User toSave = invocation.getArgument(0);
+            return toSave.getEmail().equals(command.email())
+                    ? Mono.error(new EmailAlreadyExistsException("Email " + command.email() + " is already registered."))
+                    : Mono.just(withId(toSave));
+        });
+
+        StepVerifier.create(registerUserUseCase.registerUsers(List.of(command, other)))
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CONFLICT)
+                .expectNextMatches(result -> result.status() == RegistrationResult.Status.CREATED && result.email().equals("other@example.com"))
+                .verifyComplete();
+    }
+
+    private RegisterUserUseCase useCaseWithMode(RegistrationMode mode) {
+        return new RegisterUserUseCase(userRepository, passwordHasher, userEventOutbox, transactionalOperator, new RegistrationProperties(mode, new RegistrationProperties.Coalescing(true, 16, 10_000)), new SimpleMeterRegistry());
+    }
+
+    private RegisterUserCommand commandWithEmail(String email) {
+        return new RegisterUserCommand(
+                command.firstName(),
+                command.lastName(),
+                email,
+                command.identityNumber(),
+                command.phoneNumber(),
+                command.birthDate(),
+                command.address(),
+                command.idRole(),
+                command.baseSalary(),
+                command.password()
+        );
+    }
+
+    private RegisterUserCommand commandWithPassword(String password) {
+        return new RegisterUserCommand(
+                command.firstName(),
+                command.lastName(),
+                command.email(),
+                command.identityNumber(),
+                command.phoneNumber(),
+                command.birthDate(),
+                command.address(),
+                command.idRole(),
+                command.baseSalary(),
+                password
+        );
+    }
+
+    private User withId(User user) {
+        return new User(
+                1L,
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getIdentityNumber(),
+                user.getPhoneNumber(),
+                user.getBirthDate(),
+                user.getAddress(),
+                user.getIdRole(),
+                user.getBaseSalary(),
+                user.getPasswordHash()
+        );
     }
 }
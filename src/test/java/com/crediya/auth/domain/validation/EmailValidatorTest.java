@@ -0,0 +1,93 @@
+package com.crediya.auth.domain.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Unit tests for the EmailValidator.
+ *
+ * The validator replaced a regular expression in the User model; the expression is kept here to check that both accept the same addresses.
+ */
+class EmailValidatorTest {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "larry.ramirez11@outlook.com",
+            "Juan.Perez@Email.COM",
+            "a+tag%x_y-z@sub.domain-name.co",
+            "a@b.io",
+            "a@..museum"
+    })
+    void shouldAcceptWellFormedEmails(String email) {
+        assertTrue(EmailValidator.isValid(email));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "not-an-email",
+            "@domain.com",
+            "user@",
+            "user@domain",
+            "user@.com",
+            "user@domain.c",
+            "user@domain.toolong",
+            "user@domain.c0m",
+            "user@@domain.com",
+            "us er@domain.com",
+            "user@do_main.com",
+            "usér@domain.com"
+    })
+    void shouldRejectMalformedEmails(String email) {
+        assertFalse(EmailValidator.isValid(email));
+    }
+
+    @Test
+    void shouldRejectNull() {
+        assertFalse(EmailValidator.isValid(null));
+    }
+
+    @Test
+    void shouldAgreeWithLegacyPatternOnRandomInputs() {
+
+        Random random = new Random(42);
+        String alphabet = "aZ09._%+-@@..é ";
+
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder candidate = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int j = 0; j < length; j++) {
+                candidate.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String email = candidate.toString();
+            assertEquals(LEGACY_EMAIL_PATTERN.matcher(email).matches(), EmailValidator.isValid(email), email);
+        }
+    }
+
+    @Test
+    void normalizeShouldLowerCaseAsciiLetters() {
+        assertEquals("juan.perez@email.com", EmailValidator.normalize("Juan.Perez@EMAIL.com"));
+    }
+
+    @Test
+    void normalizeShouldReturnSameInstanceWhenAlreadyCanonical() {
+        String email = "juan.perez@email.com";
+        assertSame(email, EmailValidator.normalize(email));
+        assertNull(EmailValidator.normalize(null));
+    }
+}
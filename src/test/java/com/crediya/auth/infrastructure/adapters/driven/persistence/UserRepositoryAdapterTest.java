@@ -1,21 +1,25 @@
 package com.crediya.auth.infrastructure.adapters.driven.persistence;
 
 
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
 import com.crediya.auth.domain.model.User;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.entity.UserData;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapper;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapperImpl;
 import com.crediya.auth.infrastructure.adapters.driven.persistence.repository.UserDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 
 /**
@@ -38,7 +42,7 @@ public class UserRepositoryAdapterTest {
     @BeforeEach
     void setUp() {
         userDataRepository.deleteAll().block();
-        userRepositoryAdapter = new UserRepositoryAdapter(userDataRepository, userMapper);
+        userRepositoryAdapter = new UserRepositoryAdapter(userDataRepository, userMapper, new SimpleMeterRegistry());
     }
 
     @Test
@@ -74,6 +78,7 @@ public class UserRepositoryAdapterTest {
                 .firstName("Larry")
                 .lastName("Ramirez")
                 .email("larry.ramirez11@outlook.com")
+                .normalizedEmail("larry.ramirez11@outlook.com")
                 .baseSalary(new BigDecimal("5000000"))
                 .build();
 
@@ -95,4 +100,145 @@ public class UserRepositoryAdapterTest {
                 .expectNext(false)
                 .verifyComplete();
     }
+
+    @Test
+    void saveShouldTranslateUniqueEmailViolationIntoEmailAlreadyExistsException() {
+
+        Mono<User> duplicateSave = userRepositoryAdapter.save(newUser("larry.ramirez11@outlook.com"))
+                .then(userRepositoryAdapter.save(newUser("larry.ramirez11@outlook.com")));
+
+        StepVerifier.create(duplicateSave)
+                .expectErrorMatches(error -> error instanceof EmailAlreadyExistsException
+                        && error.getMessage().equals("Email larry.ramirez11@outlook.com is already registered."))
+                .verify();
+    }
+
+    @Test
+    void saveShouldRejectAnEmailThatDiffersOnlyInCase() {
+
+        Mono<User> duplicateSave = userRepositoryAdapter.save(newUser("larry.ramirez11@outlook.com"))
+                .then(userRepositoryAdapter.save(newUser("Larry.Ramirez11@Outlook.com")));
+
+        StepVerifier.create(duplicateSave)
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    void emailLookupsShouldIgnoreCase() {
+
+        Mono<Void> setup = userRepositoryAdapter.save(newUser("Larry.Ramirez11@Outlook.com")).then();
+
+        StepVerifier.create(setup.then(userRepositoryAdapter.existsByEmail("larry.ramirez11@outlook.com")))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findByEmail("LARRY.RAMIREZ11@OUTLOOK.COM").map(User::getEmail))
+                .expectNext("Larry.Ramirez11@Outlook.com")
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findExistingEmails(List.of("LARRY.ramirez11@outlook.com", "unknown@example.com")))
+                .expectNext("LARRY.ramirez11@outlook.com")
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllShouldInsertUsersInOneBatchAndReturnThemWithIdsInOrder() {
+
+        List<User> usersToSave = List.of(
+                newUser("first@example.com"),
+                newUser("second@example.com"),
+                newUser("third@example.com")
+        );
+
+        Flux<User> savedUsers = userRepositoryAdapter.saveAll(usersToSave);
+
+        StepVerifier.create(savedUsers)
+                .expectNextMatches(savedUser -> savedUser.getId() != null && savedUser.getEmail().equals("first@example.com"))
+                .expectNextMatches(savedUser -> savedUser.getId() != null && savedUser.getEmail().equals("second@example.com"))
+                .expectNextMatches(savedUser -> savedUser.getId() != null && savedUser.getEmail().equals("third@example.com"))
+                .verifyComplete();
+
+        StepVerifier.create(userDataRepository.count())
+                .expectNext(3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findExistingEmailsShouldReturnOnlyRegisteredEmails() {
+
+        Mono<Void> setup = userRepositoryAdapter.save(newUser("registered@example.com")).then();
+
+        Flux<String> existingEmails = userRepositoryAdapter.findExistingEmails(List.of("registered@example.com", "unknown@example.com"));
+
+        StepVerifier.create(setup.thenMany(existingEmails))
+                .expectNext("registered@example.com")
+                .verifyComplete();
+    }
+
+    @Test
+    void findByEmailAndFindByIdShouldReturnTheSavedUser() {
+
+        Mono<User> saved = userRepositoryAdapter.save(newUser("lookup@example.com"));
+
+        StepVerifier.create(saved.flatMap(user -> userRepositoryAdapter.findByEmail("lookup@example.com")
+                        .zipWith(userRepositoryAdapter.findById(user.getId()))))
+                .expectNextMatches(found ->
+                        found.getT1().getEmail().equals("lookup@example.com") &&
+                                found.getT1().getId().equals(found.getT2().getId())
+                )
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findByEmail("unknown@example.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findPageAfterShouldWalkUsersByKeysetInIdOrder() {
+
+        Mono<List<User>> saved = userRepositoryAdapter.saveAll(List.of(
+                newUser("page1@example.com"),
+                newUser("page2@example.com"),
+                newUser("page3@example.com")
+        )).collectList();
+
+        StepVerifier.create(saved.flatMap(users -> userRepositoryAdapter.findPageAfter(users.get(0).getId(), 10)
+                        .map(User::getEmail)
+                        .collectList()))
+                .expectNext(List.of("page2@example.com", "page3@example.com"))
+                .verifyComplete();
+
+        StepVerifier.create(userRepositoryAdapter.findPageAfter(null, 1).map(User::getEmail))
+                .expectNext("page1@example.com")
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAfterShouldHonorSubscriberDemand() {
+
+        Mono<Void> setup = userRepositoryAdapter.saveAll(List.of(
+                newUser("stream1@example.com"),
+                newUser("stream2@example.com")
+        )).then();
+
+        StepVerifier.create(setup.thenMany(userRepositoryAdapter.streamAfter(null).map(User::getEmail)), 1)
+                .expectNext("stream1@example.com")
+                .thenRequest(1)
+                .expectNext("stream2@example.com")
+                .verifyComplete();
+    }
+
+    private User newUser(String email) {
+        return User.newUser(
+                "Larry",
+                "Ramirez",
+                email,
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "456 Oak Ave",
+                "APPLICANT",
+                new BigDecimal("5000000")
+        );
+    }
 }
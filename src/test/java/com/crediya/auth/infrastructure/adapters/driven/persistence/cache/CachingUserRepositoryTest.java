@@ -0,0 +1,107 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.cache;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the CachingUserRepository decorator.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+
+        User user = user(1L, "larry.ramirez11@outlook.com");
+        when(delegate.findByEmail(user.getEmail())).thenReturn(Mono.just(user));
+        when(delegate.findById(1L)).thenReturn(Mono.just(user));
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(repository.findByEmail(user.getEmail()))
+                    .expectNext(user)
+                    .verifyComplete();
+            StepVerifier.create(repository.findById(1L))
+                    .expectNext(user)
+                    .verifyComplete();
+        }
+
+        verify(delegate, times(1)).findByEmail(user.getEmail());
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldNotCacheMissingUsers() {
+
+        when(delegate.findByEmail("unknown@example.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByEmail("unknown@example.com"))
+                .verifyComplete();
+        StepVerifier.create(repository.findByEmail("unknown@example.com"))
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByEmail("unknown@example.com");
+    }
+
+    @Test
+    void shouldInvalidateCachedEntriesWhenUserIsSaved() {
+
+        User user = user(1L, "larry.ramirez11@outlook.com");
+        when(delegate.findByEmail(user.getEmail())).thenReturn(Mono.just(user));
+        when(delegate.save(user)).thenReturn(Mono.just(user));
+
+        StepVerifier.create(repository.findByEmail(user.getEmail()))
+                .expectNext(user)
+                .verifyComplete();
+        StepVerifier.create(repository.save(user))
+                .expectNext(user)
+                .verifyComplete();
+        StepVerifier.create(repository.findByEmail(user.getEmail()))
+                .expectNext(user)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByEmail(user.getEmail());
+    }
+
+    private User user(Long id, String email) {
+        return new User(
+                id,
+                "Larry",
+                "Ramirez",
+                email,
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "456 Oak Ave",
+                "APPLICANT",
+                new BigDecimal("5000000"),
+                null
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.filter;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the BloomFilterUserRepository decorator.
+ */
+@ExtendWith(MockitoExtension.class)
+class BloomFilterUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BloomFilterUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new BloomFilterUserRepository(delegate, new EmailBloomFilter(1_000, 0.01), meterRegistry);
+    }
+
+    @Test
+    void shouldFallThroughToDelegateUntilWarmedUp() {
+
+        when(delegate.existsByEmail("larry.ramirez11@outlook.com")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(repository.existsByEmail("larry.ramirez11@outlook.com"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(delegate).existsByEmail("larry.ramirez11@outlook.com");
+    }
+
+    @Test
+    void shouldAnswerAbsentEmailsWithoutTouchingDelegateOnceWarmedUp() {
+
+        StepVerifier.create(repository.warmUp(Flux.just("registered@example.com")))
+                .verifyComplete();
+
+        StepVerifier.create(repository.existsByEmail("unknown@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(delegate, never()).existsByEmail("unknown@example.com");
+        assertEquals(1.0, meterRegistry.get("user.email.filter.checks").tag("result", "absent").counter().count());
+    }
+
+    @Test
+    void shouldFallThroughForEmailsThatMayBePresent() {
+
+        when(delegate.existsByEmail("registered@example.com")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(repository.warmUp(Flux.just("registered@example.com")))
+                .verifyComplete();
+
+        StepVerifier.create(repository.existsByEmail("registered@example.com"))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(delegate).existsByEmail("registered@example.com");
+    }
+
+    @Test
+    void shouldRecordSavedEmailsInTheFilter() {
+
+        User user = User.newUser(
+                "Larry",
+                "Ramirez",
+                "larry.ramirez11@outlook.com",
+                "123456789",
+                "3001234567",
+                LocalDate.of(1995, 11, 11),
+                "123 Main St",
+                "ROLE_USER",
+                new BigDecimal("5000000")
+        );
+        when(delegate.save(user)).thenReturn(Mono.just(user));
+        when(delegate.findExistingEmails(List.of(user.getEmail()))).thenReturn(Flux.just(user.getEmail()));
+
+        StepVerifier.create(repository.warmUp(Flux.empty()).then(repository.save(user)))
+                .expectNext(user)
+                .verifyComplete();
+
+        StepVerifier.create(repository.findExistingEmails(List.of(user.getEmail(), "unknown@example.com")))
+                .expectNext(user.getEmail())
+                .verifyComplete();
+
+        assertTrue(meterRegistry.get("user.email.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void expectedFalsePositiveRateShouldStayNearConfiguredTarget() {
+
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 200, "Too many false positives: " + falsePositives);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+}
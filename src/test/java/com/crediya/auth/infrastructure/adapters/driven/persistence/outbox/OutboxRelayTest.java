@@ -0,0 +1,133 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.outbox;
+
+import com.crediya.auth.domain.model.UserRegistered;
+import com.crediya.auth.infrastructure.adapters.driven.messaging.InMemoryUserEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+/**
+ * Integration tests for the UserEventOutboxAdapter and the OutboxRelay.
+ * @DataR2dbcTest loads the persistence context, including an in-memory H2 database. The database is not shared with
+ * the application contexts of other tests, whose relays would otherwise drain the outbox in the background.
+ */
+@DataR2dbcTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///outbox-relay-test;DB_CLOSE_DELAY=-1")
+class OutboxRelayTest {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private UserEventOutboxAdapter outbox;
+    private InMemoryUserEventPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM outbox_evento").then().block();
+        outbox = new UserEventOutboxAdapter(databaseClient, new ObjectMapper().findAndRegisterModules());
+        publisher = new InMemoryUserEventPublisher(100);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outbox, publisher, new OutboxProperties(true, 2, Duration.ofSeconds(1), Duration.ofSeconds(30)),
+                Clock.systemUTC(), meterRegistry, "primary");
+    }
+
+    @Test
+    void shouldPublishEveryEventInOrderAndEmptyTheOutbox() {
+
+        List<UserRegistered> events = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> new UserRegistered(id, "user" + id + "@example.com", "APPLICANT", Instant.parse("2030-01-01T00:00:00Z")))
+                .toList();
+        outbox.append(events).block();
+
+        StepVerifier.create(relay.relayPending())
+                .expectNext(5L)
+                .verifyComplete();
+
+        assertEquals(events, publisher.published());
+        StepVerifier.create(pendingUserIds()).verifyComplete();
+        assertEquals(5, meterRegistry.get("outbox.events.published").counter().count());
+        assertEquals(0, meterRegistry.get("outbox.lag").gauge().value());
+    }
+
+    @Test
+    void shouldPublishEachEventOnceWithRelaysOnSeveralInstances() {
+
+        List<UserRegistered> events = LongStream.rangeClosed(1, 40)
+                .mapToObj(id -> new UserRegistered(id, "user" + id + "@example.com", "APPLICANT", Instant.parse("2030-01-01T00:00:00Z")))
+                .toList();
+        outbox.append(events).block();
+        List<OutboxRelay> relays = IntStream.range(0, 4)
+                .mapToObj(i -> new OutboxRelay(outbox, batch -> Mono.delay(Duration.ofMillis(5)).then(publisher.publish(batch)),
+                        new OutboxProperties(true, 3, Duration.ofSeconds(1), Duration.ofSeconds(30)), Clock.systemUTC(), new SimpleMeterRegistry(), "primary"))
+                .toList();
+
+        Long relayed = Flux.fromIterable(relays)
+                .flatMap(instance -> instance.relayPending().subscribeOn(Schedulers.parallel()))
+                .reduce(0L, Long::sum)
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(40L, relayed);
+        assertEquals(40, publisher.published().size());
+        assertEquals(Set.copyOf(events), Set.copyOf(publisher.published()));
+    }
+
+    @Test
+    void shouldNotClaimEventsAlreadyClaimedByAnotherRelay() {
+
+        outbox.append(LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> new UserRegistered(id, "user" + id + "@example.com", "APPLICANT", Instant.now()))
+                .toList()).block();
+
+        List<OutboxEntry> first = outbox.claimOldest(2, Duration.ofSeconds(30)).collectList().block();
+        List<OutboxEntry> second = outbox.claimOldest(2, Duration.ofSeconds(30)).collectList().block();
+
+        assertEquals(List.of(1L, 2L), first.stream().map(entry -> entry.event().userId()).toList());
+        assertEquals(List.of(3L), second.stream().map(entry -> entry.event().userId()).toList());
+        StepVerifier.create(outbox.claimOldest(2, Duration.ofSeconds(30))).verifyComplete();
+    }
+
+    @Test
+    void shouldKeepEventsWhenPublishingFails() {
+
+        outbox.append(List.of(new UserRegistered(1L, "user1@example.com", "APPLICANT", Instant.now()))).block();
+        OutboxRelay failingRelay = new OutboxRelay(outbox, batch -> Mono.error(new IllegalStateException("Broker unavailable")),
+                new OutboxProperties(true, 2, Duration.ofSeconds(1), Duration.ofSeconds(30)), Clock.systemUTC(), meterRegistry, "primary");
+
+        StepVerifier.create(failingRelay.relayPending())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(pendingUserIds())
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(relay.relayPending())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    private Flux<Long> pendingUserIds() {
+        return databaseClient.sql("SELECT id_agregado FROM outbox_evento ORDER BY id_evento")
+                .map(row -> row.get(0, Long.class))
+                .all();
+    }
+}
@@ -0,0 +1,149 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.replica;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.UserRepositoryAdapter;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the read replica routing, with the primary and the replica in two in-memory H2 databases that
+ * do not replicate, so the database that served each read is visible in its result.
+ */
+@DataR2dbcTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///replica-routing-primary;DB_CLOSE_DELAY=-1",
+        "crediya.persistence.replica.enabled=true",
+        "crediya.persistence.replica.url=r2dbc:h2:mem:///replica-routing-replica;DB_CLOSE_DELAY=-1",
+        "crediya.persistence.replica.username=sa",
+        "crediya.persistence.replica.initialize-schema=true"
+})
+@Import({ReplicaConfiguration.class, UserRepositoryAdapter.class, UserMapperImpl.class, SimpleMeterRegistry.class})
+class ReadReplicaUserRepositoryTest {
+
+    private static final String EMAIL = "larry.ramirez11@outlook.com";
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private UserRepositoryAdapter userRepositoryAdapter;
+
+    private ReplicaRoutingConnectionFactory routing;
+    private MeterRegistry meterRegistry;
+    private ReadReplicaUserRepository readReplicaUserRepository;
+
+    @BeforeEach
+    void setUp() {
+        routing = (ReplicaRoutingConnectionFactory) connectionFactory;
+        Flux.just(routing.primary(), routing.replica())
+                .concatMap(target -> DatabaseClient.create(target).sql("DELETE FROM usuario").then())
+                .blockLast();
+        meterRegistry = new SimpleMeterRegistry();
+        readReplicaUserRepository = new ReadReplicaUserRepository(userRepositoryAdapter, Duration.ofMillis(500), 1000, meterRegistry);
+    }
+
+    @Test
+    void shouldWriteToThePrimary() {
+        StepVerifier.create(readReplicaUserRepository.save(newUser(EMAIL)).map(User::getEmail))
+                .expectNext(EMAIL)
+                .verifyComplete();
+
+        assertThat(countRows(routing.primary())).isEqualTo(1);
+        assertThat(countRows(routing.replica())).isZero();
+        assertThat(routingCount("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadFromTheReplica() {
+        userRepositoryAdapter.save(newUser(EMAIL)).block();
+
+        StepVerifier.create(readReplicaUserRepository.existsByEmail(EMAIL))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(readReplicaUserRepository.findPageAfter(null, 10))
+                .verifyComplete();
+
+        assertThat(routingCount("replica", "read")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadAJustSavedUserFromThePrimaryUntilTheWindowCloses() {
+        User savedUser = readReplicaUserRepository.save(newUser(EMAIL)).block();
+
+        StepVerifier.create(readReplicaUserRepository.existsByEmail(EMAIL.toUpperCase()))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(readReplicaUserRepository.findById(savedUser.getId()).map(User::getEmail))
+                .expectNext(EMAIL)
+                .verifyComplete();
+        assertThat(routingCount("primary", "read_your_writes")).isEqualTo(2);
+
+        StepVerifier.create(Mono.delay(Duration.ofMillis(700)).then(readReplicaUserRepository.existsByEmail(EMAIL)))
+                .expectNext(false)
+                .verifyComplete();
+        assertThat(routingCount("replica", "read")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLookUpOnThePrimaryAUserSavedByAnotherInstanceThatTheReplicaMisses() {
+        User savedElsewhere = userRepositoryAdapter.save(newUser(EMAIL)).block();
+
+        StepVerifier.create(readReplicaUserRepository.findById(savedElsewhere.getId()).map(User::getEmail))
+                .expectNext(EMAIL)
+                .verifyComplete();
+        StepVerifier.create(readReplicaUserRepository.findByEmail(EMAIL).map(User::getId))
+                .expectNext(savedElsewhere.getId())
+                .verifyComplete();
+        StepVerifier.create(readReplicaUserRepository.findById(savedElsewhere.getId() + 1))
+                .verifyComplete();
+
+        assertThat(routingCount("replica", "read")).isEqualTo(3);
+        assertThat(routingCount("primary", "replica_miss")).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReadFromThePrimaryInsideATransaction() {
+        userRepositoryAdapter.save(newUser(EMAIL)).block();
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+        StepVerifier.create(readReplicaUserRepository.existsByEmail(EMAIL).as(transactionalOperator::transactional))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(routingCount("primary", "transaction")).isEqualTo(1);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.get("user.repository.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static long countRows(ConnectionFactory target) {
+        return DatabaseClient.create(target).sql("SELECT COUNT(*) FROM usuario")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    private static User newUser(String email) {
+        return User.newUser("Larry", "Ramirez", email, "123456789", "3001234567", LocalDate.of(1995, 11, 11),
+                "456 Oak Ave", "APPLICANT", new BigDecimal("5000000"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests for the shard layout checks made before any user is stored, with every shard in its own in-memory H2 database.
+ */
+class ShardConnectionPoolsTest {
+
+    private final ShardingConfiguration shardingConfiguration = new ShardingConfiguration();
+
+    @Test
+    void shouldStartAgainWithTheSameShards() {
+        shardingConfiguration.shardConnectionPools(properties("same-0", "same-1"), new MockEnvironment()).dispose();
+
+        assertThatCode(() -> shardingConfiguration.shardConnectionPools(properties("same-0", "same-1"), new MockEnvironment()).dispose())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldFailWhenTheNumberOfShardsChanges() {
+        shardingConfiguration.shardConnectionPools(properties("grown-0", "grown-1"), new MockEnvironment()).dispose();
+
+        assertThatThrownBy(() -> shardingConfiguration.shardConnectionPools(properties("grown-0", "grown-1", "grown-2"), new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Shard 0 was first used as shard 0 of 2 but is now configured as shard 0 of 3");
+    }
+
+    @Test
+    void shouldFailWhenTheShardsAreReordered() {
+        shardingConfiguration.shardConnectionPools(properties("order-0", "order-1"), new MockEnvironment()).dispose();
+
+        assertThatThrownBy(() -> shardingConfiguration.shardConnectionPools(properties("order-1", "order-0"), new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Shard 0 was first used as shard 1 of 2");
+    }
+
+    @Test
+    void shouldFailWhenTheReadReplicaIsEnabledToo() {
+        MockEnvironment environment = new MockEnvironment().withProperty("crediya.persistence.replica.enabled", "true");
+
+        assertThatThrownBy(() -> shardingConfiguration.shardConnectionPools(properties("replica-0"), environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cannot both be true");
+    }
+
+    private static ShardingProperties properties(String... databases) {
+        List<String> urls = List.of(databases).stream()
+                .map(database -> "r2dbc:h2:mem:///layout-" + database + ";DB_CLOSE_DELAY=-1")
+                .toList();
+        return new ShardingProperties(true, urls, "sa", null, 2, true);
+    }
+}
@@ -0,0 +1,271 @@
+package com.crediya.auth.infrastructure.adapters.driven.persistence.shard;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import com.crediya.auth.application.service.RegisterUserUseCase;
+import com.crediya.auth.application.service.RegistrationMode;
+import com.crediya.auth.application.service.RegistrationProperties;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.PasswordHasher;
+import com.crediya.auth.infrastructure.adapters.driven.persistence.mapper.UserMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the ShardedUserRepository, with every shard in its own in-memory H2 database.
+ */
+@DataR2dbcTest(properties = {
+        "crediya.persistence.sharding.enabled=true",
+        "crediya.persistence.sharding.urls[0]=r2dbc:h2:mem:///sharded-users-0;DB_CLOSE_DELAY=-1",
+        "crediya.persistence.sharding.urls[1]=r2dbc:h2:mem:///sharded-users-1;DB_CLOSE_DELAY=-1",
+        "crediya.persistence.sharding.urls[2]=r2dbc:h2:mem:///sharded-users-2;DB_CLOSE_DELAY=-1",
+        "crediya.persistence.sharding.username=sa",
+        "crediya.persistence.outbox.relay-enabled=false"
+})
+@Import({ShardingConfiguration.class, UserMapperImpl.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+class ShardedUserRepositoryTest {
+
+    private static final int USERS = 30;
+
+    @Autowired
+    private ShardedUserRepository shardedUserRepository;
+
+    @Autowired
+    private ShardConnectionPools shardConnectionPools;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setUp() {
+        Flux.fromIterable(shardConnectionPools.connectionFactories())
+                .concatMap(shardConnectionFactory -> DatabaseClient.create(shardConnectionFactory).sql("DELETE FROM usuario").then()
+                        .then(DatabaseClient.create(shardConnectionFactory).sql("DELETE FROM outbox_evento").then()))
+                .blockLast();
+    }
+
+    @Test
+    void shouldStoreEachUserInTheShardOfItsEmailWithAnIdentifierThatEncodesIt() {
+        List<User> savedUsers = saveUsers();
+
+        assertThat(savedUsers).allSatisfy(user ->
+                assertThat(shardedUserRepository.shardOf(user.getId())).isEqualTo(shardedUserRepository.shardOf(user.getEmail())));
+        List<Long> rowsPerShard = rowsPerShard();
+        assertThat(rowsPerShard).doesNotContain(0L);
+        assertThat(rowsPerShard.stream().mapToLong(Long::longValue).sum()).isEqualTo(USERS);
+    }
+
+    @Test
+    void shouldRouteTheSameEmailToTheSameShardRegardlessOfCase() {
+        assertThat(shardedUserRepository.shardOf("Larry.Ramirez11@Outlook.com"))
+                .isEqualTo(shardedUserRepository.shardOf("larry.ramirez11@outlook.com"));
+    }
+
+    @Test
+    void shouldFindUsersByIdAndEmailAcrossShards() {
+        List<User> savedUsers = saveUsers();
+
+        for (User savedUser : savedUsers) {
+            StepVerifier.create(shardedUserRepository.findById(savedUser.getId()).map(User::getEmail))
+                    .expectNext(savedUser.getEmail())
+                    .verifyComplete();
+            StepVerifier.create(shardedUserRepository.findByEmail(savedUser.getEmail().toUpperCase()).map(User::getId))
+                    .expectNext(savedUser.getId())
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldCheckEmailsAcrossShards() {
+        saveUsers();
+
+        StepVerifier.create(shardedUserRepository.existsByEmail("USER7@EMAIL.COM"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(shardedUserRepository.existsByEmail("unknown@email.com"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(shardedUserRepository.findExistingEmails(List.of("user1@email.com", "User2@Email.com", "unknown@email.com", "user29@email.com")).collectList())
+                .assertNext(existing -> assertThat(existing).containsExactlyInAnyOrder("user1@email.com", "User2@Email.com", "user29@email.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPageThroughEveryShardInIdentifierOrder() {
+        List<Long> savedIds = saveUsers().stream().map(User::getId).toList();
+
+        List<Long> pagedIds = new ArrayList<>();
+        Long afterId = null;
+        List<User> page;
+        do {
+            page = shardedUserRepository.findPageAfter(afterId, 7).collectList().block();
+            assertThat(page).hasSizeLessThanOrEqualTo(7);
+            page.forEach(user -> pagedIds.add(user.getId()));
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (!page.isEmpty());
+
+        assertThat(pagedIds).isSorted().doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(savedIds);
+    }
+
+    @Test
+    void shouldStreamEveryShardInIdentifierOrderAfterTheGivenIdentifier() {
+        List<Long> savedIds = saveUsers().stream().map(User::getId).sorted().toList();
+        Long afterId = savedIds.get(10);
+
+        StepVerifier.create(shardedUserRepository.streamAfter(afterId).map(User::getId).collectList())
+                .expectNext(savedIds.subList(11, savedIds.size()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSaveBatchesAcrossShardsInInputOrder() {
+        List<User> users = IntStream.range(0, USERS).mapToObj(i -> newUser("batch" + i + "@email.com")).toList();
+
+        StepVerifier.create(shardedUserRepository.saveAll(users).map(User::getEmail).collectList())
+                .expectNext(users.stream().map(User::getEmail).toList())
+                .verifyComplete();
+        assertThat(rowsPerShard().stream().mapToLong(Long::longValue).sum()).isEqualTo(USERS);
+    }
+
+    @Test
+    void shouldAppendTheEventOfEachUserToTheOutboxOfItsShard() {
+        List<User> savedUsers = saveUsers();
+        saveBatch();
+
+        List<List<Long>> eventUserIdsPerShard = eventUserIdsPerShard();
+        for (int shard = 0; shard < eventUserIdsPerShard.size(); shard++) {
+            int expectedShard = shard;
+            assertThat(eventUserIdsPerShard.get(shard)).allSatisfy(userId ->
+                    assertThat(shardedUserRepository.shardOf(userId)).isEqualTo(expectedShard));
+        }
+        List<Long> eventUserIds = eventUserIdsPerShard.stream().flatMap(List::stream).toList();
+        assertThat(eventUserIds).hasSize(2 * USERS).doesNotHaveDuplicates()
+                .containsAll(savedUsers.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void shouldRollBackEveryShardWhenABatchHitsAnEmailAlreadyStored() {
+        shardedUserRepository.save(newUser("taken@email.com")).block();
+        List<User> users = new ArrayList<>(IntStream.range(0, USERS).mapToObj(i -> newUser("batch" + i + "@email.com")).toList());
+        users.add(USERS / 2, newUser("Taken@Email.com"));
+
+        StepVerifier.create(shardedUserRepository.saveAll(users))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+
+        assertThat(rowsPerShard().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+        assertThat(eventUserIdsPerShard().stream().mapToLong(List::size).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRegisterTheRestOfACrossShardBatchThatHitsAConcurrentRegistration() {
+        shardedUserRepository.save(newUser("taken@email.com")).block();
+        ShardedUserRepository racingRepository = spy(shardedUserRepository);
+        // The existence check misses the stored email, as if it had been registered right after the check
+        doReturn(Flux.empty()).when(racingRepository).findExistingEmails(any());
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.hash(any())).thenReturn(Mono.just("hashed"));
+        RegisterUserUseCase useCase = new RegisterUserUseCase(racingRepository, passwordHasher, events -> Mono.empty(),
+                transactionalOperator,
+                new RegistrationProperties(RegistrationMode.CHECK_THEN_INSERT, new RegistrationProperties.Coalescing(false, 16, 10_000)),
+                new SimpleMeterRegistry());
+        List<RegisterUserCommand> commands = new ArrayList<>(IntStream.range(0, USERS).mapToObj(i -> newCommand("batch" + i + "@email.com")).toList());
+        commands.add(USERS / 2, newCommand("Taken@Email.com"));
+
+        List<RegistrationResult> results = useCase.registerUsers(commands).collectList().block();
+
+        assertThat(results.get(USERS / 2).status()).isEqualTo(RegistrationResult.Status.CONFLICT);
+        List<RegistrationResult> created = results.stream().filter(result -> result.status() == RegistrationResult.Status.CREATED).toList();
+        assertThat(created).hasSize(USERS);
+        Set<Long> eventUserIds = eventUserIdsPerShard().stream().flatMap(List::stream).collect(Collectors.toSet());
+        assertThat(eventUserIds).hasSize(USERS + 1)
+                .containsAll(created.stream().map(result -> result.user().getId()).toList());
+    }
+
+    @Test
+    void shouldNotOpenAPrimaryDatabaseTransactionAroundTheShards() {
+        StepVerifier.create(transactionalOperator.transactional(TransactionSynchronizationManager.forCurrentTransaction()))
+                .expectError(NoTransactionException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldRejectAnEmailAlreadyStoredInItsShard() {
+        saveUsers();
+
+        StepVerifier.create(shardedUserRepository.save(newUser("User3@Email.com")))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+    }
+
+    private List<User> saveUsers() {
+        return Flux.range(0, USERS)
+                .concatMap(i -> shardedUserRepository.save(newUser("user" + i + "@email.com")))
+                .collectList()
+                .block();
+    }
+
+    private void saveBatch() {
+        shardedUserRepository.saveAll(IntStream.range(0, USERS).mapToObj(i -> newUser("batch" + i + "@email.com")).toList())
+                .blockLast();
+    }
+
+    private List<List<Long>> eventUserIdsPerShard() {
+        return Flux.fromIterable(shardConnectionPools.connectionFactories())
+                .concatMap(connectionFactory -> DatabaseClient.create(connectionFactory)
+                        .sql("SELECT id_agregado FROM outbox_evento ORDER BY id_evento")
+                        .map(row -> row.get(0, Long.class))
+                        .all()
+                        .collectList())
+                .collectList()
+                .block();
+    }
+
+    private List<Long> rowsPerShard() {
+        return Flux.fromIterable(shardConnectionPools.connectionFactories())
+                .concatMap(connectionFactory -> DatabaseClient.create(connectionFactory)
+                        .sql("SELECT COUNT(*) FROM usuario")
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .collectList()
+                .block();
+    }
+
+    private static RegisterUserCommand newCommand(String email) {
+        return new RegisterUserCommand("Larry", "Ramirez", email, "123456789", "3001234567", LocalDate.of(1995, 11, 11),
+                "456 Oak Ave", "APPLICANT", new BigDecimal("5000000"), "S3cure-password");
+    }
+
+    private static User newUser(String email) {
+        return User.newUser("Larry", "Ramirez", email, "123456789", "3001234567", LocalDate.of(1995, 11, 11),
+                "456 Oak Ave", "APPLICANT", new BigDecimal("5000000"));
+    }
+}
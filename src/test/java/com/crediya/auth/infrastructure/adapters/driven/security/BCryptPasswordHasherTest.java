@@ -0,0 +1,70 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Unit tests for the BCryptPasswordHasher.
+ */
+class BCryptPasswordHasherTest {
+
+    private Scheduler scheduler;
+    private BCryptPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newBoundedElastic(2, 10, "password-hashing-test");
+        hasher = new BCryptPasswordHasher(4, scheduler, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void shouldHashOnTheDedicatedScheduler() {
+
+        String callerThread = Thread.currentThread().getName();
+
+        StepVerifier.create(hasher.hash("S3cure-password")
+                        .map(hash -> Tuples.of(hash, Thread.currentThread().getName())))
+                .assertNext(result -> {
+                    assertTrue(result.getT1().startsWith("$2a$04$"));
+                    assertTrue(result.getT2().startsWith("password-hashing-test"));
+                    assertNotEquals(callerThread, result.getT2());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldMatchOnlyTheOriginalPassword() {
+
+        String hash = hasher.hash("S3cure-password").block();
+
+        StepVerifier.create(hasher.matches("S3cure-password", hash))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(hasher.matches("wrong-password", hash))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectUsersWithoutAPassword() {
+
+        StepVerifier.create(hasher.matches("S3cure-password", null))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
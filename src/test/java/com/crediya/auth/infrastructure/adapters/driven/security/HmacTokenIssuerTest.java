@@ -0,0 +1,68 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+/**
+ * Unit tests for the HmacTokenIssuer.
+ */
+class HmacTokenIssuerTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldIssueAnHs256TokenWithTheUserClaims() throws Exception {
+
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        HmacTokenIssuer issuer = new HmacTokenIssuer("crediya-auth", Duration.ofHours(1),
+                new SigningKeyRing("key-1", SECRET, Duration.ofHours(1), clock), objectMapper, clock);
+        User user = new User(7L, "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), "stored-hash");
+
+        AccessToken token = issuer.issue(user);
+
+        String[] parts = token.value().split("\\.");
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+        JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        byte[] expectedSignature = mac.doFinal((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(3, parts.length);
+        assertEquals("HS256", header.get("alg").asText());
+        assertEquals("key-1", header.get("kid").asText());
+        assertEquals("7", claims.get("sub").asText());
+        assertEquals("larry.ramirez11@outlook.com", claims.get("email").asText());
+        assertEquals(NOW.plus(Duration.ofHours(1)).getEpochSecond(), claims.get("exp").asLong());
+        assertEquals(NOW.plus(Duration.ofHours(1)), token.expiresAt());
+        assertArrayEquals(expectedSignature, Base64.getUrlDecoder().decode(parts[2]));
+    }
+
+    @Test
+    void shouldRejectShortSigningKeys() {
+
+        assertThrows(IllegalArgumentException.class, () -> new SigningKeyRing("key-1", new byte[16], Duration.ofHours(1), Clock.systemUTC()));
+    }
+}
@@ -0,0 +1,162 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.domain.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Unit tests for the HmacTokenVerifier and the key rotation of the SigningKeyRing.
+ */
+class HmacTokenVerifierTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OTHER_SECRET = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII);
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"));
+    private final SigningKeyRing keyRing = new SigningKeyRing("key-1", SECRET, TIME_TO_LIVE, clock);
+    private final HmacTokenIssuer issuer = new HmacTokenIssuer("crediya-auth", TIME_TO_LIVE, keyRing, objectMapper, clock);
+    private final HmacTokenVerifier verifier = new HmacTokenVerifier("crediya-auth", keyRing, objectMapper, clock);
+    private final User user = new User(7L, "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+            LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), "stored-hash");
+
+    @Test
+    void shouldReturnTheClaimsOfAnIssuedToken() {
+
+        AccessToken token = issuer.issue(user);
+
+        TokenClaims claims = verifier.verify(token.value());
+
+        assertEquals(7L, claims.userId());
+        assertEquals("larry.ramirez11@outlook.com", claims.email());
+        assertEquals("APPLICANT", claims.role());
+        assertEquals(token.expiresAt(), claims.expiresAt());
+    }
+
+    @Test
+    void shouldRejectTamperedClaims() {
+
+        String[] parts = issuer.issue(user).value().split("\\.");
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"iss\":\"crediya-auth\",\"sub\":\"1\",\"exp\":4102444800}".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(parts[0] + "." + forgedClaims + "." + parts[2]));
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("not-a-token"));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("a.b.c.d"));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("%%%.e30.e30"));
+    }
+
+    @Test
+    void shouldRejectExpiredTokens() {
+
+        AccessToken token = issuer.issue(user);
+        clock.advance(TIME_TO_LIVE);
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token.value()));
+    }
+
+    @Test
+    void shouldKeepVerifyingTokensSignedWithARetiredKeyUntilTheyExpire() {
+
+        AccessToken oldToken = issuer.issue(user);
+        keyRing.update("key-2", Map.of("key-2", OTHER_SECRET));
+        AccessToken newToken = issuer.issue(user);
+
+        assertEquals("key-2", keyRing.current().id());
+        assertNotEquals(oldToken.value().split("\\.")[0], newToken.value().split("\\.")[0]);
+        assertEquals(7L, verifier.verify(oldToken.value()).userId());
+        assertEquals(7L, verifier.verify(newToken.value()).userId());
+    }
+
+    @Test
+    void shouldDropRetiredKeysOnceTheirTokensHaveExpired() {
+
+        String[] removed = new String[1];
+        keyRing.onKeyRemoved(keyId -> removed[0] = keyId);
+        keyRing.update("key-2", Map.of("key-2", OTHER_SECRET));
+
+        clock.advance(TIME_TO_LIVE.plusSeconds(1));
+        keyRing.dropExpiredKeys();
+
+        assertEquals("key-1", removed[0]);
+        assertTrue(keyRing.find("key-1").isEmpty());
+        assertTrue(keyRing.find(keyRing.current().id()).isPresent());
+    }
+
+    @Test
+    void shouldSignWithTheNewCurrentKeyOnceAllInstancesKnowIt() {
+
+        keyRing.update("key-1", Map.of("key-1", SECRET, "key-2", OTHER_SECRET));
+        AccessToken stillOldKey = issuer.issue(user);
+        SigningKeyRing otherInstance = new SigningKeyRing("key-1", Map.of("key-1", SECRET, "key-2", OTHER_SECRET), TIME_TO_LIVE, clock);
+        otherInstance.update("key-2", Map.of("key-1", SECRET, "key-2", OTHER_SECRET));
+        AccessToken newKey = new HmacTokenIssuer("crediya-auth", TIME_TO_LIVE, otherInstance, objectMapper, clock).issue(user);
+
+        assertEquals("key-1", keyRing.current().id());
+        assertEquals(7L, verifier.verify(stillOldKey.value()).userId());
+        assertEquals(7L, verifier.verify(newKey.value()).userId());
+    }
+
+    @Test
+    void shouldRejectAnUpdateThatChangesTheSecretOfAKnownKey() {
+
+        assertThrows(IllegalArgumentException.class, () -> keyRing.update("key-1", Map.of("key-1", OTHER_SECRET)));
+        assertThrows(IllegalArgumentException.class, () -> keyRing.update("key-3", Map.of("key-2", OTHER_SECRET)));
+        assertEquals("key-1", keyRing.current().id());
+        assertTrue(keyRing.find("key-2").isEmpty());
+    }
+
+    static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
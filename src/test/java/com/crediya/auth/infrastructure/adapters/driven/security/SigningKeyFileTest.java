@@ -0,0 +1,47 @@
+package com.crediya.auth.infrastructure.adapters.driven.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the SigningKeyFile.
+ */
+class SigningKeyFileTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReadTheCurrentKeyAndEverySecret() throws IOException {
+
+        Path file = Files.writeString(directory.resolve("keys.properties"), "current=2030-01\n"
+                + "2029-12=" + Base64.getEncoder().encodeToString(SECRET) + "\n"
+                + "2030-01 = " + Base64.getEncoder().encodeToString(SECRET) + "  \n");
+
+        SigningKeyFile.Keys keys = SigningKeyFile.read(file);
+
+        assertEquals("2030-01", keys.currentKeyId());
+        assertEquals(2, keys.secrets().size());
+        assertArrayEquals(SECRET, keys.secrets().get("2030-01"));
+    }
+
+    @Test
+    void shouldRejectAFileWithoutACurrentKey() throws IOException {
+
+        Path file = Files.writeString(directory.resolve("keys.properties"), "2030-01=" + Base64.getEncoder().encodeToString(SECRET) + "\n");
+
+        assertThrows(IllegalArgumentException.class, () -> SigningKeyFile.read(file));
+    }
+}
@@ -0,0 +1,82 @@
+package com.crediya.auth.infrastructure.adapters.driven.security.cache;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.domain.ports.out.TokenVerifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the CachingTokenVerifier.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingTokenVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Mock
+    private TokenVerifier delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingTokenVerifier cachingTokenVerifier;
+    private final TokenClaims claims = new TokenClaims(7L, "larry.ramirez11@outlook.com", "APPLICANT",
+            NOW, NOW.plusSeconds(3600));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingTokenVerifier = new CachingTokenVerifier(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyEachTokenOnlyOnce() {
+
+        when(delegate.verify("token")).thenReturn(claims);
+
+        assertEquals(claims, cachingTokenVerifier.verify("token"));
+        assertEquals(claims, cachingTokenVerifier.verify("token"));
+
+        verify(delegate, times(1)).verify("token");
+        assertEquals(1, meterRegistry.get("token.verification").tag("cache", "hit").timer().count());
+        assertEquals(1, meterRegistry.get("token.verification").tag("cache", "miss").tag("result", "valid").timer().count());
+    }
+
+    @Test
+    void shouldNotCacheInvalidTokens() {
+
+        when(delegate.verify("forged")).thenThrow(new InvalidTokenException("Invalid access token signature."));
+
+        assertThrows(InvalidTokenException.class, () -> cachingTokenVerifier.verify("forged"));
+        assertThrows(InvalidTokenException.class, () -> cachingTokenVerifier.verify("forged"));
+
+        verify(delegate, times(2)).verify("forged");
+        assertEquals(2, meterRegistry.get("token.verification").tag("result", "invalid").timer().count());
+    }
+
+    @Test
+    void shouldVerifyAgainAfterInvalidation() {
+
+        when(delegate.verify("token")).thenReturn(claims);
+
+        cachingTokenVerifier.verify("token");
+        cachingTokenVerifier.invalidateAll();
+        cachingTokenVerifier.verify("token");
+
+        verify(delegate, times(2)).verify("token");
+    }
+}
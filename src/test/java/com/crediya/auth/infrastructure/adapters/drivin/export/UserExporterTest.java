@@ -0,0 +1,178 @@
+package com.crediya.auth.infrastructure.adapters.drivin.export;
+
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.domain.ports.out.UserPageReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the UserExporter, exporting users served in keyset pages by a mocked reader.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserExporterTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private UserPageReader userPageReader;
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private UserExporter userExporter;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userExporter = new UserExporter(userPageReader, new UserExportProperties(directory, PAGE_SIZE, ExportFormat.CSV, false, 6), meterRegistry);
+        users = IntStream.rangeClosed(1, 5).mapToObj(i -> newUser(i, "Larry", "456 Oak Ave")).toList();
+    }
+
+    @Test
+    void shouldExportEveryPageToCsv() throws IOException {
+        users = List.of(newUser(1, "Larry", "456 Oak Ave"), newUser(2, "Juan \"JP\"", "Calle 123, apto 4\nBogotá"), newUser(3, "Ana", "Calle 1"));
+        servePages();
+
+        UserExportResult result = userExporter.export(null, null).block();
+
+        assertThat(result.file()).startsWith("usuarios-").endsWith(".csv");
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(Files.readString(directory.resolve(result.file()))).isEqualTo(
+                "id,firstName,lastName,email,identityNumber,phoneNumber,birthDate,address,idRole,baseSalary\n"
+                        + "1,Larry,Ramirez,user1@email.com,123456789,3001234567,1995-11-11,456 Oak Ave,APPLICANT,5000000\n"
+                        + "2,\"Juan \"\"JP\"\"\",Ramirez,user2@email.com,123456789,3001234567,1995-11-11,\"Calle 123, apto 4\nBogotá\",APPLICANT,5000000\n"
+                        + "3,Ana,Ramirez,user3@email.com,123456789,3001234567,1995-11-11,Calle 1,APPLICANT,5000000\n");
+        assertThat(result.bytes()).isEqualTo(Files.size(directory.resolve(result.file())));
+        verify(userPageReader, times(2)).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void shouldWriteTextThatLooksLikeAFormulaAsText() throws IOException {
+        users = List.of(newUser(1, "=HYPERLINK(\"http://evil\",\"x\")", "@SUM(A1)"), newUser(2, "+57", "-1"), newUser(3, "\tTab", "a=b"));
+        servePages();
+
+        UserExportResult result = userExporter.export(ExportFormat.CSV, false).block();
+
+        assertThat(Files.readString(directory.resolve(result.file()))).isEqualTo(
+                "id,firstName,lastName,email,identityNumber,phoneNumber,birthDate,address,idRole,baseSalary\n"
+                        + "1,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",Ramirez,user1@email.com,123456789,3001234567,1995-11-11,\"'@SUM(A1)\",APPLICANT,5000000\n"
+                        + "2,\"'+57\",Ramirez,user2@email.com,123456789,3001234567,1995-11-11,\"'-1\",APPLICANT,5000000\n"
+                        + "3,\"'\tTab\",Ramirez,user3@email.com,123456789,3001234567,1995-11-11,a=b,APPLICANT,5000000\n");
+    }
+
+    @Test
+    void shouldExportToNdjsonInIdentifierOrder() throws IOException {
+        servePages();
+
+        UserExportResult result = userExporter.export(ExportFormat.NDJSON, false).block();
+
+        List<String> lines = Files.readAllLines(directory.resolve(result.file()));
+        assertThat(lines).hasSize(5);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("email").asText()).isEqualTo("user1@email.com");
+        assertThat(first.get("birthDate").asText()).isEqualTo("1995-11-11");
+        assertThat(first.get("baseSalary").decimalValue()).isEqualByComparingTo("5000000");
+        assertThat(first.has("passwordHash")).isFalse();
+        assertThat(lines.stream().map(this::idOf).toList()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(meterRegistry.get("user.export.rows").tag("format", "ndjson").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCompressTheFileWhenGzipIsRequested() throws IOException {
+        servePages();
+        UserExportResult plain = userExporter.export(ExportFormat.CSV, false).block();
+        Files.move(directory.resolve(plain.file()), directory.resolve("plain.csv"));
+
+        UserExportResult compressed = userExporter.export(ExportFormat.CSV, true).block();
+
+        assertThat(compressed.file()).endsWith(".csv.gz");
+        assertThat(compressed.bytes()).isEqualTo(Files.size(directory.resolve(compressed.file())));
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(directory.resolve(compressed.file())))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(Files.readString(directory.resolve("plain.csv")));
+        }
+    }
+
+    @Test
+    void shouldWriteConcurrentExportsToSeparateFiles() throws IOException {
+        servePages();
+
+        List<UserExportResult> results = Flux.range(0, 4)
+                .flatMap(i -> userExporter.export(ExportFormat.CSV, false).subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertThat(results.stream().map(UserExportResult::file).distinct()).hasSize(4);
+        for (UserExportResult result : results) {
+            assertThat(result.file()).matches("usuarios-\\d{8}-\\d{6}-[0-9a-f]{8}\\.csv");
+            assertThat(Files.readAllLines(directory.resolve(result.file()))).hasSize(6);
+        }
+    }
+
+    @Test
+    void shouldWriteOnlyTheHeaderWhenThereAreNoUsers() throws IOException {
+        users = List.of();
+        servePages();
+
+        UserExportResult result = userExporter.export(ExportFormat.CSV, false).block();
+
+        assertThat(result.rows()).isZero();
+        assertThat(Files.readAllLines(directory.resolve(result.file()))).hasSize(1);
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString())).noneMatch(name -> name.endsWith(".part"));
+        }
+    }
+
+    private void servePages() {
+        when(userPageReader.findPageAfter(any(), anyInt())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return Flux.fromIterable(users)
+                    .filter(user -> afterId == null || user.getId() > afterId)
+                    .take(limit);
+        });
+    }
+
+    private long idOf(String line) {
+        try {
+            return objectMapper.readTree(line).get("id").asLong();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static User newUser(long id, String firstName, String address) {
+        return User.newUser(firstName, "Ramirez", "user" + id + "@email.com", "123456789", "3001234567", LocalDate.of(1995, 11, 11),
+                address, "APPLICANT", new BigDecimal("5000000")).withId(id);
+    }
+}
@@ -0,0 +1,220 @@
+package com.crediya.auth.infrastructure.adapters.drivin.imports;
+
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import com.crediya.auth.domain.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the UserImportJob, importing files of a temporary directory through an in-memory registration port.
+ */
+class UserImportJobTest {
+
+    private static final String HEADER = "firstName,lastName,email,birthDate,address,idRole,baseSalary,password";
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @TempDir
+    private Path directory;
+
+    private InMemoryRegistration registration;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        registration = new InMemoryRegistration();
+        userImportService = new UserImportService(new UserImportProperties(directory, null, 2, 2, 4, Duration.ofMinutes(1)),
+                registration, VALIDATOR, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRegisterValidRowsAndRejectTheOthers() throws IOException {
+        Path file = write("users.csv", "\uFEFF" + HEADER + "\r\n"
+                + row(1) + "\r\n"
+                + "Juan,Pérez,juan.perez@email.com,1990-01-15,\"Calle 123, apto 4\nBogotá\",ROLE_USER,2500000,S3cure-password\r\n"
+                + "\r\n"
+                + "Ana,Gómez,not-an-email,1990-01-15,Calle 1,ROLE_USER,2500000,S3cure-password\r\n"
+                + "Ana,Gómez,ana.gomez@email.com,15/01/1990,Calle 1,ROLE_USER,2500000,S3cure-password\r\n"
+                + row(1) + "\r\n");
+
+        UserImportStatus status = userImportService.run(file).block();
+
+        assertThat(status.state()).isEqualTo(UserImportStatus.State.COMPLETED);
+        assertThat(status.rows()).isEqualTo(5);
+        assertThat(status.created()).isEqualTo(2);
+        assertThat(status.rejected()).isEqualTo(3);
+        assertThat(status.offset()).isEqualTo(Files.size(file));
+        assertThat(registration.addressOf("juan.perez@email.com")).isEqualTo("Calle 123, apto 4\nBogotá");
+        assertThat(Files.readString(directory.resolve("users.csv.rejects.csv"))).isEqualTo("\uFEFF" + HEADER + ",error\n"
+                + "Ana,Gómez,not-an-email,1990-01-15,Calle 1,ROLE_USER,2500000,,'email': Email should be valid\n"
+                + "Ana,Gómez,ana.gomez@email.com,15/01/1990,Calle 1,ROLE_USER,2500000,,'birthDate': must be a date in the format yyyy-MM-dd\n"
+                + redacted(1) + ",Email user1@email.com is already registered.\n");
+    }
+
+    @Test
+    void shouldResumeFromTheLastCheckpointAfterACrash() throws IOException {
+        Path file = write("users.csv", HEADER + "\n" + IntStream.rangeClosed(1, 10).mapToObj(UserImportJobTest::row)
+                .collect(Collectors.joining("\n")) + "\n");
+        registration.failOnCall(4);
+
+        UserImportStatus failed = userImportService.run(file).block();
+
+        assertThat(failed.state()).isEqualTo(UserImportStatus.State.FAILED);
+        assertThat(failed.error()).isEqualTo("Database unavailable");
+        assertThat(registration.registeredEmails()).hasSize(6);
+
+        registration.failOnCall(0);
+        UserImportStatus resumed = userImportService.run(file).block();
+
+        assertThat(resumed.state()).isEqualTo(UserImportStatus.State.COMPLETED);
+        assertThat(resumed.rows()).isEqualTo(10);
+        assertThat(resumed.created()).isEqualTo(8);
+        assertThat(resumed.rejected()).isEqualTo(2);
+        assertThat(registration.registeredEmails()).doesNotHaveDuplicates()
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 10).mapToObj(i -> "user" + i + "@email.com").toList());
+        assertThat(Files.readAllLines(directory.resolve("users.csv.rejects.csv"))).containsExactly(HEADER + ",error",
+                redacted(5) + ",Email user5@email.com is already registered.",
+                redacted(6) + ",Email user6@email.com is already registered.");
+    }
+
+    @Test
+    void shouldNeverWriteThePasswordToTheRejectsFile() throws IOException {
+        Path file = write("users.csv", HEADER + "\n"
+                + "Ana,Gómez,not-an-email,1990-01-15,Calle 1,APPLICANT,2500000,\"S3cret, \"\"quoted\"\"\"\n"
+                + "Ana,Gómez,ana.gomez@email.com,1990-01-15,Calle 1,APPLICANT,-1,S3cret-password-1\n"
+                + "Ana,Gómez,ana.gomez@email.com,1990-01-15,\"Calle 1,APPLICANT,2500000,S3cret-password-2\n");
+
+        UserImportStatus status = userImportService.run(file).block();
+
+        assertThat(status.rejected()).isEqualTo(3);
+        assertThat(Files.readString(directory.resolve("users.csv.rejects.csv")))
+                .doesNotContain("S3cret")
+                .contains("Ana,Gómez,not-an-email,1990-01-15,Calle 1,APPLICANT,2500000,,")
+                .contains("Ana,Gómez,ana.gomez@email.com,1990-01-15,Calle 1,APPLICANT,-1,,");
+    }
+
+    @Test
+    void shouldNotImportACompletedFileAgain() throws IOException {
+        Path file = write("users.csv", HEADER + "\n" + row(1) + "\n");
+        userImportService.run(file).block();
+
+        UserImportStatus status = userImportService.run(file).block();
+
+        assertThat(status.state()).isEqualTo(UserImportStatus.State.COMPLETED);
+        assertThat(status.created()).isEqualTo(1);
+        assertThat(registration.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenTheHeaderHasNoEmailColumn() throws IOException {
+        Path file = write("users.csv", "firstName,lastName\nJuan,Pérez\n");
+
+        UserImportStatus status = userImportService.run(file).block();
+
+        assertThat(status.state()).isEqualTo(UserImportStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("The CSV header has no 'email' column.");
+    }
+
+    @Test
+    void shouldOnlyStartImportsOfFilesInsideTheImportDirectory() throws IOException {
+        write("users.csv", HEADER + "\n" + row(1) + "\n");
+
+        assertThat(userImportService.start("users.csv").file()).isEqualTo("users.csv");
+        assertThatThrownBy(() -> userImportService.start("../users.csv")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userImportService.start("missing.csv")).isInstanceOf(ImportFileNotFoundException.class);
+    }
+
+    @Test
+    void shouldSplitQuotedFields() {
+        assertThat(UserCsvParser.split("a,\"b,\"\"c\"\"\",,d")).containsExactly("a", "b,\"c\"", "", "d");
+        assertThat(UserCsvParser.quote("plain")).isEqualTo("plain");
+        assertThat(UserCsvParser.quote("with, \"quotes\"")).isEqualTo("\"with, \"\"quotes\"\"\"");
+        assertThatThrownBy(() -> UserCsvParser.split("a,\"b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static String row(int i) {
+        return redacted(i) + "S3cure-password";
+    }
+
+    private static String redacted(int i) {
+        return "Larry,Ramirez,user" + i + "@email.com,1995-11-11,456 Oak Ave,APPLICANT,5000000,";
+    }
+
+    /**
+     * Registers users in memory, rejecting repeated emails, and fails a chosen call as a crashed database would.
+     */
+    private static class InMemoryRegistration implements RegisterUserPort {
+
+        private final List<RegisterUserCommand> registered = new ArrayList<>();
+        private final Set<String> emails = new HashSet<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int failingCall;
+
+        void failOnCall(int call) {
+            calls.set(0);
+            failingCall = call;
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        synchronized List<String> registeredEmails() {
+            return registered.stream().map(RegisterUserCommand::email).toList();
+        }
+
+        synchronized String addressOf(String email) {
+            return registered.stream().filter(command -> command.email().equals(email)).findFirst().orElseThrow().address();
+        }
+
+        @Override
+        public Mono<User> registerUser(RegisterUserCommand command) {
+            return Mono.error(new UnsupportedOperationException());
+        }
+
+        @Override
+        public Flux<RegistrationResult> registerUsers(List<RegisterUserCommand> commands) {
+            if (calls.incrementAndGet() == failingCall) {
+                return Flux.error(new IllegalStateException("Database unavailable"));
+            }
+            return Flux.fromIterable(commands).map(this::register);
+        }
+
+        private synchronized RegistrationResult register(RegisterUserCommand command) {
+            if (!emails.add(command.email())) {
+                return RegistrationResult.conflict(command.email());
+            }
+            registered.add(command);
+            return RegistrationResult.created(command.toDomainUser());
+        }
+    }
+}
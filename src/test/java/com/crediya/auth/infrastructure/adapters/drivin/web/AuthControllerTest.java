@@ -0,0 +1,128 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.exceptions.InvalidCredentialsException;
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.application.ports.in.LoginCommand;
+import com.crediya.auth.application.ports.in.LoginPort;
+import com.crediya.auth.domain.model.AccessToken;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.LoginRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the AuthController.
+ *
+ * It uses @WebFluxTest to test the web layer in isolation, mocking the use case port.
+ */
+@WebFluxTest(AuthController.class)
+@Import(SimpleMeterRegistry.class)
+class AuthControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private LoginPort loginPort;
+
+    @MockBean
+    private IntrospectTokenPort introspectTokenPort;
+
+    @Test
+    void shouldReturnTokenWhenCredentialsAreValid() {
+
+        when(loginPort.login(new LoginCommand("larry.ramirez11@outlook.com", "S3cure-password")))
+                .thenReturn(Mono.just(new AccessToken("signed-token", Instant.parse("2030-01-01T00:00:00Z"))));
+
+        webTestClient.post().uri("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("larry.ramirez11@outlook.com", "S3cure-password"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.accessToken").isEqualTo("signed-token")
+                .jsonPath("$.tokenType").isEqualTo("Bearer");
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenCredentialsAreInvalid() {
+
+        when(loginPort.login(any())).thenReturn(Mono.error(new InvalidCredentialsException("Invalid email or password.")));
+
+        webTestClient.post().uri("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("larry.ramirez11@outlook.com", "wrong-password"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(401)
+                .jsonPath("$.message").isEqualTo("Invalid email or password.");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenPasswordIsMissing() {
+
+        webTestClient.post().uri("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("larry.ramirez11@outlook.com", null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("'password': Password cannot be blank");
+    }
+
+    @Test
+    void shouldReturnTheClaimsOfAnActiveToken() {
+
+        when(introspectTokenPort.introspect("signed-token")).thenReturn(Mono.just(new TokenClaims(7L,
+                "larry.ramirez11@outlook.com", "APPLICANT", Instant.parse("2030-01-01T00:00:00Z"), Instant.parse("2030-01-01T01:00:00Z"))));
+
+        webTestClient.get().uri("/api/v1/auth/introspect")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer signed-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.active").isEqualTo(true)
+                .jsonPath("$.userId").isEqualTo(7)
+                .jsonPath("$.email").isEqualTo("larry.ramirez11@outlook.com");
+    }
+
+    @Test
+    void shouldReportInvalidTokensAsInactive() {
+
+        when(introspectTokenPort.introspect("forged-token")).thenReturn(Mono.error(new InvalidTokenException("Invalid access token signature.")));
+
+        webTestClient.get().uri("/api/v1/auth/introspect")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer forged-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.active").isEqualTo(false)
+                .jsonPath("$.email").doesNotExist();
+    }
+
+    @Test
+    void shouldReportMissingTokensAsInactive() {
+
+        webTestClient.get().uri("/api/v1/auth/introspect")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.active").isEqualTo(false);
+    }
+}
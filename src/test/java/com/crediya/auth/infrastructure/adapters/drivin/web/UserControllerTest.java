@@ -1,23 +1,42 @@
 package com.crediya.auth.infrastructure.adapters.drivin.web;
 
 import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.application.ports.in.RegisterUserCommand;
 import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.UserPage;
+import com.crediya.auth.application.ports.in.RegistrationResult;
 import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserBatchRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserPageResponse;
 import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
 import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -27,14 +46,24 @@ import static org.mockito.Mockito.when;
  * It uses @WebFluxTest to test the web layer in isolation, mocking the use case port.
  */
 @WebFluxTest(UserController.class)
+@Import(SimpleMeterRegistry.class)
 class UserControllerTest {
 
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private RegisterUserPort registerUserPort;
 
+    @MockBean
+    private FindUserPort findUserPort;
+
+    @MockBean
+    private IntrospectTokenPort introspectTokenPort;
+
     @Test
     void shouldReturnCreatedWhenUserIsRegisteredSuccessfully() {
 
@@ -45,6 +74,7 @@ class UserControllerTest {
                 .baseSalary(new BigDecimal("5000000"))
                 .birthDate(LocalDate.of(1995, 11, 11))
                 .address("123 Main St")
+                .password("S3cure-password")
                 .build();
 
         User registeredUser = User.newUser(
@@ -55,7 +85,7 @@ class UserControllerTest {
                 request.getPhoneNumber(),
                 request.getBirthDate(),
                 request.getAddress(),
-                request.getIdRole(),
+                UserRegistrationRequest.SELF_REGISTERED_ROLE,
                 request.getBaseSalary()
         );
 
@@ -73,6 +103,122 @@ class UserControllerTest {
                 });
     }
 
+    @Test
+    void shouldIgnoreAClientChosenRole() {
+        String json = """
+                {"firstName":"Larry","lastName":"Ramirez","email":"larry.ramirez11@outlook.com","baseSalary":5000000,
+                 "birthDate":"1995-11-11","address":"123 Main St","idRole":"ADMIN","password":"S3cure-password"}
+                """;
+        when(registerUserPort.registerUser(any())).thenAnswer(invocation ->
+                Mono.just(invocation.<RegisterUserCommand>getArgument(0).toDomainUser()));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(json)
+                .exchange()
+                .expectStatus().isCreated();
+
+        verify(registerUserPort).registerUser(argThat(command -> UserRegistrationRequest.SELF_REGISTERED_ROLE.equals(command.idRole())));
+    }
+
+    @Test
+    void shouldReplayTheResponseForARetryWithTheSameIdempotencyKey() {
+
+        UserRegistrationRequest request = registrationRequest("idempotent.created@outlook.com");
+        when(registerUserPort.registerUser(any())).thenReturn(Mono.just(User.newUser(request.getFirstName(), request.getLastName(),
+                request.getEmail(), null, null, request.getBirthDate(), request.getAddress(), null, request.getBaseSalary())));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            webTestClient.post().uri("/api/v1/users")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Idempotency-Key", "created-key")
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectBody()
+                    .jsonPath("$.email").isEqualTo("idempotent.created@outlook.com");
+        }
+
+        verify(registerUserPort, times(1)).registerUser(any());
+    }
+
+    @Test
+    void shouldReplayAConflictForARetryWithTheSameIdempotencyKey() {
+
+        UserRegistrationRequest request = registrationRequest("idempotent.conflict@outlook.com");
+        when(registerUserPort.registerUser(any()))
+                .thenReturn(Mono.error(new EmailAlreadyExistsException("Email idempotent.conflict@outlook.com is already registered.")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "conflict-key")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().doesNotExist("Idempotent-Replayed");
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "conflict-key")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409)
+                .jsonPath("$.message").isEqualTo("Email idempotent.conflict@outlook.com is already registered.");
+
+        verify(registerUserPort, times(1)).registerUser(any());
+    }
+
+    @Test
+    void shouldRejectAnIdempotencyKeyReusedForAnotherRequest() {
+
+        when(registerUserPort.registerUser(any())).thenReturn(Mono.error(new EmailAlreadyExistsException("Email is already registered.")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "reused-key")
+                .bodyValue(registrationRequest("first.request@outlook.com"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "reused-key")
+                .bodyValue(registrationRequest("second.request@outlook.com"))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Idempotency-Key reused-key was already used for a different request.");
+    }
+
+    @Test
+    void shouldRejectAnIdempotencyKeyReusedForARequestWithTheSameHashCode() {
+
+        UserRegistrationRequest first = registrationRequest("same.hash@outlook.com");
+        first.setFirstName("Aa");
+        UserRegistrationRequest second = registrationRequest("same.hash@outlook.com");
+        second.setFirstName("BB");
+        when(registerUserPort.registerUser(any())).thenReturn(Mono.just(first.toCommand().toDomainUser()));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "colliding-key")
+                .bodyValue(first)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "colliding-key")
+                .bodyValue(second)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectHeader().doesNotExist("Idempotent-Replayed");
+        assertThat(second.hashCode()).isEqualTo(first.hashCode());
+    }
+
     @Test
     void shouldReturnBadRequestWhenRequestIsInvalid() {
 
@@ -83,6 +229,7 @@ class UserControllerTest {
                 .address("")
                 .baseSalary(new BigDecimal("-100"))
                 .build();
+        double failuresBefore = validationFailures();
 
         webTestClient.post().uri("/api/v1/users")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -92,6 +239,29 @@ class UserControllerTest {
                 .expectBody()
                 .jsonPath("$.status").isEqualTo(400)
                 .jsonPath("$.message").isNotEmpty();
+
+        assertThat(validationFailures()).isEqualTo(failuresBefore + 1);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenThePasswordIsLongerThan72BytesInUtf8() {
+
+        UserRegistrationRequest request = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .password("ñ".repeat(40))
+                .build();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertThat((String) message).contains("72 bytes"));
+        verify(registerUserPort, times(0)).registerUser(any());
     }
 
     @Test
@@ -104,6 +274,7 @@ class UserControllerTest {
                 .baseSalary(new BigDecimal("5000000"))
                 .birthDate(LocalDate.of(1995, 11, 11))
                 .address("123 Main St")
+                .password("S3cure-password")
                 .build();
 
 
@@ -121,4 +292,161 @@ class UserControllerTest {
                 .jsonPath("$.status").isEqualTo(409)
                 .jsonPath("$.message").isEqualTo("Email " + request.getEmail() + " is already registered.");
     }
+
+    @Test
+    void shouldStreamOneResultLinePerRequestWhenRegisteringInBulk() {
+
+        UserRegistrationRequest valid = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+
+        UserRegistrationRequest invalid = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("not-an-email")
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+
+        when(registerUserPort.registerUsers(any()))
+                .thenReturn(Flux.just(RegistrationResult.conflict(valid.getEmail())));
+
+        webTestClient.post().uri("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(Flux.just(invalid, valid), UserRegistrationRequest.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UserBatchRegistrationResponse.class)
+                .isEqualTo(List.of(
+                        new UserBatchRegistrationResponse(400, "not-an-email", "'email': Email should be valid"),
+                        new UserBatchRegistrationResponse(409, valid.getEmail(), "Email " + valid.getEmail() + " is already registered.")
+                ));
+    }
+
+    @Test
+    void shouldReportMissingRequiredFieldsOfABulkRegistrationAsInvalid() {
+
+        UserRegistrationRequest incomplete = UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email("larry.ramirez11@outlook.com")
+                .baseSalary(new BigDecimal("5000000"))
+                .password("S3cure-password")
+                .build();
+
+        webTestClient.post().uri("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(Flux.just(incomplete), UserRegistrationRequest.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UserBatchRegistrationResponse.class)
+                .isEqualTo(List.of(new UserBatchRegistrationResponse(400, incomplete.getEmail(),
+                        "'address': Address cannot be null, 'birthDate': Birth date cannot be null")));
+
+        verify(registerUserPort, never()).registerUsers(any());
+    }
+
+    @Test
+    void shouldReturnUserWhenFoundById() {
+
+        User user = new User(7L, "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), null);
+
+        when(findUserPort.findById(7L)).thenReturn(Mono.just(user));
+
+        webTestClient.get().uri("/api/v1/users/7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .isEqualTo(UserResponse.fromDomain(user));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenNoUserHasTheEmail() {
+
+        when(findUserPort.findByEmail("unknown@example.com"))
+                .thenReturn(Mono.error(new UserNotFoundException("User with email unknown@example.com was not found.")));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/v1/users").queryParam("email", "unknown@example.com").build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("User with email unknown@example.com was not found.");
+    }
+
+    @Test
+    void shouldReturnPageWithNextCursorWhenListingUsers() {
+
+        User user = new User(7L, "Larry", "Ramirez", "larry.ramirez11@outlook.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), null);
+
+        when(findUserPort.listUsers(null, 1)).thenReturn(Mono.just(new UserPage(List.of(user), 7L)));
+
+        webTestClient.get().uri("/api/v1/users?limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPageResponse.class)
+                .isEqualTo(new UserPageResponse(List.of(UserResponse.fromDomain(user)), 7L));
+    }
+
+    @Test
+    void shouldStreamUsersAsNdjsonWhenRequested() {
+
+        User first = new User(1L, "Larry", "Ramirez", "first@example.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), null);
+        User second = new User(2L, "Larry", "Ramirez", "second@example.com", "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), null);
+
+        when(findUserPort.streamUsers(null)).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(UserResponse.class)
+                .isEqualTo(List.of(UserResponse.fromDomain(first), UserResponse.fromDomain(second)));
+    }
+
+    @Test
+    void shouldDefaultToJsonPageWhenNoMediaTypeIsRequested() {
+
+        when(findUserPort.listUsers(null, 100)).thenReturn(Mono.just(new UserPage(List.of(), null)));
+
+        webTestClient.get().uri("/api/v1/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.users").isEmpty()
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    private static UserRegistrationRequest registrationRequest(String email) {
+        return UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email(email)
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+    }
+
+    private double validationFailures() {
+        return meterRegistry.get("registration.validation.failures").tag("path", "single").counter().count();
+    }
 }
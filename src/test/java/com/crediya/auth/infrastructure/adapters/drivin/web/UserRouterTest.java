@@ -0,0 +1,264 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web;
+
+import com.crediya.auth.application.exceptions.EmailAlreadyExistsException;
+import com.crediya.auth.application.exceptions.UserNotFoundException;
+import com.crediya.auth.application.ports.in.FindUserPort;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.application.ports.in.LoginPort;
+import com.crediya.auth.application.ports.in.RegisterUserPort;
+import com.crediya.auth.application.ports.in.RegistrationResult;
+import com.crediya.auth.application.ports.in.UserPage;
+import com.crediya.auth.domain.model.User;
+import com.crediya.auth.infrastructure.adapters.drivin.export.UserExporter;
+import com.crediya.auth.infrastructure.adapters.drivin.imports.UserImportService;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserBatchRegistrationResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserPageResponse;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the functional user API selected with {@code crediya.web.api-style=functional}, checking it serves
+ * the same contract as the {@link UserController}.
+ */
+@WebFluxTest(properties = "crediya.web.api-style=functional")
+@Import({UserRouter.class, SimpleMeterRegistry.class})
+class UserRouterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockBean
+    private RegisterUserPort registerUserPort;
+
+    @MockBean
+    private FindUserPort findUserPort;
+
+    @MockBean
+    private LoginPort loginPort;
+
+    @MockBean
+    private IntrospectTokenPort introspectTokenPort;
+
+    @MockBean
+    private UserImportService userImportService;
+
+    @MockBean
+    private UserExporter userExporter;
+
+    @Test
+    void shouldReplaceTheAnnotatedController() {
+        assertThat(context.getBeansOfType(UserController.class)).isEmpty();
+        assertThat(context.getBeansOfType(UserHandler.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldReturnCreatedWhenUserIsRegisteredSuccessfully() {
+
+        UserRegistrationRequest request = registrationRequest("larry.ramirez11@outlook.com");
+        when(registerUserPort.registerUser(any())).thenReturn(Mono.just(newUser(request)));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("larry.ramirez11@outlook.com")
+                .jsonPath("$.message").isEqualTo("User registered successfully.");
+    }
+
+    @Test
+    void shouldReturnBadRequestWithEveryViolationWhenRequestIsInvalid() {
+
+        UserRegistrationRequest request = registrationRequest("not-an-email");
+        request.setFirstName("");
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("'email': Email should be valid, 'firstName': First name cannot be blank");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBodyIsNotJson() {
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\": ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    void shouldReturnConflictWhenEmailAlreadyExists() {
+
+        UserRegistrationRequest request = registrationRequest("larry.ramirez11@outlook.com");
+        when(registerUserPort.registerUser(any()))
+                .thenReturn(Mono.error(new EmailAlreadyExistsException("Email larry.ramirez11@outlook.com is already registered.")));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409)
+                .jsonPath("$.message").isEqualTo("Email larry.ramirez11@outlook.com is already registered.");
+    }
+
+    @Test
+    void shouldReplayTheResponseForARetryWithTheSameIdempotencyKey() {
+
+        UserRegistrationRequest request = registrationRequest("idempotent.created@outlook.com");
+        when(registerUserPort.registerUser(any())).thenReturn(Mono.just(newUser(request)));
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "created-key")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist("Idempotent-Replayed");
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "created-key")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true");
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "created-key")
+                .bodyValue(registrationRequest("another.request@outlook.com"))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        verify(registerUserPort, times(1)).registerUser(any());
+    }
+
+    @Test
+    void shouldStreamOneResultLinePerRequestWhenRegisteringInBulk() {
+
+        UserRegistrationRequest valid = registrationRequest("larry.ramirez11@outlook.com");
+        UserRegistrationRequest invalid = registrationRequest("not-an-email");
+        when(registerUserPort.registerUsers(any()))
+                .thenReturn(Flux.just(RegistrationResult.conflict(valid.getEmail())));
+
+        webTestClient.post().uri("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(Flux.just(invalid, valid), UserRegistrationRequest.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UserBatchRegistrationResponse.class)
+                .isEqualTo(List.of(
+                        new UserBatchRegistrationResponse(400, "not-an-email", "'email': Email should be valid"),
+                        new UserBatchRegistrationResponse(409, valid.getEmail(), "Email " + valid.getEmail() + " is already registered.")
+                ));
+    }
+
+    @Test
+    void shouldReturnUserWhenFoundById() {
+
+        User user = existingUser(7L, "larry.ramirez11@outlook.com");
+        when(findUserPort.findById(7L)).thenReturn(Mono.just(user));
+
+        webTestClient.get().uri("/api/v1/users/7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .isEqualTo(UserResponse.fromDomain(user));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenNoUserHasTheEmail() {
+
+        when(findUserPort.findByEmail("unknown@example.com"))
+                .thenReturn(Mono.error(new UserNotFoundException("User with email unknown@example.com was not found.")));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/v1/users").queryParam("email", "unknown@example.com").build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("User with email unknown@example.com was not found.");
+    }
+
+    @Test
+    void shouldReturnPageWhenListingAndStreamWhenNdjsonIsRequested() {
+
+        User first = existingUser(1L, "first@example.com");
+        User second = existingUser(2L, "second@example.com");
+        when(findUserPort.listUsers(null, 100)).thenReturn(Mono.just(new UserPage(List.of(first), 1L)));
+        when(findUserPort.streamUsers(null)).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/v1/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(UserPageResponse.class)
+                .isEqualTo(new UserPageResponse(List.of(UserResponse.fromDomain(first)), 1L));
+
+        webTestClient.get().uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(UserResponse.class)
+                .isEqualTo(List.of(UserResponse.fromDomain(first), UserResponse.fromDomain(second)));
+    }
+
+    private static User newUser(UserRegistrationRequest request) {
+        return User.newUser(request.getFirstName(), request.getLastName(), request.getEmail(), null, null,
+                request.getBirthDate(), request.getAddress(), null, request.getBaseSalary());
+    }
+
+    private static User existingUser(Long id, String email) {
+        return new User(id, "Larry", "Ramirez", email, "123456789", "3001234567",
+                LocalDate.of(1995, 11, 11), "123 Main St", "APPLICANT", new BigDecimal("5000000"), null);
+    }
+
+    private static UserRegistrationRequest registrationRequest(String email) {
+        return UserRegistrationRequest.builder()
+                .firstName("Larry")
+                .lastName("Ramirez")
+                .email(email)
+                .baseSalary(new BigDecimal("5000000"))
+                .birthDate(LocalDate.of(1995, 11, 11))
+                .address("123 Main St")
+                .password("S3cure-password")
+                .build();
+    }
+}
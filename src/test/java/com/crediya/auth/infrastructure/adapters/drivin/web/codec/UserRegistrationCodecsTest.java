@@ -0,0 +1,149 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.codec;
+
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationRequest;
+import com.crediya.auth.infrastructure.adapters.drivin.web.dto.UserRegistrationResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Unit tests for the registration codecs, checking them against Jackson's databind codecs on the same input.
+ */
+class UserRegistrationCodecsTest {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(UserRegistrationRequest.class);
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(UserRegistrationResponse.class);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final UserRegistrationRequestDecoder decoder = new UserRegistrationRequestDecoder(objectMapper);
+    private final UserRegistrationResponseEncoder encoder = new UserRegistrationResponseEncoder(objectMapper);
+    private final Jackson2JsonDecoder jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+    private final Jackson2JsonEncoder jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void shouldOnlyHandleTheRegistrationTypes() {
+        assertThat(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(ResolvableType.forClass(UserRegistrationResponse.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(RESPONSE_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(REQUEST_TYPE, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void shouldDecodeEveryField() {
+        String json = """
+                {"firstName":"Juan","lastName":"Pérez","email":"juan.perez@email.com","identityNumber":"12345678",
+                 "phoneNumber":"+573001234567","birthDate":"1990-05-15","address":"Calle 123 #45-67","idRole":"USER",
+                 "baseSalary":3000000.50,"password":"S3cure-password","unknown":{"nested":[1,2]}}
+                """;
+
+        UserRegistrationRequest request = decode(decoder, json);
+
+        assertThat(request).isEqualTo(UserRegistrationRequest.builder()
+                .firstName("Juan")
+                .lastName("Pérez")
+                .email("juan.perez@email.com")
+                .identityNumber("12345678")
+                .phoneNumber("+573001234567")
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .address("Calle 123 #45-67")
+                .baseSalary(new BigDecimal("3000000.50"))
+                .password("S3cure-password")
+                .build());
+        assertThat(request).isEqualTo(decode(jacksonDecoder, json));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"firstName\":123,\"baseSalary\":\"3000000\",\"birthDate\":[1990,5,15]}",
+            "{\"birthDate\":\"1990-05-15T10:15:30\",\"email\":null}",
+            "{\"firstName\":\"\",\"baseSalary\":null}"
+    })
+    void shouldDecodeLikeJacksonWhenValuesNeedCoercion(String json) {
+        assertThat(decode(decoder, json)).isEqualTo(decode(jacksonDecoder, json));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"email\": ",
+            "{\"email\":\"a@b.com\",}",
+            "[{\"email\":\"a@b.com\"}]",
+            "{\"baseSalary\":\"lots\"}",
+            "{\"birthDate\":\"1990-13-45\"}",
+            "{\"firstName\":{\"nested\":true}}"
+    })
+    void shouldFailWithJacksonsMessageWhenBodyIsInvalid(String json) {
+        DecodingException expected = catchThrowableOfType(DecodingException.class, () -> decode(jacksonDecoder, json));
+
+        DecodingException actual = catchThrowableOfType(DecodingException.class, () -> decode(decoder, json));
+
+        assertThat(expected).isNotNull();
+        assertThat(actual).hasMessage(expected.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "juan.perez@email.com",
+            "quote\" backslash\\ slash/ tab\t newline\n bell\u0007 nul\u0000",
+            "acentos áéí ñ, euro €, emoji 😀"
+    })
+    void shouldEncodeLikeJackson(String email) {
+        UserRegistrationResponse response = new UserRegistrationResponse(email, "User registered successfully.");
+
+        assertThat(encode(encoder, response)).isEqualTo(encode(jacksonEncoder, response));
+    }
+
+    @Test
+    void shouldEncodeNullsLikeJackson() {
+        UserRegistrationResponse response = new UserRegistrationResponse(null, null);
+
+        assertThat(encode(encoder, response)).isEqualTo("{\"email\":null,\"message\":null}");
+    }
+
+    @Test
+    void shouldFallBackToJacksonWhenTheMapperWritesDifferently() {
+        ObjectMapper snakeCase = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        UserRegistrationResponse response = new UserRegistrationResponse("juan.perez@email.com", null);
+
+        String json = encode(new UserRegistrationResponseEncoder(snakeCase), response);
+
+        assertThat(json).isEqualTo(encode(new Jackson2JsonEncoder(snakeCase), response));
+    }
+
+    private UserRegistrationRequest decode(Jackson2JsonDecoder decoder, String json) {
+        DataBuffer buffer = bufferFactory.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return (UserRegistrationRequest) decoder.decode(buffer, REQUEST_TYPE, MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    private String encode(Jackson2JsonEncoder encoder, UserRegistrationResponse response) {
+        DataBuffer buffer = encoder.encodeValue(response, bufferFactory, RESPONSE_TYPE, MediaType.APPLICATION_JSON, Map.of());
+        try {
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+
+/**
+ * Unit tests for the RateLimitingFilter.
+ */
+class RateLimitingFilterTest {
+
+    private static final String REQUEST_JSON = "{\"nombre\":\"Larry\", \"email\" : \"larry.ramirez11@Outlook.com\",\"password\":\"S3cure-password\"}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitingFilter(new RateLimitProperties(true, 1024,
+                new RateLimitProperties.Limit(2, 1), new RateLimitProperties.Limit(3, 1), new RateLimitProperties.Limit(5, 1),
+                DataSize.ofBytes(1024)), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void shouldPassTheUnchangedBodyToTheController() {
+
+        AtomicReference<String> body = new AtomicReference<>();
+        WebFilterChain chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                .doOnNext(buffer -> {
+                    body.set(buffer.toString(StandardCharsets.UTF_8));
+                    DataBufferUtils.release(buffer);
+                })
+                .then();
+
+        StepVerifier.create(filter.filter(registration("10.0.0.1", REQUEST_JSON), chain)).verifyComplete();
+
+        assertEquals(REQUEST_JSON, body.get());
+    }
+
+    @Test
+    void shouldRejectAClientIpOverItsLimit() {
+
+        filter.filter(registration("10.0.0.1", REQUEST_JSON), exchange -> Mono.empty()).block();
+        filter.filter(registration("10.0.0.1", REQUEST_JSON), exchange -> Mono.empty()).block();
+        MockServerWebExchange rejected = registration("10.0.0.1", REQUEST_JSON);
+
+        StepVerifier.create(filter.filter(rejected, exchange -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("limit", "client_ip").counter().count());
+    }
+
+    @Test
+    void shouldRejectAnEmailDomainOverItsLimitAcrossClients() {
+
+        for (int i = 1; i <= 3; i++) {
+            filter.filter(registration("10.0.0." + i, REQUEST_JSON), exchange -> Mono.empty()).block();
+        }
+        MockServerWebExchange rejected = registration("10.0.0.4", REQUEST_JSON.replace("Outlook.com", "OUTLOOK.COM"));
+
+        StepVerifier.create(filter.filter(rejected, exchange -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("limit", "email_domain").counter().count());
+    }
+
+    @Test
+    void shouldRejectABodyLargerThanTheLimitWithoutBufferingIt() {
+
+        MockServerWebExchange rejected = registration("10.0.0.1", "{\"email\":\"a@x.com\",\"address\":\"" + "x".repeat(2048) + "\"}");
+
+        StepVerifier.create(filter.filter(rejected, exchange -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, rejected.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldChargeEachLineOfABatchAndThrottleALargeOne() {
+
+        AtomicInteger linesRead = new AtomicInteger();
+        WebFilterChain chain = exchange -> exchange.getRequest().getBody()
+                .doOnNext(buffer -> {
+                    linesRead.addAndGet(buffer.toString(StandardCharsets.UTF_8).split("\n").length);
+                    DataBufferUtils.release(buffer);
+                })
+                .then();
+        MockServerWebExchange small = batch("10.0.0.1", 3);
+
+        StepVerifier.create(filter.filter(small, chain)).verifyComplete();
+
+        assertNull(small.getResponse().getStatusCode());
+        assertEquals(3, linesRead.getAndSet(0));
+
+        MockServerWebExchange large = batch("10.0.0.1", 1000);
+
+        StepVerifier.create(filter.filter(large, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, large.getResponse().getStatusCode());
+        assertEquals("1", large.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(2, linesRead.get());
+        assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("limit", "batch_lines").counter().count());
+    }
+
+    @Test
+    void shouldNotLimitOtherEndpoints() {
+
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users/7")
+                    .remoteAddress(new InetSocketAddress("10.0.0.1", 5000)));
+
+            StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+            assertNull(exchange.getResponse().getStatusCode());
+        }
+    }
+
+    @Test
+    void shouldFindTheEmailDomainWithoutParsingTheDocument() {
+
+        assertEquals("outlook.com", RateLimitingFilter.emailDomain(buffer(REQUEST_JSON)));
+        assertEquals("x.com", RateLimitingFilter.emailDomain(buffer("{\"nombre\":\"email\",\"email\":\"a@x.com\"}")));
+        assertEquals("\\", RateLimitingFilter.emailDomain(buffer("{\"email\":\"a\\u0040x.com\"}")));
+        assertNull(RateLimitingFilter.emailDomain(buffer("{\"email\":null}")));
+        assertNull(RateLimitingFilter.emailDomain(buffer("{\"email\":\"not-an-email\"}")));
+        assertEquals("target.com", RateLimitingFilter.emailDomain(buffer("{\"x\":{\"email\":\"a@decoy.com\"},\"email\":\"v@target.com\"}")));
+        assertEquals("target.com", RateLimitingFilter.emailDomain(buffer("{\"email\":\"v@target.com\",\"x\":[{\"email\":\"a@decoy.com\"}]}")));
+        assertEquals("target.com", RateLimitingFilter.emailDomain(buffer("{\"email\":\"a@decoy.com\",\"email\":\"v@target.com\"}")));
+        assertEquals("target.com", RateLimitingFilter.emailDomain(buffer("{\"note\":\"\\\"email\\\":\\\"a@decoy.com\",\"email\":\"v@target.com\"}")));
+        assertNull(RateLimitingFilter.emailDomain(buffer("{\"x\":{\"email\":\"a@decoy.com\"}}")));
+    }
+
+    private static MockServerWebExchange registration(String clientIp, String json) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users")
+                .remoteAddress(new InetSocketAddress(clientIp, 5000))
+                .body(json));
+    }
+
+    private static MockServerWebExchange batch(String clientIp, int lines) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users/batch")
+                .remoteAddress(new InetSocketAddress(clientIp, 5000))
+                .body(Flux.range(0, lines).map(i -> buffer(REQUEST_JSON + "\n"))));
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import com.crediya.auth.application.exceptions.InvalidTokenException;
+import com.crediya.auth.application.ports.in.IntrospectTokenPort;
+import com.crediya.auth.domain.model.TokenClaims;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the TokenAuthenticationFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenAuthenticationFilterTest {
+
+    @Mock
+    private IntrospectTokenPort introspectTokenPort;
+
+    private TokenAuthenticationFilter filter;
+    private final TokenClaims claims = new TokenClaims(7L, "larry.ramirez11@outlook.com", "APPLICANT",
+            Instant.parse("2030-01-01T00:00:00Z"), Instant.parse("2030-01-01T01:00:00Z"));
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenAuthenticationFilter(introspectTokenPort, new ObjectMapper(),
+                new TokenAuthenticationProperties(List.of("/api/v1/users/**"), List.of("/api/v1/admin/**"), "ADMIN"));
+    }
+
+    @Test
+    void shouldLetRequestsToUnprotectedPathsThrough() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/login"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        assertNull(exchange.getResponse().getStatusCode());
+        verifyNoInteractions(introspectTokenPort);
+    }
+
+    @Test
+    void shouldProtectTheAdminEndpointsByDefault() {
+
+        TokenAuthenticationProperties defaults = new Binder(new MapConfigurationPropertySource())
+                .bindOrCreate("crediya.security.authentication", TokenAuthenticationProperties.class);
+        TokenAuthenticationFilter defaultFilter = new TokenAuthenticationFilter(introspectTokenPort, new ObjectMapper(), defaults);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/admin/user-exports"));
+
+        StepVerifier.create(defaultFilter.filter(exchange, ex -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(List.of("/api/v1/admin/**"), defaults.adminPaths());
+        assertEquals("ADMIN", defaults.adminRole());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/admin/user-imports", "/api/v1/admin/user-exports"})
+    void shouldForbidTheAdminEndpointsToTokensOfAnotherRole(String path) {
+
+        when(introspectTokenPort.introspect("applicant-token")).thenReturn(Mono.just(claims));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer applicant-token"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.FORBIDDEN, exchange.getResponse().getStatusCode());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"status\":403,\"message\":\"This operation requires the ADMIN role.\"}")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/admin/user-imports", "/api/v1/admin/user-exports"})
+    void shouldLetAdminTokensThroughToTheAdminEndpoints(String path) {
+
+        TokenClaims admin = new TokenClaims(1L, "admin@crediya.com", "ADMIN", claims.issuedAt(), claims.expiresAt());
+        when(introspectTokenPort.introspect("admin-token")).thenReturn(Mono.just(admin));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer admin-token"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        assertNull(exchange.getResponse().getStatusCode());
+        assertEquals(admin, exchange.getAttribute(TokenAuthenticationFilter.AUTHENTICATED_CLAIMS));
+    }
+
+    @Test
+    void shouldExposeTheClaimsOfAValidToken() {
+
+        when(introspectTokenPort.introspect("signed-token")).thenReturn(Mono.just(claims));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users/7")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer signed-token"));
+        WebFilterChain chain = ex -> Mono.deferContextual(context -> {
+            assertEquals(claims, context.get(TokenClaims.class));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(claims, exchange.getAttribute(TokenAuthenticationFilter.AUTHENTICATED_CLAIMS));
+    }
+
+    @Test
+    void shouldRejectRequestsWithoutAToken() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users/7"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("Bearer", exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    void shouldRejectRequestsWithAnInvalidToken() {
+
+        when(introspectTokenPort.introspect("forged-token")).thenReturn(Mono.error(new InvalidTokenException("Invalid access token signature.")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users/7")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer forged-token"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.error(new AssertionError("Chain must not run"))))
+                .verifyComplete();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"status\":401,\"message\":\"Invalid or expired access token.\"}")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,78 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+/**
+ * Unit tests for the TokenBuckets.
+ */
+class TokenBucketsTest {
+
+    @Test
+    void shouldAllowABurstUpToTheCapacity() {
+
+        TokenBuckets buckets = new TokenBuckets(1024, 3, 1);
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(1000, buckets.tryAcquire("10.0.0.1", 1));
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+
+        TokenBuckets buckets = new TokenBuckets(1024, 1, 4);
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(250, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(50, buckets.tryAcquire("10.0.0.1", 201));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 251));
+    }
+
+    @Test
+    void shouldNotRefillBeyondTheCapacity() {
+
+        TokenBuckets buckets = new TokenBuckets(1024, 2, 10);
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1_000_000));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1", 1_000_000));
+        assertEquals(100, buckets.tryAcquire("10.0.0.1", 1_000_000));
+    }
+
+    @Test
+    void shouldNeverHandOutMoreTokensThanTheCapacityUnderContention() throws InterruptedException {
+
+        TokenBuckets buckets = new TokenBuckets(1024, 100, 1);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (buckets.tryAcquire("10.0.0.1", 1) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    void shouldRejectCapacitiesThatDoNotFitTheSlot() {
+
+        assertThrows(IllegalArgumentException.class, () -> new TokenBuckets(1024, 10_000, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBuckets(1024, 10, 0));
+    }
+}
@@ -0,0 +1,105 @@
+package com.crediya.auth.infrastructure.adapters.drivin.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+/**
+ * Unit tests for the IdempotencyStore.
+ */
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties(true, 100, Duration.ofMinutes(5)),
+            new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    void shouldRunTheActionOnceAndReplayItsResponse() {
+
+        AtomicInteger executions = new AtomicInteger();
+
+        StepVerifier.create(store.execute("key", "request", () -> created(executions)))
+                .expectNextMatches(response -> response.status() == HttpStatus.CREATED && !response.replayed())
+                .verifyComplete();
+        StepVerifier.create(store.execute("key", "request", () -> created(executions)))
+                .expectNextMatches(response -> response.status() == HttpStatus.CREATED && response.replayed())
+                .verifyComplete();
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldMakeConcurrentRequestsWithTheSameKeyWaitForTheFirst() {
+
+        AtomicInteger executions = new AtomicInteger();
+
+        List<IdempotentResponse> responses = Flux.range(0, 16)
+                .flatMap(i -> store.execute("key", "request", () -> created(executions).delayElement(Duration.ofMillis(50)))
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertEquals(1, executions.get());
+        assertEquals(16, responses.size());
+        assertEquals(15, responses.stream().filter(IdempotentResponse::replayed).count());
+    }
+
+    @Test
+    void shouldReleaseTheKeyWhenTheActionFails() {
+
+        AtomicInteger executions = new AtomicInteger();
+
+        StepVerifier.create(store.execute("key", "request", () -> {
+                    executions.incrementAndGet();
+                    return Mono.error(new IllegalStateException("Database unavailable"));
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(store.execute("key", "request", () -> created(executions)))
+                .expectNextMatches(response -> !response.replayed())
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void shouldRejectAKeyReusedForAnotherRequest() {
+
+        AtomicInteger executions = new AtomicInteger();
+        store.execute("key", "request", () -> created(executions)).block();
+
+        StepVerifier.create(store.execute("key", "another request", () -> created(executions)))
+                .expectError(InvalidIdempotencyKeyException.class)
+                .verify();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldAlwaysRunTheActionWithoutAKey() {
+
+        AtomicInteger executions = new AtomicInteger();
+
+        store.execute(null, "request", () -> created(executions)).block();
+        store.execute(null, "request", () -> created(executions)).block();
+
+        assertEquals(2, executions.get());
+    }
+
+    private static Mono<IdempotentResponse> created(AtomicInteger executions) {
+        return Mono.fromSupplier(() -> {
+            executions.incrementAndGet();
+            return IdempotentResponse.of(HttpStatus.CREATED, "created");
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the PiiMaskingConverter.
+ */
+class PiiMaskingConverterTest {
+
+    @Test
+    void shouldMaskEmails() {
+        assertThat(PiiMaskingConverter.mask("Successfully registered user with email: larry.ramirez11@outlook.com"))
+                .isEqualTo("Successfully registered user with email: l***@outlook.com");
+        assertThat(PiiMaskingConverter.mask("Emails a@b.co and juan+test@mail.example.org."))
+                .isEqualTo("Emails a***@b.co and j***@mail.example.org.");
+    }
+
+    @Test
+    void shouldMaskIdentityAndPhoneNumbersKeepingTheLastFourDigits() {
+        assertThat(PiiMaskingConverter.mask("Identity 123456789, phone 3001234567."))
+                .isEqualTo("Identity *****6789, phone ******4567.");
+    }
+
+    @Test
+    void shouldLeaveOtherNumbersAlone() {
+        String message = "Imported 12345 rows in 1500.250000 ms on 2026-10-18, order ABC1234567, retry 3, port 8080, uuid 123456789-abcd";
+
+        assertThat(PiiMaskingConverter.mask(message)).isEqualTo(message);
+        assertThat(PiiMaskingConverter.mask("")).isEmpty();
+        assertThat(PiiMaskingConverter.mask(null)).isNull();
+    }
+}
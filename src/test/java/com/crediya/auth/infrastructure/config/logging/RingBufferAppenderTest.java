@@ -0,0 +1,103 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the RingBufferAppender, delivering events to an attached appender that records them and can be
+ * held back to fill the buffer.
+ */
+class RingBufferAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger logger = loggerContext.getLogger("com.crediya.auth.test");
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstEventTaken = new CountDownLatch(1);
+    private final List<ILoggingEvent> delivered = new CopyOnWriteArrayList<>();
+
+    private RingBufferAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> recording = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                firstEventTaken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.add(event);
+            }
+        };
+        recording.setContext(loggerContext);
+        recording.start();
+        appender = new RingBufferAppender();
+        appender.setContext(loggerContext);
+        appender.setName("ASYNC");
+        appender.setQueueSize(8);
+        appender.setDiscardingThreshold(2);
+        appender.addAppender(recording);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderFromItsOwnThread() throws InterruptedException {
+        release.countDown();
+
+        appender.doAppend(event(Level.INFO, "first"));
+        appender.doAppend(event(Level.INFO, "second"));
+        appender.stop();
+
+        assertThat(delivered).extracting(ILoggingEvent::getFormattedMessage).containsExactly("first", "second");
+        assertThat(delivered).extracting(ILoggingEvent::getThreadName).containsOnly(Thread.currentThread().getName());
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldDropInfoEventsFirstAndCountThemWhenTheBufferFillsUp() throws InterruptedException {
+        appender.doAppend(event(Level.INFO, "taken"));
+        assertThat(firstEventTaken.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.INFO, "info " + i));
+        }
+        for (int i = 0; i < 4; i++) {
+            appender.doAppend(event(Level.ERROR, "error " + i));
+        }
+
+        assertThat(appender.getQueuedCount()).isEqualTo(8);
+        assertThat(appender.getDroppedCount()).isEqualTo(4);
+        release.countDown();
+        appender.stop();
+        assertThat(delivered).extracting(ILoggingEvent::getFormattedMessage).containsExactly("taken",
+                "info 0", "info 1", "info 2", "info 3", "info 4", "info 5", "error 0", "error 1");
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+}
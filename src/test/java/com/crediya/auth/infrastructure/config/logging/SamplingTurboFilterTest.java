@@ -0,0 +1,61 @@
+package com.crediya.auth.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the SamplingTurboFilter.
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(loggerContext);
+        filter.setCategories("com.crediya.auth.web=10, com.crediya.auth.web.admin=1, com.crediya.auth.application=bad");
+        filter.start();
+    }
+
+    @Test
+    void shouldKeepOneInEveryNInfoEventsOfASampledCategory() {
+        long kept = IntStream.range(0, 100).filter(i -> decide("com.crediya.auth.web.UserController", Level.INFO, null) == FilterReply.NEUTRAL).count();
+
+        assertThat(kept).isEqualTo(10);
+        assertThat(filter.getSampledOutCount()).isEqualTo(90);
+    }
+
+    @Test
+    void shouldUseTheLongestMatchingCategory() {
+        assertThat(IntStream.range(0, 10).mapToObj(i -> decide("com.crediya.auth.web.admin.UserExportController", Level.INFO, null)))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(IntStream.range(0, 10).mapToObj(i -> decide("com.crediya.auth.webhooks.Dispatcher", Level.INFO, null)))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(IntStream.range(0, 10).mapToObj(i -> decide("com.crediya.auth.application.LoginUseCase", Level.INFO, null)))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(loggerContext.getStatusManager().getCopyOfStatusList()).anyMatch(status -> status.getMessage().contains("application=bad"));
+    }
+
+    @Test
+    void shouldAlwaysLetWarningsAndFailuresThrough() {
+        assertThat(IntStream.range(0, 10).mapToObj(i -> decide("com.crediya.auth.web.UserController", Level.WARN, null)))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(IntStream.range(0, 10).mapToObj(i -> decide("com.crediya.auth.web.UserController", Level.INFO, new IllegalStateException())))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(filter.getSampledOutCount()).isZero();
+    }
+
+    private FilterReply decide(String loggerName, Level level, Throwable t) {
+        Logger logger = loggerContext.getLogger(loggerName);
+        return filter.decide(null, logger, level, "Registered user {}", new Object[]{"user"}, t);
+    }
+}